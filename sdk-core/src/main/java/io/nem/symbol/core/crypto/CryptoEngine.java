@@ -14,6 +14,9 @@
  * limitations under the License.
  */
 package io.nem.symbol.core.crypto;
+
+import java.util.List;
+
 /** Represents a cryptographic engine that is a factory of crypto-providers. */
 public interface CryptoEngine {
 
@@ -55,4 +58,34 @@ public interface CryptoEngine {
    * @return The key analyzer.
    */
   KeyAnalyzer createKeyAnalyzer();
+
+  /**
+   * Verifies many signatures, each one with its own signer. Engines can verify the whole batch at
+   * once, the default implementation verifies each signature with a {@link DsaSigner}.
+   *
+   * <p>A signature that cannot be verified, for example because its public key is not a point of
+   * the curve, is reported as invalid instead of failing the whole batch.
+   *
+   * <p>Engines verifying the whole batch at once may use the cofactored verification equation. A
+   * signature that only differs from a valid one by a small order component can then be reported
+   * as valid while {@link DsaSigner#verify} rejects it. Signers never produce such signatures, use
+   * {@link DsaSigner#verify} when the result must be exactly the one of the single verification.
+   *
+   * @param items the signatures to verify.
+   * @return the verification result of each item, in the same order.
+   */
+  default boolean[] verifyBatch(final List<SignedData> items) {
+    final boolean[] results = new boolean[items.size()];
+    for (int i = 0; i < results.length; i++) {
+      final SignedData item = items.get(i);
+      try {
+        results[i] =
+            createDsaSigner(KeyPair.onlyPublic(item.getPublicKey(), this))
+                .verify(item.getData(), item.getSignature());
+      } catch (IllegalArgumentException e) {
+        results[i] = false;
+      }
+    }
+    return results;
+  }
 }
@@ -16,15 +16,30 @@
 package io.nem.symbol.core.crypto;
 
 import io.nem.symbol.core.crypto.ed25519.Ed25519CryptoEngine;
+import io.nem.symbol.core.crypto.ed25519.Ed25519JcaCryptoEngine;
+import io.nem.symbol.core.crypto.ed25519.Ed25519ScalarMultiplier;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519FixedBaseTable;
 
 /** Static class that exposes crypto engines. */
 public class CryptoEngines {
 
   private static final CryptoEngine ED25519_ENGINE;
+  private static final CryptoEngine ED25519_IN_PLACE_ENGINE;
+  private static final CryptoEngine[] ED25519_FIXED_BASE_TABLE_ENGINES;
+  private static final CryptoEngine ED25519_JCA_ENGINE;
   private static final CryptoEngine DEFAULT_ENGINE;
 
   static {
     ED25519_ENGINE = new Ed25519CryptoEngine();
+    ED25519_IN_PLACE_ENGINE = new Ed25519CryptoEngine(Ed25519ScalarMultiplier.IN_PLACE);
+    ED25519_FIXED_BASE_TABLE_ENGINES = new CryptoEngine[Ed25519FixedBaseTable.MAX_WINDOW_BITS + 1];
+    for (int windowBits = Ed25519FixedBaseTable.MIN_WINDOW_BITS;
+        windowBits <= Ed25519FixedBaseTable.MAX_WINDOW_BITS;
+        windowBits++) {
+      ED25519_FIXED_BASE_TABLE_ENGINES[windowBits] =
+          new Ed25519CryptoEngine(Ed25519ScalarMultiplier.withFixedBaseTable(windowBits));
+    }
+    ED25519_JCA_ENGINE = new Ed25519JcaCryptoEngine();
     DEFAULT_ENGINE = ED25519_ENGINE;
   }
 
@@ -48,4 +63,56 @@ public class CryptoEngines {
   public static CryptoEngine ed25519Engine() {
     return ED25519_ENGINE;
   }
+
+  /**
+   * Gets the ED25519 crypto engine whose scalar multiplications work on mutable field elements. It
+   * produces the same keys and signatures as {@link #ed25519Engine()}.
+   *
+   * @return The ED25519 in place crypto engine.
+   */
+  public static CryptoEngine ed25519InPlaceEngine() {
+    return ED25519_IN_PLACE_ENGINE;
+  }
+
+  /**
+   * Gets the ED25519 in place crypto engine whose signatures and key derivations use a lookup
+   * table of the base point with {@link Ed25519FixedBaseTable#DEFAULT_WINDOW_BITS} bit windows.
+   *
+   * @return The ED25519 fixed base table crypto engine.
+   */
+  public static CryptoEngine ed25519FixedBaseTableEngine() {
+    return ed25519FixedBaseTableEngine(Ed25519FixedBaseTable.DEFAULT_WINDOW_BITS);
+  }
+
+  /**
+   * Gets the ED25519 in place crypto engine whose signatures and key derivations use a lookup
+   * table of the base point with windows of the given size. The table is built the first time the
+   * engine signs or derives a key and is shared by all the callers, see {@link
+   * Ed25519FixedBaseTable} for its memory cost.
+   *
+   * @param windowBits The number of bits of a window, between 4 and 8.
+   * @return The ED25519 fixed base table crypto engine.
+   */
+  public static CryptoEngine ed25519FixedBaseTableEngine(int windowBits) {
+    if (windowBits < Ed25519FixedBaseTable.MIN_WINDOW_BITS
+        || windowBits > Ed25519FixedBaseTable.MAX_WINDOW_BITS) {
+      throw new IllegalArgumentException(
+          "windowBits must be between "
+              + Ed25519FixedBaseTable.MIN_WINDOW_BITS
+              + " and "
+              + Ed25519FixedBaseTable.MAX_WINDOW_BITS);
+    }
+    return ED25519_FIXED_BASE_TABLE_ENGINES[windowBits];
+  }
+
+  /**
+   * Gets the ED25519 crypto engine that signs, verifies and derives public keys with the JCA
+   * Ed25519 implementation of the running JDK, falling back to {@link #ed25519Engine()} when there
+   * is none. Depending on the JDK it can be slower than the pure Java implementation.
+   *
+   * @return The ED25519 JCA crypto engine.
+   */
+  public static CryptoEngine ed25519JcaEngine() {
+    return ED25519_JCA_ENGINE;
+  }
 }
@@ -15,47 +15,55 @@
  */
 package io.nem.symbol.core.crypto;
 
-import io.nem.symbol.core.utils.ExceptionUtils;
-import java.security.MessageDigest;
 import java.security.Security;
 import org.bouncycastle.crypto.Digest;
+import org.bouncycastle.crypto.digests.KeccakDigest;
+import org.bouncycastle.crypto.digests.RIPEMD160Digest;
 import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.digests.SHA3Digest;
+import org.bouncycastle.crypto.digests.SHA512Digest;
 import org.bouncycastle.crypto.generators.HKDFBytesGenerator;
 import org.bouncycastle.crypto.params.HKDFParameters;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 
-/** Static class that exposes hash functions. */
+/**
+ * Static class that exposes hash functions. The BouncyCastle digests are used directly, without a
+ * provider lookup, and each thread reuses its own digest instances.
+ */
 public class Hashes {
 
-  /** The provider. */
-  private static final String BC = "BC";
-
-  /** The SHA256 algorithm. */
-  private static final String SHA_256 = "SHA256";
-
-  /** The SHA512 algorithm. */
-  private static final String SHA_512 = "SHA512";
+  /** SHA256 digests, one per thread. */
+  private static final ThreadLocal<Digest> SHA_256 = ThreadLocal.withInitial(SHA256Digest::new);
 
-  /** The RIPEMD_160 algorithm. */
-  private static final String RIPEMD_160 = "RIPEMD160";
+  /** SHA512 digests, one per thread. */
+  private static final ThreadLocal<Digest> SHA_512 = ThreadLocal.withInitial(SHA512Digest::new);
 
-  /** The SHA3-256 algorithm. */
-  private static final String SHA_3_256 = "SHA3-256";
+  /** RIPEMD160 digests, one per thread. */
+  private static final ThreadLocal<Digest> RIPEMD_160 =
+      ThreadLocal.withInitial(RIPEMD160Digest::new);
 
-  /** The SHA3-512 algorithm. */
-  private static final String SHA_3_512 = "SHA3-512";
-  /** The KECCAK-256 algorithm. */
-  private static final String KECCAK_256 = "KECCAK-256";
-  /** The KECCAK-512 algorithm. */
-  private static final String KECCAK_512 = "KECCAK-512";
+  /** SHA3-256 digests, one per thread. */
+  private static final ThreadLocal<Digest> SHA_3_256 =
+      ThreadLocal.withInitial(() -> new SHA3Digest(256));
 
-  /** Private constructor for this utility class. */
-  private Hashes() {}
+  /** SHA3-512 digests, one per thread. */
+  private static final ThreadLocal<Digest> SHA_3_512 =
+      ThreadLocal.withInitial(() -> new SHA3Digest(512));
+  /** KECCAK-256 digests, one per thread. */
+  private static final ThreadLocal<Digest> KECCAK_256 =
+      ThreadLocal.withInitial(() -> new KeccakDigest(256));
+  /** KECCAK-512 digests, one per thread. */
+  private static final ThreadLocal<Digest> KECCAK_512 =
+      ThreadLocal.withInitial(() -> new KeccakDigest(512));
 
   static {
+    // The digests don't need it, but loading this class has always registered the BC provider.
     Security.addProvider(new BouncyCastleProvider());
   }
 
+  /** Private constructor for this utility class. */
+  private Hashes() {}
+
   /**
    * Performs a SHA_3_256 hash of the concatenated inputs.
    *
@@ -148,18 +156,77 @@ public class Hashes {
     return hash(RIPEMD_160, hashedSha256);
   }
 
-  private static byte[] hash(final String algorithm, final byte[]... inputs) {
-    return ExceptionUtils.propagate(
-        () -> {
-          final MessageDigest digest = MessageDigest.getInstance(algorithm, BC);
+  /**
+   * Performs a SHA_3_256 hash of the concatenated inputs into the output buffer.
+   *
+   * @param output the buffer receiving the 32 bytes of the hash.
+   * @param outputOffset the offset of the hash in the buffer.
+   * @param inputs The byte arrays to concatenate and hash.
+   */
+  @SuppressWarnings("squid:S00100")
+  public static void sha3_256Into(
+      final byte[] output, final int outputOffset, final byte[]... inputs) {
+    hashInto(SHA_3_256.get(), output, outputOffset, inputs);
+  }
 
-          for (final byte[] input : inputs) {
-            digest.update(input);
-          }
+  /**
+   * Performs a SHA_512 hash of the concatenated inputs into the output buffer.
+   *
+   * @param output the buffer receiving the 64 bytes of the hash.
+   * @param outputOffset the offset of the hash in the buffer.
+   * @param inputs The byte arrays to concatenate and hash.
+   */
+  public static void sha512Into(
+      final byte[] output, final int outputOffset, final byte[]... inputs) {
+    hashInto(SHA_512.get(), output, outputOffset, inputs);
+  }
 
-          return digest.digest();
-        },
-        e -> new CryptoException(e.getMessage(), e));
+  /**
+   * Performs a RIPEMD_160 hash of the concatenated inputs into the output buffer.
+   *
+   * @param output the buffer receiving the 20 bytes of the hash.
+   * @param outputOffset the offset of the hash in the buffer.
+   * @param inputs The byte arrays to concatenate and hash.
+   */
+  public static void ripemd160Into(
+      final byte[] output, final int outputOffset, final byte[]... inputs) {
+    hashInto(RIPEMD_160.get(), output, outputOffset, inputs);
+  }
+
+  /**
+   * Performs a KECCAK_256 hash of the concatenated inputs into the output buffer.
+   *
+   * @param output the buffer receiving the 32 bytes of the hash.
+   * @param outputOffset the offset of the hash in the buffer.
+   * @param inputs The byte arrays to concatenate and hash.
+   */
+  public static void keccak256Into(
+      final byte[] output, final int outputOffset, final byte[]... inputs) {
+    hashInto(KECCAK_256.get(), output, outputOffset, inputs);
+  }
+
+  private static byte[] hash(final ThreadLocal<Digest> digests, final byte[]... inputs) {
+    final Digest digest = digests.get();
+    final byte[] output = new byte[digest.getDigestSize()];
+    hashInto(digest, output, 0, inputs);
+    return output;
+  }
+
+  /**
+   * The digests are reused by the calling thread, they are reset before use so a digest left in a
+   * dirty state by a failed call does not corrupt the next hash.
+   */
+  private static void hashInto(
+      final Digest digest, final byte[] output, final int outputOffset, final byte[]... inputs) {
+    if (outputOffset < 0 || output.length - outputOffset < digest.getDigestSize()) {
+      throw new CryptoException(
+          "The output buffer cannot hold the " + digest.getDigestSize() + " bytes of the hash");
+    }
+    digest.reset();
+    for (final byte[] input : inputs) {
+      digest.update(input, 0, input.length);
+    }
+    digest.doFinal(output, outputOffset);
   }
 
   /**
@@ -15,55 +15,74 @@
  */
 package io.nem.symbol.core.crypto;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import org.apache.commons.lang3.Validate;
+import org.bouncycastle.crypto.digests.SHA3Digest;
 
-/** Merkle hash builder. */
+/**
+ * Merkle hash builder.
+ *
+ * <p>The hashes are kept in a flat array that is reduced in place, one level at a time, with a
+ * single reused SHA3-256 digest. Hashes can be added after the root has been requested.
+ */
 public class MerkleHashBuilder {
 
-  private final List<byte[]> hashes;
+  /** The size of the hashes. */
+  public static final int HASH_SIZE = 32;
 
-  /** Constructor. */
-  public MerkleHashBuilder() {
-    this.hashes = new ArrayList<>();
-  }
+  private static final int DEFAULT_CAPACITY = 8;
 
-  private byte[] getRootHash(List<byte[]> hashes) {
-    if (hashes.isEmpty()) {
-      return new byte[32];
-    }
+  private final SHA3Digest digest = new SHA3Digest(256);
 
-    // build the merkle tree
-    int numRemainingHashes = hashes.size();
+  /** The added hashes. */
+  private byte[] hashes;
 
-    Hasher hasher = Hashes::sha3_256;
-    while (numRemainingHashes > 1) {
+  /** The working copy of the hashes reduced when calculating the root. */
+  private byte[] level;
 
-      for (int i = 0; i < numRemainingHashes; i += 2) {
-        if (i + 1 < numRemainingHashes) {
-          hashes.add(i / 2, hasher.hash(hashes.get(i), hashes.get(i + 1)));
-          continue;
-        }
+  private int size;
 
-        // if there is an odd number of hashes, duplicate the last one
-        hashes.add(i / 2, hasher.hash(hashes.get(i), hashes.get(i)));
-        ++numRemainingHashes;
-      }
-
-      numRemainingHashes /= 2;
-    }
+  /** Constructor. */
+  public MerkleHashBuilder() {
+    this(DEFAULT_CAPACITY);
+  }
 
-    return hashes.get(0);
+  /**
+   * Constructor.
+   *
+   * @param expectedSize the expected number of hashes, used to pre-size the tree.
+   */
+  public MerkleHashBuilder(int expectedSize) {
+    Validate.isTrue(expectedSize >= 0, "expectedSize must not be negative");
+    this.hashes = new byte[Math.max(expectedSize, 1) * HASH_SIZE];
   }
 
   /**
    * Get the merkle tree root hash.
    *
+   * <p>Each level hashes every hash with the following one, the last hash of an odd level is
+   * hashed with itself.
+   *
    * @return Root hash.
    */
   public byte[] getRootHash() {
-    // build the merkle root
-    return getRootHash(hashes);
+    if (size == 0) {
+      return new byte[HASH_SIZE];
+    }
+    if (level == null || level.length < hashes.length) {
+      level = new byte[hashes.length];
+    }
+    System.arraycopy(hashes, 0, level, 0, size * HASH_SIZE);
+    int numRemainingHashes = size;
+    while (numRemainingHashes > 1) {
+      int numParents = (numRemainingHashes + 1) / 2;
+      for (int i = 0; i < numParents; i++) {
+        int next = 2 * i + 1 < numRemainingHashes ? i + 1 : i;
+        hash(level, i, next, i);
+      }
+      numRemainingHashes = numParents;
+    }
+    return Arrays.copyOf(level, HASH_SIZE);
   }
 
   /**
@@ -72,6 +91,31 @@ public class MerkleHashBuilder {
    * @param hash Hash to add.
    */
   public void update(final byte[] hash) {
-    hashes.add(hash);
+    Validate.notNull(hash, "hash must not be null");
+    Validate.isTrue(hash.length == HASH_SIZE, "hash must be " + HASH_SIZE + " bytes");
+    if ((size + 1) * HASH_SIZE > hashes.length) {
+      hashes = Arrays.copyOf(hashes, hashes.length * 2);
+    }
+    System.arraycopy(hash, 0, hashes, size * HASH_SIZE, HASH_SIZE);
+    size++;
+  }
+
+  /** @return the number of added hashes. */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * Hashes two nodes of a level into a target node. The target can be one of the inputs.
+   *
+   * @param nodes the flat array of nodes.
+   * @param left the index of the left node.
+   * @param right the index of the right node.
+   * @param target the index of the node receiving the hash.
+   */
+  private void hash(byte[] nodes, int left, int right, int target) {
+    digest.update(nodes, left * HASH_SIZE, HASH_SIZE);
+    digest.update(nodes, right * HASH_SIZE, HASH_SIZE);
+    digest.doFinal(nodes, target * HASH_SIZE);
   }
 }
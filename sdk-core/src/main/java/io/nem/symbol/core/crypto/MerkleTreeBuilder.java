@@ -0,0 +1,195 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.commons.lang3.Validate;
+import org.bouncycastle.crypto.digests.SHA3Digest;
+
+/**
+ * Incremental binary merkle tree builder following the catapult layout: each level hashes the
+ * pairs of consecutive nodes and the last node of an odd level is paired with itself. It can
+ * calculate the root and the merkle path of any leaf at any time.
+ *
+ * <p>The leaves are kept in a flat pre-sized array that is reduced in place with a single reused
+ * SHA3-256 digest. Builders are not thread safe.
+ */
+public class MerkleTreeBuilder {
+
+  /** The size of the hashes. */
+  public static final int HASH_SIZE = MerkleHashBuilder.HASH_SIZE;
+
+  private static final int DEFAULT_CAPACITY = 8;
+
+  private final SHA3Digest digest = new SHA3Digest(256);
+
+  /** The added leaves. */
+  private byte[] leaves;
+
+  /** The working copy of the leaves reduced when calculating the root or a path. */
+  private byte[] level;
+
+  private int size;
+
+  /** Constructor. */
+  public MerkleTreeBuilder() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param expectedSize the expected number of leaves, used to pre-size the tree.
+   */
+  public MerkleTreeBuilder(int expectedSize) {
+    Validate.isTrue(expectedSize >= 0, "expectedSize must not be negative");
+    this.leaves = new byte[Math.max(expectedSize, 1) * HASH_SIZE];
+  }
+
+  /**
+   * Appends a leaf to the tree.
+   *
+   * @param hash the 32 bytes hash of the leaf.
+   */
+  public void update(final byte[] hash) {
+    Validate.notNull(hash, "hash must not be null");
+    Validate.isTrue(hash.length == HASH_SIZE, "hash must be " + HASH_SIZE + " bytes");
+    if ((size + 1) * HASH_SIZE > leaves.length) {
+      leaves = Arrays.copyOf(leaves, leaves.length * 2);
+    }
+    System.arraycopy(hash, 0, leaves, size * HASH_SIZE, HASH_SIZE);
+    size++;
+  }
+
+  /** @return the number of leaves. */
+  public int getSize() {
+    return size;
+  }
+
+  /** @return the root hash of the current leaves, 32 zero bytes when there are no leaves. */
+  public byte[] getRootHash() {
+    if (size == 0) {
+      return new byte[HASH_SIZE];
+    }
+    reduce(-1, null);
+    return Arrays.copyOf(level, HASH_SIZE);
+  }
+
+  /**
+   * Calculates the merkle path of a leaf, from the leaf level up to the root.
+   *
+   * @param index the index of the leaf.
+   * @return the sibling nodes required to recalculate the root from the leaf.
+   */
+  public List<PathItem> getMerklePath(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Invalid leaf index " + index);
+    }
+    List<PathItem> path = new ArrayList<>();
+    reduce(index, path);
+    return path;
+  }
+
+  /**
+   * Recalculates the root from a leaf and its merkle path and compares it with the expected one.
+   *
+   * @param leaf the hash of the leaf.
+   * @param path the merkle path of the leaf.
+   * @param root the expected root hash.
+   * @return if the path proves that the leaf belongs to the tree.
+   */
+  public static boolean verifyPath(byte[] leaf, List<PathItem> path, byte[] root) {
+    if (leaf.length != HASH_SIZE) {
+      return false;
+    }
+    SHA3Digest digest = new SHA3Digest(256);
+    byte[] node = leaf.clone();
+    for (PathItem item : path) {
+      byte[] left = item.isLeft() ? item.hash : node;
+      byte[] right = item.isLeft() ? node : item.hash;
+      digest.update(left, 0, HASH_SIZE);
+      digest.update(right, 0, HASH_SIZE);
+      digest.doFinal(node, 0);
+    }
+    return Arrays.equals(node, root);
+  }
+
+  /**
+   * Reduces a working copy of the leaves down to the root, the root ends at the start of {@link
+   * #level}.
+   *
+   * @param index the leaf whose path is collected or -1.
+   * @param path the list receiving the path or null.
+   */
+  private void reduce(int index, List<PathItem> path) {
+    if (level == null || level.length < leaves.length) {
+      level = new byte[leaves.length];
+    }
+    System.arraycopy(leaves, 0, level, 0, size * HASH_SIZE);
+    int numRemainingHashes = size;
+    while (numRemainingHashes > 1) {
+      if (path != null) {
+        int sibling = Math.min(index ^ 1, numRemainingHashes - 1);
+        int offset = sibling * HASH_SIZE;
+        path.add(
+            new PathItem(sibling < index, Arrays.copyOfRange(level, offset, offset + HASH_SIZE)));
+        index /= 2;
+      }
+      int numParents = (numRemainingHashes + 1) / 2;
+      for (int i = 0; i < numParents; i++) {
+        int left = 2 * i;
+        int right = left + 1 < numRemainingHashes ? left + 1 : left;
+        digest.update(level, left * HASH_SIZE, HASH_SIZE);
+        digest.update(level, right * HASH_SIZE, HASH_SIZE);
+        digest.doFinal(level, i * HASH_SIZE);
+      }
+      numRemainingHashes = numParents;
+    }
+  }
+
+  /** A sibling node of a merkle path. */
+  public static class PathItem {
+
+    private final boolean left;
+
+    private final byte[] hash;
+
+    /**
+     * Constructor.
+     *
+     * @param left if the sibling is hashed on the left of the node.
+     * @param hash the hash of the sibling.
+     */
+    public PathItem(boolean left, byte[] hash) {
+      Validate.notNull(hash, "hash must not be null");
+      Validate.isTrue(hash.length == HASH_SIZE, "hash must be " + HASH_SIZE + " bytes");
+      this.left = left;
+      this.hash = hash.clone();
+    }
+
+    /** @return if the sibling is hashed on the left of the node. */
+    public boolean isLeft() {
+      return left;
+    }
+
+    /** @return the hash of the sibling. */
+    public byte[] getHash() {
+      return hash.clone();
+    }
+  }
+}
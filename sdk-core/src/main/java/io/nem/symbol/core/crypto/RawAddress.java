@@ -15,7 +15,6 @@
  */
 package io.nem.symbol.core.crypto;
 
-import io.nem.symbol.core.utils.ArrayUtils;
 import io.nem.symbol.core.utils.Base32Encoder;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.network.NetworkType;
@@ -26,6 +25,9 @@ public class RawAddress {
 
   public static final int NUM_CHECKSUM_BYTES = 3;
 
+  /** The size of the raw address, network type, ripemd160 hash and checksum. */
+  public static final int RAW_ADDRESS_SIZE = 24;
+
   /** Private utility class constructor. */
   private RawAddress() {
     // private utility class constructor.
@@ -40,41 +42,56 @@ public class RawAddress {
    * @return an encoded address that can be used to identify accounts.
    */
   public static String generateAddress(final String publicKey, final NetworkType networkType) {
-
-    byte networkTypeValue = (byte) networkType.getValue();
-    // step 1: sha3 hash of the public key
     byte[] publicKeyBytes;
     try {
       publicKeyBytes = ConvertUtils.fromHexToBytes(publicKey);
     } catch (Exception e) {
       throw new IllegalArgumentException("Public key is not valid");
     }
-    final byte[] publicKeyHash = Hashes.sha3_256(publicKeyBytes);
-
-    // step 2: ripemd160 hash of (1)
-    final byte[] ripemd160StepOneHash = Hashes.ripemd160(publicKeyHash);
-
-    // step 3: add network type byte in front of (2)
-    final byte[] versionPrefixedRipemd160Hash =
-        ArrayUtils.concat(new byte[] {networkTypeValue}, ripemd160StepOneHash);
-
-    // step 4: get the checksum of (3)
-    final byte[] stepThreeChecksum = generateChecksum(versionPrefixedRipemd160Hash);
+    return toPlainAddress(generateAddressBytes(publicKeyBytes, networkType));
+  }
 
-    // step 5: concatenate (3) and (4)
-    final byte[] concatStepThreeAndStepSix =
-        ArrayUtils.concat(versionPrefixedRipemd160Hash, stepThreeChecksum);
+  /**
+   * This method generates the raw bytes of the address of a public key without any hex or Base32
+   * conversion. The hashes reuse the digests of the calling thread.
+   *
+   * @param publicKey the public key
+   * @param networkType the network type
+   * @return the {@link #RAW_ADDRESS_SIZE} bytes of the address.
+   */
+  public static byte[] generateAddressBytes(
+      final PublicKey publicKey, final NetworkType networkType) {
+    return generateAddressBytes(publicKey.getBytes(), networkType);
+  }
 
-    // step 6: base32 encode (5)
-    String base32 = Base32Encoder.getString(concatStepThreeAndStepSix);
+  /**
+   * Converts the raw bytes of an address to its plain Base32 representation.
+   *
+   * @param rawAddress the {@link #RAW_ADDRESS_SIZE} bytes of the address.
+   * @return the plain address.
+   */
+  public static String toPlainAddress(final byte[] rawAddress) {
+    // 24 bytes are 39 Base32 characters and one padding character.
+    String base32 = Base32Encoder.getString(rawAddress);
     return base32.substring(0, base32.length() - 1);
   }
 
-  private static byte[] generateChecksum(final byte[] input) {
-    // step 1: sha3 hash of (input
-    final byte[] stepThreeHash = Hashes.sha3_256(input);
+  private static byte[] generateAddressBytes(
+      final byte[] publicKeyBytes, final NetworkType networkType) {
+    final byte[] address = new byte[RAW_ADDRESS_SIZE];
+    final int checksumBegin = RAW_ADDRESS_SIZE - NUM_CHECKSUM_BYTES;
+
+    // step 1: sha3 hash of the public key
+    final byte[] publicKeyHash = new byte[32];
+    Hashes.sha3_256Into(publicKeyHash, 0, publicKeyBytes);
+
+    // step 2: network type byte followed by the ripemd160 hash of (1)
+    address[0] = (byte) networkType.getValue();
+    Hashes.ripemd160Into(address, 1, publicKeyHash);
 
-    // step 2: get the first X bytes of (1)
-    return Arrays.copyOfRange(stepThreeHash, 0, NUM_CHECKSUM_BYTES);
+    // step 3: the first bytes of the sha3 hash of (2) are the checksum
+    Hashes.sha3_256Into(publicKeyHash, 0, Arrays.copyOf(address, checksumBegin));
+    System.arraycopy(publicKeyHash, 0, address, checksumBegin, NUM_CHECKSUM_BYTES);
+    return address;
   }
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto;
+
+import org.apache.commons.lang3.Validate;
+
+/** A message, its signature and the public key of the signer, an item of a batch verification. */
+public class SignedData {
+
+  private final PublicKey publicKey;
+
+  private final byte[] data;
+
+  private final Signature signature;
+
+  /**
+   * Constructor.
+   *
+   * @param publicKey the public key of the signer.
+   * @param data the signed message.
+   * @param signature the signature.
+   */
+  public SignedData(PublicKey publicKey, byte[] data, Signature signature) {
+    Validate.notNull(publicKey, "publicKey must not be null");
+    Validate.notNull(data, "data must not be null");
+    Validate.notNull(signature, "signature must not be null");
+    this.publicKey = publicKey;
+    this.data = data;
+    this.signature = signature;
+  }
+
+  /** @return the public key of the signer. */
+  public PublicKey getPublicKey() {
+    return publicKey;
+  }
+
+  /** @return the signed message. */
+  public byte[] getData() {
+    return data;
+  }
+
+  /** @return the signature. */
+  public Signature getSignature() {
+    return signature;
+  }
+}
@@ -17,16 +17,22 @@ package io.nem.symbol.core.crypto.ed25519;
 
 import io.nem.symbol.core.crypto.CryptoException;
 import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.util.Arrays;
 import org.apache.commons.lang3.exception.ExceptionUtils;
-import org.bouncycastle.crypto.BlockCipher;
-import org.bouncycastle.crypto.CipherParameters;
 import org.bouncycastle.crypto.InvalidCipherTextException;
 import org.bouncycastle.crypto.engines.AESEngine;
 import org.bouncycastle.crypto.modes.GCMBlockCipher;
 import org.bouncycastle.crypto.params.KeyParameter;
 import org.bouncycastle.crypto.params.ParametersWithIV;
 
-/** AES/GSM/NoPadding encryption and decryption methods. Uses the BouncyCastle.org provider. */
+/**
+ * AES/GSM/NoPadding encryption and decryption methods. Uses the BouncyCastle.org provider.
+ *
+ * <p>Each thread reuses one encryption and one decryption cipher. When consecutive messages use
+ * the same key, the AES key schedule and the GHASH tables are not computed again. The ciphers keep
+ * the last key of the thread, call {@link #clear()} to drop them once the thread is done with its
+ * messages.
+ */
 public class AESGCM {
 
   /** The standard Initialisation Vector (IV) length (96 bits). */
@@ -41,6 +47,12 @@ public class AESGCM {
   /** The standard authentication tag length (16 bytes). */
   public static final int TAG_LENGTH = AUTH_TAG_BIT_LENGTH / 8;
 
+  private static final ThreadLocal<ThreadCipher> ENCRYPTION_CIPHERS =
+      ThreadLocal.withInitial(ThreadCipher::new);
+
+  private static final ThreadLocal<ThreadCipher> DECRYPTION_CIPHERS =
+      ThreadLocal.withInitial(ThreadCipher::new);
+
   /**
    * Generates a random 96 bit (12 byte) Initialisation Vector(IV) for use in AES-GCM encryption.
    *
@@ -53,42 +65,21 @@ public class AESGCM {
   }
 
   /**
-   * Creates a new AES/GCM/NoPadding cipher.
+   * Initialises the AES/GCM/NoPadding cipher of the current thread.
    *
+   * @param ciphers The encryption or decryption ciphers.
    * @param secretKey The AES key. Must not be {@code null}.
-   * @param forEncryption If {@code true} creates an encryption cipher, else creates a decryption
+   * @param forEncryption If {@code true} initialises an encryption cipher, else a decryption
    *     cipher.
    * @param iv The initialisation vector (IV). Must not be {@code null}.
    * @return The AES/GCM/NoPadding cipher.
    */
-  private static GCMBlockCipher createAESGCMCipher(
-      final byte[] secretKey, final boolean forEncryption, final byte[] iv) {
-
-    // Initialise AES cipher
-    BlockCipher cipher = createCipher(secretKey, forEncryption);
-
-    // Create GCM cipher with AES
-    GCMBlockCipher gcm = new GCMBlockCipher(cipher);
-
-    final KeyParameter keyParam = new KeyParameter(secretKey);
-    final CipherParameters params = new ParametersWithIV(keyParam, iv);
-    gcm.init(forEncryption, params);
-    return gcm;
-  }
-
-  /**
-   * Creates a new AES cipher.
-   *
-   * @param secretKey The AES key. Must not be {@code null}.
-   * @param forEncryption If {@code true} creates an AES encryption cipher, else creates an AES
-   *     decryption cipher.
-   * @return The AES cipher.
-   */
-  private static AESEngine createCipher(final byte[] secretKey, final boolean forEncryption) {
-    AESEngine cipher = new AESEngine();
-    CipherParameters cipherParams = new KeyParameter(secretKey);
-    cipher.init(forEncryption, cipherParams);
-    return cipher;
+  private static GCMBlockCipher initAESGCMCipher(
+      final ThreadLocal<ThreadCipher> ciphers,
+      final byte[] secretKey,
+      final boolean forEncryption,
+      final byte[] iv) {
+    return ciphers.get().init(secretKey, forEncryption, iv);
   }
 
   /**
@@ -104,7 +95,7 @@ public class AESGCM {
       final byte[] secretKey, final byte[] iv, final byte[] plainText) throws RuntimeException {
 
     // Initialise AES/GCM cipher for encryption
-    GCMBlockCipher cipher = createAESGCMCipher(secretKey, true, iv);
+    GCMBlockCipher cipher = initAESGCMCipher(ENCRYPTION_CIPHERS, secretKey, true, iv);
 
     // Prepare output buffer
     int outputLength = cipher.getOutputSize(plainText.length);
@@ -148,7 +139,7 @@ public class AESGCM {
       throws RuntimeException {
 
     // Initialise AES/GCM cipher for decryption
-    GCMBlockCipher cipher = createAESGCMCipher(secretKey, false, iv);
+    GCMBlockCipher cipher = initAESGCMCipher(DECRYPTION_CIPHERS, secretKey, false, iv);
 
     // Join cipher text and authentication tag to produce cipher input
     byte[] input = new byte[cipherText.length + authTag.length];
@@ -173,6 +164,43 @@ public class AESGCM {
     return output;
   }
 
+  /**
+   * Drops the ciphers of the current thread and the last key they were initialised with. The next
+   * message of the thread creates new ciphers.
+   */
+  public static void clear() {
+    ENCRYPTION_CIPHERS.remove();
+    DECRYPTION_CIPHERS.remove();
+  }
+
   /** Prevents public instantiation. */
   private AESGCM() {}
+
+  /** The cipher of a thread and the key and IV it was last initialised with. */
+  private static class ThreadCipher {
+
+    private GCMBlockCipher cipher = new GCMBlockCipher(new AESEngine());
+
+    private byte[] key;
+
+    private byte[] iv;
+
+    private GCMBlockCipher init(
+        final byte[] secretKey, final boolean forEncryption, final byte[] newIv) {
+      final boolean sameKey = Arrays.equals(this.key, secretKey);
+      if (forEncryption && sameKey && Arrays.equals(this.iv, newIv)) {
+        // GCM refuses to encrypt twice with the same key and IV on the same cipher.
+        this.cipher = new GCMBlockCipher(new AESEngine());
+        this.cipher.init(true, new ParametersWithIV(new KeyParameter(secretKey), newIv));
+      } else if (sameKey) {
+        // A null key keeps the key schedule and the GHASH tables of the previous message.
+        this.cipher.init(forEncryption, new ParametersWithIV(null, newIv));
+      } else {
+        this.cipher.init(forEncryption, new ParametersWithIV(new KeyParameter(secretKey), newIv));
+      }
+      this.key = secretKey.clone();
+      this.iv = newIv.clone();
+      return this.cipher;
+    }
+  }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Bounded, thread safe map of the Ed25519 caches. When the cache is full, the oldest entries are
+ * evicted first.
+ *
+ * <p>The values are computed outside of the map, two threads may compute the same value but only
+ * the first one is kept.
+ *
+ * @param <K> the type of the keys, they must not be modified once added.
+ * @param <V> the type of the values.
+ */
+class BoundedFifoCache<K, V> {
+
+  private final int capacity;
+
+  private final Map<K, V> values = new ConcurrentHashMap<>();
+
+  private final Queue<K> insertionOrder = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Creates a cache.
+   *
+   * @param capacity the maximum number of cached values.
+   */
+  BoundedFifoCache(int capacity) {
+    Validate.isTrue(capacity > 0, "capacity must be positive");
+    this.capacity = capacity;
+  }
+
+  /**
+   * @param key the key.
+   * @return the cached value or null.
+   */
+  V get(K key) {
+    return values.get(key);
+  }
+
+  /**
+   * Adds a value unless another thread already added one for the key, then evicts the oldest
+   * entries above the capacity.
+   *
+   * @param key the key.
+   * @param value the computed value.
+   * @return the cached value, the given one or the one added by another thread.
+   */
+  V putIfAbsent(K key, V value) {
+    V previous = values.putIfAbsent(key, value);
+    if (previous != null) {
+      return previous;
+    }
+    insertionOrder.add(key);
+    while (values.size() > capacity) {
+      K eldest = insertionOrder.poll();
+      if (eldest == null) {
+        break;
+      }
+      values.remove(eldest);
+    }
+    return value;
+  }
+
+  /** @return the number of cached values. */
+  int size() {
+    return values.size();
+  }
+
+  /** @return the maximum number of cached values. */
+  int getCapacity() {
+    return capacity;
+  }
+
+  /** Removes all the cached values. */
+  void clear() {
+    insertionOrder.clear();
+    values.clear();
+  }
+}
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.crypto.SignedData;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519Group;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+import io.nem.symbol.core.utils.ArrayUtils;
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Verifies many Ed25519 signatures at once. Each signature i satisfies s_i * B = R_i + h_i * A_i,
+ * the batch checks a random linear combination of those equations:
+ *
+ * <p>8 * ((z_0 * s_0 + ... + z_n * s_n) * B - (z_0 * R_0 + z_0 * h_0 * A_0 + ... )) = 0
+ *
+ * <p>where the z_i are random 128 bits scalars. The right side is a single multi scalar
+ * multiplication of 2n points, which is several times cheaper than n double scalar
+ * multiplications. When the combination fails, the batch is split in halves until the invalid
+ * signatures are found, small groups are verified with {@link Ed25519DsaSigner#verify}.
+ *
+ * <p>Like other batch verifiers, the equation is multiplied by the cofactor, a random combination
+ * of the cofactorless equations is not reliable once a point has a small order component. The
+ * results therefore differ from {@link Ed25519DsaSigner#verify} for signatures whose R or public
+ * key have such a component and that only fail the cofactorless equation by a small order point,
+ * the batch accepts them. {@link Ed25519DsaSigner#sign} never produces them, and checking that
+ * every point belongs to the prime order subgroup would cost a scalar multiplication per signature,
+ * about as much as verifying it alone. Code that must agree with the single verification on every
+ * input, such as consensus code, should use {@link Ed25519DsaSigner#verify}.
+ *
+ * <p>Signatures with a non canonical S or R, the zero public key or a public key that is not a
+ * point of the curve are reported as invalid.
+ */
+public class Ed25519BatchVerifier {
+
+  /** Groups up to this size are verified one signature at a time. */
+  private static final int MIN_BATCH_SIZE = 4;
+
+  /** The zero scalar. */
+  private static final Ed25519EncodedFieldElement ZERO =
+      new Ed25519EncodedFieldElement(new byte[32]);
+
+  /** The encoding of the neutral element. */
+  private static final Ed25519EncodedGroupElement NEUTRAL_ELEMENT = Ed25519Group.ZERO_P2.encode();
+
+  private static final SecureRandom RANDOM = new SecureRandom();
+
+  /**
+   * Verifies the signatures.
+   *
+   * @param items the signatures to verify.
+   * @return the verification result of each item, in the same order.
+   */
+  public boolean[] verify(final List<SignedData> items) {
+    final boolean[] results = new boolean[items.size()];
+    if (results.length <= MIN_BATCH_SIZE) {
+      for (int i = 0; i < results.length; i++) {
+        results[i] = verifySingle(items.get(i));
+      }
+      return results;
+    }
+    final List<Entry> entries = new ArrayList<>(items.size());
+    for (int i = 0; i < results.length; i++) {
+      final Entry entry = Entry.prepare(i, items.get(i));
+      if (null != entry) {
+        entries.add(entry);
+      }
+    }
+    verify(entries, 0, entries.size(), false, results);
+    return results;
+  }
+
+  /**
+   * Verifies a group of signatures, splitting it in halves when the combination fails.
+   *
+   * @param entries the prepared signatures.
+   * @param from the first entry of the group, inclusive.
+   * @param to the last entry of the group, exclusive.
+   * @param knownInvalid if the group is known to have an invalid signature, its combination is not
+   *     checked.
+   * @param results the results, by item index.
+   */
+  private void verify(
+      final List<Entry> entries, int from, int to, boolean knownInvalid, boolean[] results) {
+    if (to - from <= MIN_BATCH_SIZE) {
+      for (int i = from; i < to; i++) {
+        results[entries.get(i).index] = entries.get(i).verify();
+      }
+      return;
+    }
+    if (!knownInvalid && isCombinationValid(entries.subList(from, to))) {
+      for (int i = from; i < to; i++) {
+        results[entries.get(i).index] = true;
+      }
+      return;
+    }
+    final int middle = (from + to) >>> 1;
+    verify(entries, from, middle, false, results);
+    boolean firstHalfValid = true;
+    for (int i = from; i < middle && firstHalfValid; i++) {
+      firstHalfValid = results[entries.get(i).index];
+    }
+    // When the first half is valid, the invalid signature is in the second one.
+    verify(entries, middle, to, firstHalfValid, results);
+  }
+
+  /**
+   * @param item the signature.
+   * @return the result of {@link Ed25519DsaSigner#verify}, false if the public key is not a point
+   *     of the curve.
+   */
+  private static boolean verifySingle(final SignedData item) {
+    try {
+      return new Ed25519DsaSigner(
+              KeyPair.onlyPublic(item.getPublicKey(), CryptoEngines.ed25519Engine()))
+          .verify(item.getData(), item.getSignature());
+    } catch (IllegalArgumentException e) {
+      return false;
+    }
+  }
+
+  private static boolean isCombinationValid(final List<Entry> entries) {
+    final Ed25519GroupElement[] points = new Ed25519GroupElement[2 * entries.size()];
+    final Ed25519EncodedFieldElement[] scalars = new Ed25519EncodedFieldElement[points.length];
+    Ed25519EncodedFieldElement sumOfS = ZERO;
+    for (int i = 0; i < entries.size(); i++) {
+      final Entry entry = entries.get(i);
+      sumOfS = entry.z.multiplyAndAddModQ(entry.s, sumOfS);
+      points[2 * i] = entry.r;
+      scalars[2 * i] = entry.z;
+      points[2 * i + 1] = entry.a;
+      scalars[2 * i + 1] = entry.zTimesH;
+    }
+    final Ed25519GroupElement left = Ed25519Group.BASE_POINT.scalarMultiply(sumOfS);
+    final Ed25519GroupElement right =
+        Ed25519GroupElement.multiScalarMultiplyVariableTime(points, scalars);
+    final Ed25519GroupElement difference =
+        left.subtract(right.toCached()).toP2().dbl().toP2().dbl().toP2().dbl().toP2();
+    return NEUTRAL_ELEMENT.equals(difference.encode());
+  }
+
+  /** A signature with the values shared by all the combinations it takes part in. */
+  private static class Entry {
+
+    private final int index;
+
+    private final SignedData item;
+
+    private final Ed25519GroupElement a;
+
+    private final Ed25519GroupElement r;
+
+    private final Ed25519EncodedFieldElement s;
+
+    private final Ed25519EncodedFieldElement z;
+
+    private final Ed25519EncodedFieldElement zTimesH;
+
+    private Entry(
+        int index,
+        SignedData item,
+        Ed25519GroupElement a,
+        Ed25519GroupElement r,
+        Ed25519EncodedFieldElement s,
+        Ed25519EncodedFieldElement z,
+        Ed25519EncodedFieldElement zTimesH) {
+      this.index = index;
+      this.item = item;
+      this.a = a;
+      this.r = r;
+      this.s = s;
+      this.z = z;
+      this.zTimesH = zTimesH;
+    }
+
+    /**
+     * Decodes the points of a signature and draws its random scalar.
+     *
+     * @param index the index of the item.
+     * @param item the signature.
+     * @return the entry or null if the signature is invalid.
+     */
+    private static Entry prepare(int index, SignedData item) {
+      final byte[] rawEncodedA = item.getPublicKey().getBytes();
+      final byte[] rawEncodedR = item.getSignature().getBinaryR();
+      if (!isCanonicalS(item.getSignature())
+          || 1 == ArrayUtils.isEqualConstantTime(rawEncodedA, new byte[32])
+          || !isCanonicalEncoding(rawEncodedR)) {
+        return null;
+      }
+      final Ed25519GroupElement a;
+      final Ed25519GroupElement r;
+      try {
+        a = Ed25519PublicKeyCache.INSTANCE.get(item.getPublicKey());
+        r = new Ed25519EncodedGroupElement(rawEncodedR).decode();
+      } catch (IllegalArgumentException e) {
+        return null;
+      }
+      if (!r.getX().isNonZero() && ArrayUtils.getBit(rawEncodedR, 255) == 1) {
+        return null;
+      }
+
+      // h = H(encodedR, encodedA, data) mod group order, as in Ed25519DsaSigner#verify.
+      final Ed25519EncodedFieldElement hModQ =
+          new Ed25519EncodedFieldElement(Hashes.sha512(rawEncodedR, rawEncodedA, item.getData()))
+              .modQ();
+      final byte[] random = new byte[16];
+      RANDOM.nextBytes(random);
+      final Ed25519EncodedFieldElement z =
+          new Ed25519EncodedFieldElement(Arrays.copyOf(random, 32));
+      return new Entry(
+          index,
+          item,
+          a,
+          r,
+          new Ed25519EncodedFieldElement(item.getSignature().getBinaryS()),
+          z,
+          z.multiplyAndAddModQ(hModQ, ZERO));
+    }
+
+    /**
+     * @param signature the signature.
+     * @return if S is canonical, as in {@link Ed25519DsaSigner#isCanonicalSignature}.
+     */
+    private static boolean isCanonicalS(Signature signature) {
+      return 0 > signature.getS().compareTo(Ed25519Group.GROUP_ORDER)
+          && 0 < signature.getS().compareTo(BigInteger.ZERO);
+    }
+
+    /**
+     * @param encoded the encoded point.
+     * @return false if the y coordinate is not reduced, the point cannot be the encoding of a
+     *     calculated R.
+     */
+    private static boolean isCanonicalEncoding(byte[] encoded) {
+      // y >= p = 2^255 - 19 only when all the bits but the lowest ones are set.
+      if ((encoded[31] & 0x7f) != 0x7f || (encoded[0] & 0xff) < 0xed) {
+        return true;
+      }
+      for (int i = 1; i < 31; i++) {
+        if (encoded[i] != (byte) 0xff) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /** @return the result of {@link Ed25519DsaSigner#verify}. */
+    private boolean verify() {
+      return verifySingle(item);
+    }
+  }
+}
@@ -28,6 +28,7 @@ import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
 import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
 import io.nem.symbol.core.utils.ArrayUtils;
 import java.util.Arrays;
+import org.apache.commons.lang3.Validate;
 
 /** Implementation of the block cipher for Ed25519. */
 public class Ed25519BlockCipher implements BlockCipher {
@@ -36,9 +37,37 @@ public class Ed25519BlockCipher implements BlockCipher {
 
   private final KeyPair recipientKeyPair;
 
+  /** The cache of the derived shared keys, null to derive the shared key of each message. */
+  private final Ed25519SharedKeyCache sharedKeyCache;
+
+  /**
+   * Creates a block cipher that derives the shared key of each message.
+   *
+   * @param senderKeyPair The sender KeyPair.
+   * @param recipientKeyPair The recipient KeyPair.
+   */
   public Ed25519BlockCipher(final KeyPair senderKeyPair, final KeyPair recipientKeyPair) {
     this.senderKeyPair = senderKeyPair;
     this.recipientKeyPair = recipientKeyPair;
+    this.sharedKeyCache = null;
+  }
+
+  /**
+   * Creates a block cipher that reuses the shared keys kept in the cache. The cache holds secret
+   * key material, it is only used when the caller provides one.
+   *
+   * @param senderKeyPair The sender KeyPair.
+   * @param recipientKeyPair The recipient KeyPair.
+   * @param sharedKeyCache The cache of the derived shared keys.
+   */
+  public Ed25519BlockCipher(
+      final KeyPair senderKeyPair,
+      final KeyPair recipientKeyPair,
+      final Ed25519SharedKeyCache sharedKeyCache) {
+    Validate.notNull(sharedKeyCache, "sharedKeyCache is required");
+    this.senderKeyPair = senderKeyPair;
+    this.recipientKeyPair = recipientKeyPair;
+    this.sharedKeyCache = sharedKeyCache;
   }
 
   @Override
@@ -54,9 +83,9 @@ public class Ed25519BlockCipher implements BlockCipher {
   }
 
   public AuthenticatedCipherText encode(final byte[] plainText, final byte[] ivData) {
-    // Derive shared key.
+    // Derive shared key, or reuse the cached one when the cipher was given a cache.
     final byte[] sharedKey =
-        getSharedKey(this.senderKeyPair.getPrivateKey(), this.recipientKeyPair.getPublicKey());
+        deriveSharedKey(this.senderKeyPair.getPrivateKey(), this.recipientKeyPair.getPublicKey());
     return AESGCM.encrypt(sharedKey, ivData, plainText);
   }
 
@@ -82,10 +111,16 @@ public class Ed25519BlockCipher implements BlockCipher {
 
   public byte[] decode(byte[] authTag, byte[] ivData, byte[] cypherText) {
     final byte[] sharedKey =
-        getSharedKey(this.recipientKeyPair.getPrivateKey(), this.senderKeyPair.getPublicKey());
+        deriveSharedKey(this.recipientKeyPair.getPrivateKey(), this.senderKeyPair.getPublicKey());
     return AESGCM.decrypt(sharedKey, ivData, cypherText, authTag);
   }
 
+  private byte[] deriveSharedKey(final PrivateKey privateKey, final PublicKey publicKey) {
+    return this.sharedKeyCache == null
+        ? getSharedKey(privateKey, publicKey)
+        : this.sharedKeyCache.get(privateKey, publicKey);
+  }
+
   public static byte[] getSharedKey(final PrivateKey privateKey, final PublicKey publicKey) {
     return Hashes.sha256ForSharedKey(getSharedSecret(privateKey, publicKey));
   }
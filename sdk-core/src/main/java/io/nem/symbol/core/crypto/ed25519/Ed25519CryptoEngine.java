@@ -22,10 +22,28 @@ import io.nem.symbol.core.crypto.DsaSigner;
 import io.nem.symbol.core.crypto.KeyAnalyzer;
 import io.nem.symbol.core.crypto.KeyGenerator;
 import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.SignedData;
+import java.util.List;
 
 /** Class that wraps the Ed25519 specific implementation. */
 public class Ed25519CryptoEngine implements CryptoEngine {
 
+  private final Ed25519ScalarMultiplier multiplier;
+
+  /** Creates an engine with the default scalar multiplications. */
+  public Ed25519CryptoEngine() {
+    this(Ed25519ScalarMultiplier.DEFAULT);
+  }
+
+  /**
+   * Creates an engine.
+   *
+   * @param multiplier The scalar multiplications used to sign, verify and derive public keys.
+   */
+  public Ed25519CryptoEngine(final Ed25519ScalarMultiplier multiplier) {
+    this.multiplier = multiplier;
+  }
+
   @Override
   public Curve getCurve() {
     return Ed25519Curve.ed25519();
@@ -33,12 +51,12 @@ public class Ed25519CryptoEngine implements CryptoEngine {
 
   @Override
   public DsaSigner createDsaSigner(final KeyPair keyPair) {
-    return new Ed25519DsaSigner(keyPair);
+    return new Ed25519DsaSigner(keyPair, this.multiplier);
   }
 
   @Override
   public KeyGenerator createKeyGenerator() {
-    return new Ed25519KeyGenerator();
+    return new Ed25519KeyGenerator(this.multiplier);
   }
 
   @Override
@@ -51,4 +69,9 @@ public class Ed25519CryptoEngine implements CryptoEngine {
   public KeyAnalyzer createKeyAnalyzer() {
     return new Ed25519KeyAnalyzer();
   }
+
+  @Override
+  public boolean[] verifyBatch(final List<SignedData> items) {
+    return new Ed25519BatchVerifier().verify(items);
+  }
 }
@@ -20,6 +20,7 @@ import io.nem.symbol.core.crypto.DsaSigner;
 import io.nem.symbol.core.crypto.Hasher;
 import io.nem.symbol.core.crypto.Hashes;
 import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PrivateKey;
 import io.nem.symbol.core.crypto.Signature;
 import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
 import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
@@ -34,13 +35,29 @@ public class Ed25519DsaSigner implements DsaSigner {
 
   private final KeyPair keyPair;
 
+  private final Ed25519ScalarMultiplier multiplier;
+
+  /** The private key material derived on the first signature. */
+  private volatile ExpandedPrivateKey expandedPrivateKey;
+
   /**
    * Creates a Ed25519 DSA signer.
    *
    * @param keyPair The key pair to use.
    */
   public Ed25519DsaSigner(final KeyPair keyPair) {
+    this(keyPair, Ed25519ScalarMultiplier.DEFAULT);
+  }
+
+  /**
+   * Creates a Ed25519 DSA signer.
+   *
+   * @param keyPair The key pair to use.
+   * @param multiplier The scalar multiplications to use.
+   */
+  public Ed25519DsaSigner(final KeyPair keyPair, final Ed25519ScalarMultiplier multiplier) {
     this.keyPair = keyPair;
+    this.multiplier = multiplier;
   }
 
   /**
@@ -59,30 +76,18 @@ public class Ed25519DsaSigner implements DsaSigner {
       throw new CryptoException("cannot sign without private key");
     }
 
-    Hasher hasher32 = Hashes::sha512;
     Hasher hasher64 = Hashes::sha512;
-
-    // Hash the private key to improve randomness.
-    final byte[] hash = hasher32.hash(this.getKeyPair().getPrivateKey().getBytes());
+    final ExpandedPrivateKey expandedPrivateKey = this.getExpandedPrivateKey();
 
     // r = H(hash_b,...,hash_2b-1, data) where b=256.
     final Ed25519EncodedFieldElement r =
-        new Ed25519EncodedFieldElement(
-            hasher64.hash(
-                Arrays.copyOfRange(hash, 32, 64), // only
-                // include
-                // the last
-                // 32 bytes
-                // of the
-                // private
-                // key hash
-                data));
+        new Ed25519EncodedFieldElement(hasher64.hash(expandedPrivateKey.prefix, data));
 
     // Reduce size of r since we are calculating mod group order anyway
     final Ed25519EncodedFieldElement rModQ = r.modQ();
 
     // R = rModQ * base point.
-    final Ed25519GroupElement R = Ed25519Group.BASE_POINT.scalarMultiply(rModQ);
+    final Ed25519GroupElement R = this.multiplier.scalarMultiplyBase(rModQ);
     final Ed25519EncodedGroupElement encodedR = R.encode();
 
     // S = (r + H(encodedR, encodedA, data) * a) mod group order where
@@ -96,8 +101,7 @@ public class Ed25519DsaSigner implements DsaSigner {
             hasher64.hash(encodedR.getRaw(), this.getKeyPair().getPublicKey().getBytes(), data));
     final Ed25519EncodedFieldElement hModQ = h.modQ();
     final Ed25519EncodedFieldElement encodedS =
-        hModQ.multiplyAndAddModQ(
-            Ed25519Utils.prepareForScalarMultiply(this.getKeyPair().getPrivateKey()), rModQ);
+        hModQ.multiplyAndAddModQ(expandedPrivateKey.scalar, rModQ);
 
     // Signature is (encodedR, encodedS)
     final Signature signature = new Signature(encodedR.getRaw(), encodedS.getRaw());
@@ -108,6 +112,20 @@ public class Ed25519DsaSigner implements DsaSigner {
     return signature;
   }
 
+  /**
+   * Hashes the private key once per signer, reusing a signer avoids hashing it for every signature.
+   *
+   * @return the expanded private key.
+   */
+  private ExpandedPrivateKey getExpandedPrivateKey() {
+    ExpandedPrivateKey expanded = this.expandedPrivateKey;
+    if (expanded == null) {
+      expanded = new ExpandedPrivateKey(this.getKeyPair().getPrivateKey());
+      this.expandedPrivateKey = expanded;
+    }
+    return expanded;
+  }
+
   @Override
   public boolean verify(final byte[] data, final Signature signature) {
     if (!this.isCanonicalSignature(signature)) {
@@ -129,13 +147,13 @@ public class Ed25519DsaSigner implements DsaSigner {
     // hReduced = h mod group order
     final Ed25519EncodedFieldElement hModQ = h.modQ();
 
-    // Must compute A.
-    final Ed25519GroupElement a = new Ed25519EncodedGroupElement(rawEncodedA).decode();
-    a.precomputeForDoubleScalarMultiplication();
+    // Must compute A, known public keys are already decoded and precomputed.
+    final Ed25519GroupElement a =
+        Ed25519PublicKeyCache.INSTANCE.get(this.getKeyPair().getPublicKey());
 
     // R = encodedS * B - H(encodedR, encodedA, data) * A
     final Ed25519GroupElement calculatedR =
-        Ed25519Group.BASE_POINT.doubleScalarMultiplyVariableTime(
+        this.multiplier.doubleScalarMultiplyBaseVariableTime(
             a, hModQ, new Ed25519EncodedFieldElement(signature.getBinaryS()));
 
     // Compare calculated R to given R.
@@ -158,4 +176,19 @@ public class Ed25519DsaSigner implements DsaSigner {
 
     return new Signature(signature.getBinaryR(), sModQ.getRaw());
   }
+
+  /** The clamped private scalar and the nonce prefix, the two halves of the private key hash. */
+  private static class ExpandedPrivateKey {
+
+    /** The lower 32 bytes of the hash after clamping. */
+    private final Ed25519EncodedFieldElement scalar;
+
+    /** The upper 32 bytes of the hash, hashed with the data to derive the nonce. */
+    private final byte[] prefix;
+
+    private ExpandedPrivateKey(PrivateKey privateKey) {
+      this.scalar = Ed25519Utils.prepareForScalarMultiply(privateKey);
+      this.prefix = Arrays.copyOfRange(Hashes.sha512(privateKey.getBytes()), 32, 64);
+    }
+  }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.BlockCipher;
+import io.nem.symbol.core.crypto.CryptoEngine;
+import io.nem.symbol.core.crypto.Curve;
+import io.nem.symbol.core.crypto.DsaSigner;
+import io.nem.symbol.core.crypto.KeyAnalyzer;
+import io.nem.symbol.core.crypto.KeyGenerator;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.SignedData;
+import java.security.Provider;
+import java.util.List;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Ed25519 engine that signs, verifies and derives public keys with the Ed25519 implementation of a
+ * JCA provider, like the SunEC provider of Java 15 and later.
+ *
+ * <p>The provider is checked on first use: when no provider implements Ed25519, or it does not
+ * derive the same public key and signature as {@link Ed25519CryptoEngine}, the engine falls back
+ * to the pure Java implementation. Block ciphers, key analysis and batch verification always use
+ * the pure Java implementation.
+ */
+public class Ed25519JcaCryptoEngine implements CryptoEngine {
+
+  private final Ed25519JcaProvider provider;
+
+  private final Ed25519CryptoEngine fallback = new Ed25519CryptoEngine();
+
+  /** Creates an engine that uses the first registered provider implementing Ed25519. */
+  public Ed25519JcaCryptoEngine() {
+    this.provider = new Ed25519JcaProvider(null);
+  }
+
+  /**
+   * Creates an engine.
+   *
+   * @param provider The JCA provider implementing Ed25519.
+   */
+  public Ed25519JcaCryptoEngine(final Provider provider) {
+    Validate.notNull(provider, "Provider must not be null");
+    this.provider = new Ed25519JcaProvider(provider);
+  }
+
+  /**
+   * Gets whether the JCA provider is used or the engine falls back to the pure Java
+   * implementation.
+   *
+   * @return true if the JCA provider is used.
+   */
+  public boolean isJcaAvailable() {
+    return this.provider.isAvailable();
+  }
+
+  @Override
+  public Curve getCurve() {
+    return this.fallback.getCurve();
+  }
+
+  @Override
+  public DsaSigner createDsaSigner(final KeyPair keyPair) {
+    final Ed25519DsaSigner signer = new Ed25519DsaSigner(keyPair);
+    return this.isJcaAvailable() ? new Ed25519JcaDsaSigner(keyPair, this.provider, signer) : signer;
+  }
+
+  @Override
+  public KeyGenerator createKeyGenerator() {
+    final Ed25519KeyGenerator generator = new Ed25519KeyGenerator();
+    return this.isJcaAvailable()
+        ? new Ed25519JcaKeyGenerator(this, this.provider, generator)
+        : generator;
+  }
+
+  @Override
+  public BlockCipher createBlockCipher(
+      final KeyPair senderKeyPair, final KeyPair recipientKeyPair) {
+    return this.fallback.createBlockCipher(senderKeyPair, recipientKeyPair);
+  }
+
+  @Override
+  public KeyAnalyzer createKeyAnalyzer() {
+    return this.fallback.createKeyAnalyzer();
+  }
+
+  @Override
+  public boolean[] verifyBatch(final List<SignedData> items) {
+    return this.fallback.verifyBatch(items);
+  }
+}
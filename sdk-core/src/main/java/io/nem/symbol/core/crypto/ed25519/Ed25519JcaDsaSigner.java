@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.CryptoException;
+import io.nem.symbol.core.crypto.DsaSigner;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.utils.ArrayUtils;
+import java.security.GeneralSecurityException;
+
+/**
+ * Implementation of the DSA signer for Ed25519 that signs and verifies with a JCA provider. It
+ * applies the same canonical signature and public key checks as {@link Ed25519DsaSigner} and uses
+ * it when the provider rejects a key.
+ */
+public class Ed25519JcaDsaSigner implements DsaSigner {
+
+  private final KeyPair keyPair;
+
+  private final Ed25519JcaProvider provider;
+
+  private final Ed25519DsaSigner fallback;
+
+  /** The provider keys converted on first use. */
+  private volatile java.security.PrivateKey jcaPrivateKey;
+
+  private volatile java.security.PublicKey jcaPublicKey;
+
+  /**
+   * Creates a Ed25519 JCA DSA signer.
+   *
+   * @param keyPair The key pair to use.
+   * @param provider The JCA provider.
+   * @param fallback The signer used when the provider fails.
+   */
+  Ed25519JcaDsaSigner(
+      final KeyPair keyPair, final Ed25519JcaProvider provider, final Ed25519DsaSigner fallback) {
+    this.keyPair = keyPair;
+    this.provider = provider;
+    this.fallback = fallback;
+  }
+
+  /**
+   * Gets the underlying key pair.
+   *
+   * @return The key pair.
+   */
+  public KeyPair getKeyPair() {
+    return this.keyPair;
+  }
+
+  @Override
+  public Signature sign(final byte[] data) {
+    if (!this.getKeyPair().hasPrivateKey()) {
+      throw new CryptoException("cannot sign without private key");
+    }
+
+    final Signature signature;
+    try {
+      signature = new Signature(this.provider.sign(this.getJcaPrivateKey(), data));
+    } catch (GeneralSecurityException e) {
+      return this.fallback.sign(data);
+    }
+    if (!this.isCanonicalSignature(signature)) {
+      throw new CryptoException("Generated signature is not canonical");
+    }
+    return signature;
+  }
+
+  @Override
+  public boolean verify(final byte[] data, final Signature signature) {
+    if (!this.isCanonicalSignature(signature)) {
+      return false;
+    }
+    if (1
+        == ArrayUtils.isEqualConstantTime(
+            this.getKeyPair().getPublicKey().getBytes(), new byte[32])) {
+      return false;
+    }
+
+    try {
+      return this.provider.verify(this.getJcaPublicKey(), data, signature.getBytes());
+    } catch (GeneralSecurityException e) {
+      return this.fallback.verify(data, signature);
+    }
+  }
+
+  @Override
+  public boolean isCanonicalSignature(final Signature signature) {
+    return this.fallback.isCanonicalSignature(signature);
+  }
+
+  @Override
+  public Signature makeSignatureCanonical(final Signature signature) {
+    return this.fallback.makeSignatureCanonical(signature);
+  }
+
+  private java.security.PrivateKey getJcaPrivateKey() throws GeneralSecurityException {
+    java.security.PrivateKey key = this.jcaPrivateKey;
+    if (key == null) {
+      key = this.provider.toPrivateKey(this.getKeyPair().getPrivateKey());
+      this.jcaPrivateKey = key;
+    }
+    return key;
+  }
+
+  private java.security.PublicKey getJcaPublicKey() throws GeneralSecurityException {
+    java.security.PublicKey key = this.jcaPublicKey;
+    if (key == null) {
+      key = this.provider.toPublicKey(this.getKeyPair().getPublicKey());
+      this.jcaPublicKey = key;
+    }
+    return key;
+  }
+}
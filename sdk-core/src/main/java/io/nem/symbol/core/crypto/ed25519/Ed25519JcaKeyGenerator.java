@@ -0,0 +1,67 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.CryptoEngine;
+import io.nem.symbol.core.crypto.KeyGenerator;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PrivateKey;
+import io.nem.symbol.core.crypto.PublicKey;
+import java.security.GeneralSecurityException;
+
+/**
+ * Implementation of the key generator for Ed25519 that derives the public keys with a JCA provider.
+ */
+public class Ed25519JcaKeyGenerator implements KeyGenerator {
+
+  private final CryptoEngine engine;
+
+  private final Ed25519JcaProvider provider;
+
+  private final Ed25519KeyGenerator fallback;
+
+  /**
+   * Creates a key generator.
+   *
+   * @param engine The engine of the generated key pairs.
+   * @param provider The JCA provider.
+   * @param fallback The key generator used when the provider fails.
+   */
+  Ed25519JcaKeyGenerator(
+      final CryptoEngine engine,
+      final Ed25519JcaProvider provider,
+      final Ed25519KeyGenerator fallback) {
+    this.engine = engine;
+    this.provider = provider;
+    this.fallback = fallback;
+  }
+
+  @Override
+  public KeyPair generateKeyPair() {
+    // seed is the private key.
+    final PrivateKey privateKey = PrivateKey.generateRandom();
+    return KeyPair.fromPrivate(privateKey, this.engine);
+  }
+
+  @Override
+  public PublicKey derivePublicKey(final PrivateKey privateKey) {
+    try {
+      return new PublicKey(this.provider.derivePublicKey(privateKey));
+    } catch (GeneralSecurityException e) {
+      return this.fallback.derivePublicKey(privateKey);
+    }
+  }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PrivateKey;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.utils.ArrayUtils;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPairGenerator;
+import java.security.Provider;
+import java.security.SecureRandom;
+import java.security.SecureRandomSpi;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+
+/**
+ * Bridge to the Ed25519 implementation of a JCA provider, for example the SunEC provider of Java 15
+ * and later. The keys are converted through their standard PKCS #8 and X.509 encodings, so no
+ * provider class is referenced at compile time and the SDK still runs on Java 8.
+ */
+class Ed25519JcaProvider {
+
+  /** The JCA name of the algorithm. */
+  static final String ALGORITHM = "Ed25519";
+
+  /** DER header of a PKCS #8 Ed25519 private key, it is followed by the 32 bytes of the seed. */
+  private static final byte[] PRIVATE_KEY_PREFIX = {
+    0x30, 0x2e, 0x02, 0x01, 0x00, 0x30, 0x05, 0x06, 0x03, 0x2b, 0x65, 0x70, 0x04, 0x22, 0x04, 0x20
+  };
+
+  /** DER header of a X.509 Ed25519 public key, it is followed by the 32 bytes of the point. */
+  private static final byte[] PUBLIC_KEY_PREFIX = {
+    0x30, 0x2a, 0x30, 0x05, 0x06, 0x03, 0x2b, 0x65, 0x70, 0x03, 0x21, 0x00
+  };
+
+  /** The private key of the self test. */
+  private static final String SELF_TEST_PRIVATE_KEY =
+      "787225aaff3d2c71f4ffa32d4f19ec4922f3cd869747f267378f81f8e3fcb12d";
+
+  private final Provider provider;
+
+  private volatile Boolean available;
+
+  /**
+   * Creates a bridge.
+   *
+   * @param provider The provider, null to use the first registered provider implementing Ed25519.
+   */
+  Ed25519JcaProvider(final Provider provider) {
+    this.provider = provider;
+  }
+
+  /**
+   * Checks once whether the provider implements Ed25519 and derives the same public key and
+   * signature as the pure Java implementation.
+   *
+   * @return true if the provider can be used.
+   */
+  boolean isAvailable() {
+    Boolean result = this.available;
+    if (null == result) {
+      result = this.selfTest();
+      this.available = result;
+    }
+    return result;
+  }
+
+  private boolean selfTest() {
+    try {
+      final PrivateKey privateKey = PrivateKey.fromHexString(SELF_TEST_PRIVATE_KEY);
+      final PublicKey publicKey = new Ed25519KeyGenerator().derivePublicKey(privateKey);
+      final byte[] data = privateKey.getBytes();
+      final Signature expected =
+          new Ed25519DsaSigner(KeyPair.fromPrivate(privateKey, CryptoEngines.ed25519Engine()))
+              .sign(data);
+      final byte[] signature = this.sign(this.toPrivateKey(privateKey), data);
+      return Arrays.equals(publicKey.getBytes(), this.derivePublicKey(privateKey))
+          && Arrays.equals(expected.getBytes(), signature)
+          && this.verify(this.toPublicKey(publicKey), data, signature);
+    } catch (GeneralSecurityException | RuntimeException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Converts a private key.
+   *
+   * @param privateKey The private key.
+   * @return The JCA private key.
+   * @throws GeneralSecurityException if the provider rejects the key.
+   */
+  java.security.PrivateKey toPrivateKey(final PrivateKey privateKey)
+      throws GeneralSecurityException {
+    return this.newKeyFactory()
+        .generatePrivate(
+            new PKCS8EncodedKeySpec(ArrayUtils.concat(PRIVATE_KEY_PREFIX, privateKey.getBytes())));
+  }
+
+  /**
+   * Converts a public key.
+   *
+   * @param publicKey The public key.
+   * @return The JCA public key.
+   * @throws GeneralSecurityException if the provider rejects the key.
+   */
+  java.security.PublicKey toPublicKey(final PublicKey publicKey) throws GeneralSecurityException {
+    return this.newKeyFactory()
+        .generatePublic(
+            new X509EncodedKeySpec(ArrayUtils.concat(PUBLIC_KEY_PREFIX, publicKey.getBytes())));
+  }
+
+  /**
+   * Signs data.
+   *
+   * @param privateKey The JCA private key.
+   * @param data The data.
+   * @return The 64 bytes signature.
+   * @throws GeneralSecurityException if the data cannot be signed.
+   */
+  byte[] sign(final java.security.PrivateKey privateKey, final byte[] data)
+      throws GeneralSecurityException {
+    final java.security.Signature signature = this.newSignature();
+    signature.initSign(privateKey);
+    signature.update(data);
+    return signature.sign();
+  }
+
+  /**
+   * Verifies a signature.
+   *
+   * @param publicKey The JCA public key.
+   * @param data The data.
+   * @param signature The 64 bytes signature.
+   * @return true if the signature is valid.
+   * @throws GeneralSecurityException if the signature cannot be verified.
+   */
+  boolean verify(final java.security.PublicKey publicKey, final byte[] data, final byte[] signature)
+      throws GeneralSecurityException {
+    final java.security.Signature verifier = this.newSignature();
+    verifier.initVerify(publicKey);
+    verifier.update(data);
+    return verifier.verify(signature);
+  }
+
+  /**
+   * Derives a public key. The JCA has no derivation, the key pair generator is fed the private key
+   * as its random seed instead.
+   *
+   * @param privateKey The private key.
+   * @return The 32 bytes of the public key.
+   * @throws GeneralSecurityException if the key pair cannot be generated.
+   */
+  byte[] derivePublicKey(final PrivateKey privateKey) throws GeneralSecurityException {
+    final KeyPairGenerator generator =
+        null == this.provider
+            ? KeyPairGenerator.getInstance(ALGORITHM)
+            : KeyPairGenerator.getInstance(ALGORITHM, this.provider);
+    generator.initialize(255, new SeedRandom(privateKey.getBytes()));
+    final byte[] encoded = generator.generateKeyPair().getPublic().getEncoded();
+    if (encoded.length != PUBLIC_KEY_PREFIX.length + 32
+        || !Arrays.equals(PUBLIC_KEY_PREFIX, Arrays.copyOf(encoded, PUBLIC_KEY_PREFIX.length))) {
+      throw new GeneralSecurityException("Unexpected public key encoding");
+    }
+    return Arrays.copyOfRange(encoded, PUBLIC_KEY_PREFIX.length, encoded.length);
+  }
+
+  private KeyFactory newKeyFactory() throws GeneralSecurityException {
+    return null == this.provider
+        ? KeyFactory.getInstance(ALGORITHM)
+        : KeyFactory.getInstance(ALGORITHM, this.provider);
+  }
+
+  private java.security.Signature newSignature() throws GeneralSecurityException {
+    return null == this.provider
+        ? java.security.Signature.getInstance(ALGORITHM)
+        : java.security.Signature.getInstance(ALGORITHM, this.provider);
+  }
+
+  /** Random source that returns the private key, so the generated key pair is derived from it. */
+  private static class SeedRandom extends SecureRandom {
+
+    private static final long serialVersionUID = 1L;
+
+    private SeedRandom(final byte[] seed) {
+      super(
+          new SecureRandomSpi() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void engineSetSeed(final byte[] ignored) {
+              // The seed is fixed.
+            }
+
+            @Override
+            protected void engineNextBytes(final byte[] bytes) {
+              if (bytes.length != seed.length) {
+                throw new IllegalStateException("Unexpected request of " + bytes.length + " bytes");
+              }
+              System.arraycopy(seed, 0, bytes, 0, seed.length);
+            }
+
+            @Override
+            protected byte[] engineGenerateSeed(final int numBytes) {
+              throw new UnsupportedOperationException("The seed is fixed");
+            }
+          },
+          null);
+    }
+  }
+}
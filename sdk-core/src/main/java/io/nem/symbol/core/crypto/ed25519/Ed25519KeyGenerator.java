@@ -21,12 +21,27 @@ import io.nem.symbol.core.crypto.KeyPair;
 import io.nem.symbol.core.crypto.PrivateKey;
 import io.nem.symbol.core.crypto.PublicKey;
 import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
-import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519Group;
 import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
 
 /** Implementation of the key generator for Ed25519. */
 public class Ed25519KeyGenerator implements KeyGenerator {
 
+  private final Ed25519ScalarMultiplier multiplier;
+
+  /** Creates a key generator with the default scalar multiplications. */
+  public Ed25519KeyGenerator() {
+    this(Ed25519ScalarMultiplier.DEFAULT);
+  }
+
+  /**
+   * Creates a key generator.
+   *
+   * @param multiplier The scalar multiplications to use.
+   */
+  public Ed25519KeyGenerator(final Ed25519ScalarMultiplier multiplier) {
+    this.multiplier = multiplier;
+  }
+
   @Override
   public KeyPair generateKeyPair() {
     // seed is the private key.
@@ -39,7 +54,7 @@ public class Ed25519KeyGenerator implements KeyGenerator {
     final Ed25519EncodedFieldElement a = Ed25519Utils.prepareForScalarMultiply(privateKey);
 
     // a * base point is the public key.
-    final Ed25519GroupElement pubKey = Ed25519Group.BASE_POINT.scalarMultiply(a);
+    final Ed25519GroupElement pubKey = this.multiplier.scalarMultiplyBase(a);
 
     // verification of signatures will be about twice as fast when pre-calculating
     // a suitable table of group elements.
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+
+/**
+ * Bounded, thread safe cache of decoded public keys. Decoding a public key requires a square root
+ * and verification needs a precomputed table on top of it, both are skipped for keys that have
+ * been seen before.
+ *
+ * <p>The cached group elements are fully precomputed before they are published, they must be
+ * treated as read only. When the cache is full, the oldest keys are evicted first.
+ */
+public class Ed25519PublicKeyCache {
+
+  /** The default number of cached public keys. */
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  /** The cache shared by the Ed25519 signers and verifiers. */
+  public static final Ed25519PublicKeyCache INSTANCE = new Ed25519PublicKeyCache(DEFAULT_CAPACITY);
+
+  private final BoundedFifoCache<PublicKey, Ed25519GroupElement> elements;
+
+  /**
+   * Creates a cache.
+   *
+   * @param capacity the maximum number of cached public keys.
+   */
+  public Ed25519PublicKeyCache(int capacity) {
+    this.elements = new BoundedFifoCache<>(capacity);
+  }
+
+  /**
+   * Returns the decoded public key, precomputed for double scalar multiplication.
+   *
+   * @param publicKey the public key.
+   * @return the group element in the P3 coordinate system.
+   * @throws IllegalArgumentException if the public key is not a valid encoded point. Invalid keys
+   *     are not cached.
+   */
+  public Ed25519GroupElement get(PublicKey publicKey) {
+    Ed25519GroupElement element = elements.get(publicKey);
+    if (element != null) {
+      return element;
+    }
+    element = new Ed25519EncodedGroupElement(publicKey.getBytes()).decode();
+    element.precomputeForDoubleScalarMultiplication();
+    // The key wraps the caller's array, a reused buffer would change the cached key.
+    return elements.putIfAbsent(new PublicKey(publicKey.getBytes().clone()), element);
+  }
+
+  /** @return the number of cached public keys. */
+  public int size() {
+    return elements.size();
+  }
+
+  /** @return the maximum number of cached public keys. */
+  public int getCapacity() {
+    return elements.getCapacity();
+  }
+
+  /** Removes all the cached public keys. */
+  public void clear() {
+    elements.clear();
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519FixedBaseTable;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519Group;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519InPlaceGroupOperations;
+
+/**
+ * The scalar multiplications used to sign, verify and derive public keys. Implementations must
+ * return the same group elements, they only differ in how the arithmetic is performed.
+ */
+public interface Ed25519ScalarMultiplier {
+
+  /** Multiplications with the immutable {@link Ed25519GroupElement} operations. */
+  Ed25519ScalarMultiplier DEFAULT =
+      new Ed25519ScalarMultiplier() {
+        @Override
+        public Ed25519GroupElement scalarMultiplyBase(final Ed25519EncodedFieldElement a) {
+          return Ed25519Group.BASE_POINT.scalarMultiply(a);
+        }
+
+        @Override
+        public Ed25519GroupElement doubleScalarMultiplyBaseVariableTime(
+            final Ed25519GroupElement aGroupElement,
+            final Ed25519EncodedFieldElement a,
+            final Ed25519EncodedFieldElement b) {
+          return Ed25519Group.BASE_POINT.doubleScalarMultiplyVariableTime(aGroupElement, a, b);
+        }
+      };
+
+  /** Multiplications with mutable field elements, see {@link Ed25519InPlaceGroupOperations}. */
+  Ed25519ScalarMultiplier IN_PLACE =
+      new Ed25519ScalarMultiplier() {
+        @Override
+        public Ed25519GroupElement scalarMultiplyBase(final Ed25519EncodedFieldElement a) {
+          return Ed25519InPlaceGroupOperations.scalarMultiply(Ed25519Group.BASE_POINT, a);
+        }
+
+        @Override
+        public Ed25519GroupElement doubleScalarMultiplyBaseVariableTime(
+            final Ed25519GroupElement aGroupElement,
+            final Ed25519EncodedFieldElement a,
+            final Ed25519EncodedFieldElement b) {
+          return Ed25519InPlaceGroupOperations.doubleScalarMultiplyVariableTime(
+              Ed25519Group.BASE_POINT, aGroupElement, a, b);
+        }
+      };
+
+  /**
+   * Creates in place multiplications whose fixed base multiplications use a lookup table of the
+   * base point with wider windows, see {@link Ed25519FixedBaseTable} for the memory cost of each
+   * window size. The table is built on the first multiplication.
+   *
+   * @param windowBits The number of bits of a window of the table.
+   * @return The scalar multiplier.
+   */
+  static Ed25519ScalarMultiplier withFixedBaseTable(final int windowBits) {
+    final Ed25519FixedBaseTable table =
+        new Ed25519FixedBaseTable(Ed25519Group.BASE_POINT, windowBits);
+    return new Ed25519ScalarMultiplier() {
+      @Override
+      public Ed25519GroupElement scalarMultiplyBase(final Ed25519EncodedFieldElement a) {
+        return Ed25519InPlaceGroupOperations.scalarMultiply(table, a);
+      }
+
+      @Override
+      public Ed25519GroupElement doubleScalarMultiplyBaseVariableTime(
+          final Ed25519GroupElement aGroupElement,
+          final Ed25519EncodedFieldElement a,
+          final Ed25519EncodedFieldElement b) {
+        return IN_PLACE.doubleScalarMultiplyBaseVariableTime(aGroupElement, a, b);
+      }
+    };
+  }
+
+  /**
+   * a * B where B is the base point. Constant time.
+   *
+   * @param a The encoded field element.
+   * @return The resulting group element.
+   */
+  Ed25519GroupElement scalarMultiplyBase(Ed25519EncodedFieldElement a);
+
+  /**
+   * b * B - a * A where B is the base point. A must have been precomputed for double scalar
+   * multiplication. Variable time, it must only be used with public values.
+   *
+   * @param aGroupElement The group element A in P3 coordinate system.
+   * @param a The first encoded field element.
+   * @param b The second encoded field element.
+   * @return The resulting group element.
+   */
+  Ed25519GroupElement doubleScalarMultiplyBaseVariableTime(
+      Ed25519GroupElement aGroupElement,
+      Ed25519EncodedFieldElement a,
+      Ed25519EncodedFieldElement b);
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.crypto.PrivateKey;
+import io.nem.symbol.core.crypto.PublicKey;
+import java.util.Arrays;
+
+/**
+ * Bounded, thread safe cache of the shared keys used to encrypt and decrypt messages. Deriving a
+ * shared key requires a scalar multiplication of the other party's public key and a HKDF, both
+ * are skipped for pairs of keys that have been seen before.
+ *
+ * <p>The entries are identified by a SHA3-256 hash of the private and public keys, the private
+ * keys themselves are not kept. The shared keys are secret, so there is no global instance: the
+ * {@link Ed25519BlockCipher} only caches them when it is given a cache, and the owner of the cache
+ * should {@link #clear()} it when the keys are no longer needed. When the cache is full, the oldest
+ * entries are evicted first.
+ */
+public class Ed25519SharedKeyCache {
+
+  /** The default number of cached shared keys. */
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  private final BoundedFifoCache<KeyPairId, byte[]> sharedKeys;
+
+  /**
+   * Creates a cache.
+   *
+   * @param capacity the maximum number of cached shared keys.
+   */
+  public Ed25519SharedKeyCache(int capacity) {
+    this.sharedKeys = new BoundedFifoCache<>(capacity);
+  }
+
+  /**
+   * Returns the shared key of a private key and the other party's public key, see {@link
+   * Ed25519BlockCipher#getSharedKey(PrivateKey, PublicKey)}.
+   *
+   * @param privateKey the private key.
+   * @param publicKey the other party's public key.
+   * @return a copy of the 32 bytes shared key.
+   * @throws IllegalArgumentException if the public key is not a valid encoded point. Invalid keys
+   *     are not cached.
+   */
+  public byte[] get(PrivateKey privateKey, PublicKey publicKey) {
+    KeyPairId id = new KeyPairId(Hashes.sha3_256(privateKey.getBytes(), publicKey.getBytes()));
+    byte[] sharedKey = sharedKeys.get(id);
+    if (sharedKey == null) {
+      sharedKey =
+          sharedKeys.putIfAbsent(id, Ed25519BlockCipher.getSharedKey(privateKey, publicKey));
+    }
+    return sharedKey.clone();
+  }
+
+  /** @return the number of cached shared keys. */
+  public int size() {
+    return sharedKeys.size();
+  }
+
+  /** @return the maximum number of cached shared keys. */
+  public int getCapacity() {
+    return sharedKeys.getCapacity();
+  }
+
+  /** Removes all the cached shared keys. */
+  public void clear() {
+    sharedKeys.clear();
+  }
+
+  /** The hash of a private key and a public key. */
+  private static class KeyPairId {
+
+    private final byte[] hash;
+
+    private final int hashCode;
+
+    private KeyPairId(byte[] hash) {
+      this.hash = hash;
+      this.hashCode = Arrays.hashCode(hash);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return this == o || (o instanceof KeyPairId && Arrays.equals(hash, ((KeyPairId) o).hash));
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
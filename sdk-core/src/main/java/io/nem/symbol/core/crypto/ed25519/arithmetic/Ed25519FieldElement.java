@@ -188,27 +188,40 @@ public class Ed25519FieldElement implements Serializable {
    * @return The (reasonably reduced) field element this * val.
    */
   public Ed25519FieldElement multiply(final Ed25519FieldElement g) {
-    final int[] gValues = g.values;
-    final int f0 = this.values[0];
-    final int f1 = this.values[1];
-    final int f2 = this.values[2];
-    final int f3 = this.values[3];
-    final int f4 = this.values[4];
-    final int f5 = this.values[5];
-    final int f6 = this.values[6];
-    final int f7 = this.values[7];
-    final int f8 = this.values[8];
-    final int f9 = this.values[9];
-    final int g0 = gValues[0];
-    final int g1 = gValues[1];
-    final int g2 = gValues[2];
-    final int g3 = gValues[3];
-    final int g4 = gValues[4];
-    final int g5 = gValues[5];
-    final int g6 = gValues[6];
-    final int g7 = gValues[7];
-    final int g8 = gValues[8];
-    final int g9 = gValues[9];
+    final int[] h = new int[10];
+    multiply(this.values, g.values, h);
+    return new Ed25519FieldElement(h);
+  }
+
+  /**
+   * Multiplies two field elements in their 2^25.5 bit representation, h = f * g. The inputs are
+   * read before the output is written, h can be the same array as f or g.
+   *
+   * @param f The first factor.
+   * @param g The second factor.
+   * @param h The array receiving the product.
+   */
+  static void multiply(final int[] f, final int[] g, final int[] h) {
+    final int f0 = f[0];
+    final int f1 = f[1];
+    final int f2 = f[2];
+    final int f3 = f[3];
+    final int f4 = f[4];
+    final int f5 = f[5];
+    final int f6 = f[6];
+    final int f7 = f[7];
+    final int f8 = f[8];
+    final int f9 = f[9];
+    final int g0 = g[0];
+    final int g1 = g[1];
+    final int g2 = g[2];
+    final int g3 = g[3];
+    final int g4 = g[4];
+    final int g5 = g[5];
+    final int g6 = g[6];
+    final int g7 = g[7];
+    final int g8 = g[8];
+    final int g9 = g[9];
     final int g1_19 = 19 * g1; /* 1.959375*2^29 */
     final int g2_19 = 19 * g2; /* 1.959375*2^30; still ok */
     final int g3_19 = 19 * g3;
@@ -433,7 +446,6 @@ public class Ed25519FieldElement implements Serializable {
     /* |h0| <= 2^25; from now on fits into int32 unchanged */
     /* |h1| <= 1.01*2^24 */
 
-    final int[] h = new int[10];
     h[0] = (int) h0;
     h[1] = (int) h1;
     h[2] = (int) h2;
@@ -444,8 +456,6 @@ public class Ed25519FieldElement implements Serializable {
     h[7] = (int) h7;
     h[8] = (int) h8;
     h[9] = (int) h9;
-
-    return new Ed25519FieldElement(h);
   }
 
   /**
@@ -501,16 +511,30 @@ public class Ed25519FieldElement implements Serializable {
    * @return The square of this field element times 2.
    */
   private Ed25519FieldElement squareAndOptionalDouble(final boolean dbl) {
-    final int f0 = this.values[0];
-    final int f1 = this.values[1];
-    final int f2 = this.values[2];
-    final int f3 = this.values[3];
-    final int f4 = this.values[4];
-    final int f5 = this.values[5];
-    final int f6 = this.values[6];
-    final int f7 = this.values[7];
-    final int f8 = this.values[8];
-    final int f9 = this.values[9];
+    final int[] h = new int[10];
+    square(this.values, h, dbl);
+    return new Ed25519FieldElement(h);
+  }
+
+  /**
+   * Squares a field element in its 2^25.5 bit representation, h = f * f or h = 2 * f * f. The
+   * input is read before the output is written, h can be the same array as f.
+   *
+   * @param f The field element to square.
+   * @param h The array receiving the square.
+   * @param dbl If the square is multiplied by two.
+   */
+  static void square(final int[] f, final int[] h, final boolean dbl) {
+    final int f0 = f[0];
+    final int f1 = f[1];
+    final int f2 = f[2];
+    final int f3 = f[3];
+    final int f4 = f[4];
+    final int f5 = f[5];
+    final int f6 = f[6];
+    final int f7 = f[7];
+    final int f8 = f[8];
+    final int f9 = f[9];
     final int f0_2 = 2 * f0;
     final int f1_2 = 2 * f1;
     final int f2_2 = 2 * f2;
@@ -656,7 +680,6 @@ public class Ed25519FieldElement implements Serializable {
     h1 += carry0;
     h0 -= carry0 << 26;
 
-    final int[] h = new int[10];
     h[0] = (int) h0;
     h[1] = (int) h1;
     h[2] = (int) h2;
@@ -667,7 +690,6 @@ public class Ed25519FieldElement implements Serializable {
     h[7] = (int) h7;
     h[8] = (int) h8;
     h[9] = (int) h9;
-    return new Ed25519FieldElement(h);
   }
 
   /**
@@ -0,0 +1,231 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519.arithmetic;
+
+/**
+ * Lookup table of a fixed point B for constant time scalar multiplications with windows of w bits.
+ * Window i holds the multiples 1 to 2^(w - 1) of 2^(w * i) B, so a * B is the sum of one selected
+ * entry per window and needs no doublings. The table of {@link
+ * Ed25519GroupElement#precomputeForScalarMultiplication()} is the 4 bit table with every second
+ * window, which costs 64 additions and 4 doublings.
+ *
+ * <p>A window of w bits needs ceil(256 / w) additions and each lookup scans 2^(w - 1) entries of
+ * 120 bytes. Wider windows save additions but the lookups read more memory, 5 and 6 bits are the
+ * fastest, about 10% faster than the standard table when signing:
+ *
+ * <ul>
+ *   <li>4 bits: 64 windows of 8 entries, about 60 KB.
+ *   <li>5 bits: 52 windows of 16 entries, about 100 KB.
+ *   <li>6 bits: 43 windows of 32 entries, about 165 KB.
+ *   <li>7 bits: 37 windows of 64 entries, about 285 KB.
+ *   <li>8 bits: 32 windows of 128 entries, about 490 KB.
+ * </ul>
+ *
+ * <p>The table is built on first use and is then shared, read only, by all the threads.
+ */
+public class Ed25519FixedBaseTable {
+
+  /** The smallest supported window. */
+  public static final int MIN_WINDOW_BITS = 4;
+
+  /** The window used by default, 100 KB. */
+  public static final int DEFAULT_WINDOW_BITS = 5;
+
+  /** The largest supported window. */
+  public static final int MAX_WINDOW_BITS = 8;
+
+  /**
+   * The longs of an entry, y + x, y - x and 2 * d * x * y. Two limbs are packed per long so a
+   * lookup reads and masks half as many values.
+   */
+  static final int ENTRY_SIZE = 15;
+
+  private final Ed25519GroupElement point;
+
+  private final int windowBits;
+
+  private final int windows;
+
+  private volatile long[][] table;
+
+  /**
+   * Creates a table, the entries are computed on first use.
+   *
+   * @param point The point B in P3 coordinate system.
+   * @param windowBits The number of bits of a window, between {@link #MIN_WINDOW_BITS} and {@link
+   *     #MAX_WINDOW_BITS}.
+   */
+  public Ed25519FixedBaseTable(final Ed25519GroupElement point, final int windowBits) {
+    if (point.getCoordinateSystem() != CoordinateSystem.P3) {
+      throw new IllegalArgumentException("point must be in P3 coordinate system");
+    }
+    if (windowBits < MIN_WINDOW_BITS || windowBits > MAX_WINDOW_BITS) {
+      throw new IllegalArgumentException(
+          "windowBits must be between " + MIN_WINDOW_BITS + " and " + MAX_WINDOW_BITS);
+    }
+    this.point = point;
+    this.windowBits = windowBits;
+    // Scalars are below 2^255, the last window also absorbs the carry of the signed recoding.
+    this.windows = (256 + windowBits - 1) / windowBits;
+  }
+
+  /**
+   * Gets the number of bits of a window.
+   *
+   * @return The window bits.
+   */
+  public int getWindowBits() {
+    return windowBits;
+  }
+
+  /**
+   * Gets the number of windows, that is the number of additions of a scalar multiplication.
+   *
+   * @return The number of windows.
+   */
+  public int getWindows() {
+    return windows;
+  }
+
+  /**
+   * Gets the number of precomputed multiples per window.
+   *
+   * @return The number of entries of a window.
+   */
+  public int getEntriesPerWindow() {
+    return 1 << (windowBits - 1);
+  }
+
+  /**
+   * Gets the size of the entries once the table is built, without the array headers.
+   *
+   * @return The size in bytes.
+   */
+  public long getMemorySize() {
+    return (long) windows * getEntriesPerWindow() * ENTRY_SIZE * Long.BYTES;
+  }
+
+  /**
+   * Gets whether the entries have been computed.
+   *
+   * @return true if the table is built.
+   */
+  public boolean isBuilt() {
+    return null != table;
+  }
+
+  /**
+   * Gets the entries, computing them if needed. Window i holds the entries j = 1 to 2^(w - 1) at
+   * offset (j - 1) * {@link #ENTRY_SIZE}, limb 2k is the low half and limb 2k + 1 the high half of
+   * long k.
+   *
+   * @return The windows of the table.
+   */
+  long[][] getTable() {
+    long[][] result = table;
+    if (null == result) {
+      synchronized (this) {
+        result = table;
+        if (null == result) {
+          result = build();
+          table = result;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Recodes a scalar into signed digits between -2^(w - 1) and 2^(w - 1), one per window, so that
+   * scalar = digits[0] + digits[1] * 2^w + ... The carries are computed without branches.
+   *
+   * @param scalar The encoded scalar, bit 255 must not be set.
+   * @return The digits.
+   */
+  int[] toSignedDigits(final Ed25519EncodedFieldElement scalar) {
+    final byte[] raw = scalar.getRaw();
+    final int[] digits = new int[windows];
+    final int half = 1 << (windowBits - 1);
+    final int mask = (1 << windowBits) - 1;
+    int carry = 0;
+    for (int i = 0; i < windows; i++) {
+      final int start = i * windowBits;
+      final int index = start >> 3;
+      int value = raw[index] & 0xff;
+      if (index + 1 < raw.length) {
+        value |= (raw[index + 1] & 0xff) << 8;
+      }
+      final int digit = ((value >>> (start & 7)) & mask) + carry;
+      if (i == windows - 1) {
+        digits[i] = digit;
+      } else {
+        carry = (digit + half) >> windowBits;
+        digits[i] = digit - (carry << windowBits);
+      }
+    }
+    return digits;
+  }
+
+  private long[][] build() {
+    final int entries = getEntriesPerWindow();
+    final long[][] result = new long[windows][entries * ENTRY_SIZE];
+    final int[] entry = new int[2 * ENTRY_SIZE];
+    final Ed25519GroupElement[] multiples = new Ed25519GroupElement[entries];
+    final Ed25519FieldElement[] products = new Ed25519FieldElement[entries];
+    Ed25519GroupElement bi = point;
+    for (int i = 0; i < windows; i++) {
+      final Ed25519GroupElement cached = bi.toCached();
+      multiples[0] = bi;
+      for (int j = 1; j < entries; j++) {
+        multiples[j] = multiples[j - 1].add(cached).toP3();
+      }
+
+      // One inversion per window: products[j] = z_0 * ... * z_j.
+      products[0] = multiples[0].getZ();
+      for (int j = 1; j < entries; j++) {
+        products[j] = products[j - 1].multiply(multiples[j].getZ());
+      }
+      Ed25519FieldElement inverse = products[entries - 1].invert();
+      for (int j = entries - 1; j >= 0; --j) {
+        final Ed25519FieldElement zInverse = j == 0 ? inverse : inverse.multiply(products[j - 1]);
+        inverse = inverse.multiply(multiples[j].getZ());
+        final Ed25519FieldElement xElement = multiples[j].getX().multiply(zInverse);
+        final Ed25519FieldElement yElement = multiples[j].getY().multiply(zInverse);
+        System.arraycopy(yElement.add(xElement).getRaw(), 0, entry, 0, 10);
+        System.arraycopy(yElement.subtract(xElement).getRaw(), 0, entry, 10, 10);
+        System.arraycopy(
+            xElement.multiply(yElement).multiply(Ed25519Field.D_Times_TWO).getRaw(),
+            0,
+            entry,
+            20,
+            10);
+        for (int k = 0; k < ENTRY_SIZE; k++) {
+          result[i][j * ENTRY_SIZE + k] =
+              (entry[2 * k] & 0xffffffffL) | ((long) entry[2 * k + 1] << 32);
+        }
+      }
+
+      if (i != windows - 1) {
+        Ed25519GroupElement doubled = bi.toP2();
+        for (int k = 1; k < windowBits; k++) {
+          doubled = doubled.dbl().toP2();
+        }
+        bi = doubled.dbl().toP3();
+      }
+    }
+    return result;
+  }
+}
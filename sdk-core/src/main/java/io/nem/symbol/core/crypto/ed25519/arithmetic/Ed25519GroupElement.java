@@ -17,6 +17,7 @@ package io.nem.symbol.core.crypto.ed25519.arithmetic;
 
 import io.nem.symbol.core.utils.ByteUtils;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -179,7 +180,7 @@ public class Ed25519GroupElement implements Serializable {
    * @param encoded The encode field element.
    * @return 64 bytes, each between -8 and 7
    */
-  private static byte[] toRadix16(final Ed25519EncodedFieldElement encoded) {
+  static byte[] toRadix16(final Ed25519EncodedFieldElement encoded) {
     final byte[] a = encoded.getRaw();
     final byte[] e = new byte[64];
     int i;
@@ -212,7 +213,7 @@ public class Ed25519GroupElement implements Serializable {
    * @return The byte array r in the above described form.
    */
   @SuppressWarnings({"squid:S3034", "squid:S3776"})
-  private static byte[] slide(final Ed25519EncodedFieldElement encoded) {
+  static byte[] slide(final Ed25519EncodedFieldElement encoded) {
     final byte[] a = encoded.getRaw();
     final byte[] r = new byte[256];
 
@@ -899,6 +900,98 @@ public class Ed25519GroupElement implements Serializable {
     return r;
   }
 
+  /**
+   * r = a[0] * A[0] + ... + a[n - 1] * A[n - 1] using the bucket method (Pippenger). The scalars
+   * are recoded in signed windows of c bits, the points of each window are accumulated into 2^(c -
+   * 1) buckets by digit and the buckets are summed with running sums, so a window costs about n +
+   * 2^c additions. Variable time, it must only be used with public values.
+   *
+   * @param points the group elements in P3 coordinate system.
+   * @param scalars the encoded scalars (32 bytes, bit 255 not set), one per group element.
+   * @return The resulting group element in P3 coordinate system.
+   */
+  public static Ed25519GroupElement multiScalarMultiplyVariableTime(
+      final Ed25519GroupElement[] points, final Ed25519EncodedFieldElement[] scalars) {
+    if (points.length != scalars.length) {
+      throw new IllegalArgumentException("points and scalars must have the same length");
+    }
+    final int count = points.length;
+    final int width = Math.max(4, Math.min(16, 30 - Integer.numberOfLeadingZeros(count)));
+    final int windows = 256 / width + 1;
+    final int[][] digits = new int[count][];
+    final Ed25519GroupElement[] cached = new Ed25519GroupElement[count];
+    for (int i = 0; i < count; i++) {
+      digits[i] = toSignedDigits(scalars[i].getRaw(), width, windows);
+      cached[i] = points[i].toCached();
+    }
+
+    final Ed25519GroupElement[] buckets = new Ed25519GroupElement[1 << (width - 1)];
+    Ed25519GroupElement r = Ed25519Group.ZERO_P3;
+    for (int window = windows - 1; window >= 0; --window) {
+      if (window != windows - 1) {
+        Ed25519GroupElement doubled = r.toP2();
+        for (int i = 1; i < width; i++) {
+          doubled = doubled.dbl().toP2();
+        }
+        r = doubled.dbl().toP3();
+      }
+
+      Arrays.fill(buckets, null);
+      for (int i = 0; i < count; i++) {
+        final int digit = digits[i][window];
+        if (digit > 0) {
+          final Ed25519GroupElement bucket = buckets[digit - 1];
+          buckets[digit - 1] = null == bucket ? points[i] : bucket.add(cached[i]).toP3();
+        } else if (digit < 0) {
+          final Ed25519GroupElement bucket = buckets[-digit - 1];
+          buckets[-digit - 1] =
+              (null == bucket ? Ed25519Group.ZERO_P3 : bucket).subtract(cached[i]).toP3();
+        }
+      }
+
+      // sum = bucket[j] + ... + bucket[last] and total = sum of the sums = sum of j * bucket[j]
+      Ed25519GroupElement sum = null;
+      Ed25519GroupElement total = Ed25519Group.ZERO_P3;
+      for (int j = buckets.length - 1; j >= 0; --j) {
+        if (null != buckets[j]) {
+          sum = null == sum ? buckets[j] : sum.add(buckets[j].toCached()).toP3();
+        }
+        if (null != sum) {
+          total = total.add(sum.toCached()).toP3();
+        }
+      }
+      r = r.add(total.toCached()).toP3();
+    }
+    return r;
+  }
+
+  /**
+   * Recodes a little endian scalar into signed digits between -2^(width - 1) and 2^(width - 1) -
+   * 1, so that scalar = digits[0] + digits[1] * 2^width + ...
+   *
+   * @param scalar the 32 bytes of the scalar.
+   * @param width the number of bits of the digits, at most 16.
+   * @param windows the number of digits.
+   * @return the digits.
+   */
+  private static int[] toSignedDigits(final byte[] scalar, final int width, final int windows) {
+    final int[] digits = new int[windows];
+    final int radix = 1 << width;
+    int carry = 0;
+    for (int window = 0; window < windows; window++) {
+      final int start = window * width;
+      final int index = start >> 3;
+      int value = 0;
+      for (int k = 0; k < 3 && index + k < scalar.length; k++) {
+        value |= (scalar[index + k] & 0xff) << (8 * k);
+      }
+      int digit = ((value >>> (start & 7)) & (radix - 1)) + carry;
+      carry = digit >= radix / 2 ? 1 : 0;
+      digits[window] = digit - carry * radix;
+    }
+    return digits;
+  }
+
   /**
    * Verify that the group element satisfies the curve equation.
    *
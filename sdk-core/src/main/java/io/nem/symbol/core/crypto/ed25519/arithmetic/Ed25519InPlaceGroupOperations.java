@@ -0,0 +1,374 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519.arithmetic;
+
+import io.nem.symbol.core.utils.ByteUtils;
+
+/**
+ * Scalar multiplications that keep the intermediate points in mutable field element arrays. They
+ * compute the same results as {@link Ed25519GroupElement#scalarMultiply} and {@link
+ * Ed25519GroupElement#doubleScalarMultiplyVariableTime} with the same formulas, but the inner loops
+ * do not allocate a field element for every addition, subtraction, multiplication and square.
+ *
+ * <p>The field elements are the 2^25.5 bit representation of {@link Ed25519FieldElement}. An
+ * instance holds the working arrays of one multiplication, it is not thread safe.
+ */
+public class Ed25519InPlaceGroupOperations {
+
+  // Current point, (X : Y : Z : T) in P3 or (X : Y : Z) in P2.
+  private final int[] x = new int[10];
+  private final int[] y = new int[10];
+  private final int[] z = new int[10];
+  private final int[] t = new int[10];
+
+  // Current point in P x P, ((X : Z), (Y : T)).
+  private final int[] px = new int[10];
+  private final int[] py = new int[10];
+  private final int[] pz = new int[10];
+  private final int[] pt = new int[10];
+
+  // Selected precomputed point (y + x, y - x, 2 * d * x * y).
+  private final int[] yPlusX = new int[10];
+  private final int[] yMinusX = new int[10];
+  private final int[] xy2d = new int[10];
+  private final long[] selected = new long[Ed25519FixedBaseTable.ENTRY_SIZE];
+
+  private final int[] a = new int[10];
+  private final int[] b = new int[10];
+  private final int[] c = new int[10];
+
+  /**
+   * h = a * B where B is the base point. The lookup table of the base point is precomputed if
+   * needed. Constant time.
+   *
+   * @param basePoint The point B in P3 coordinate system.
+   * @param scalar The encoded field element a.
+   * @return The resulting group element in P3 coordinate system.
+   */
+  public static Ed25519GroupElement scalarMultiply(
+      final Ed25519GroupElement basePoint, final Ed25519EncodedFieldElement scalar) {
+    basePoint.precomputeForScalarMultiplication();
+    return new Ed25519InPlaceGroupOperations()
+        .fixedBaseMultiply(basePoint.getPrecomputedForSingle(), scalar);
+  }
+
+  /**
+   * h = a * B where the lookup table of B has windows of any width, see {@link
+   * Ed25519FixedBaseTable}. The table is built if needed. Constant time.
+   *
+   * @param table The lookup table of the point B.
+   * @param scalar The encoded field element a.
+   * @return The resulting group element in P3 coordinate system.
+   */
+  public static Ed25519GroupElement scalarMultiply(
+      final Ed25519FixedBaseTable table, final Ed25519EncodedFieldElement scalar) {
+    final int[] digits = table.toSignedDigits(scalar);
+    return new Ed25519InPlaceGroupOperations()
+        .windowedMultiply(table.getTable(), table.getEntriesPerWindow(), digits);
+  }
+
+  /**
+   * r = b * B - a * A where a and b are encoded field elements. A and B must have been previously
+   * precomputed for double scalar multiplication. Variable time.
+   *
+   * @param basePoint The point B in P3 coordinate system.
+   * @param aGroupElement The point A in P3 coordinate system.
+   * @param a The first encoded field element.
+   * @param b The second encoded field element.
+   * @return The resulting group element in P2 coordinate system.
+   */
+  public static Ed25519GroupElement doubleScalarMultiplyVariableTime(
+      final Ed25519GroupElement basePoint,
+      final Ed25519GroupElement aGroupElement,
+      final Ed25519EncodedFieldElement a,
+      final Ed25519EncodedFieldElement b) {
+    return new Ed25519InPlaceGroupOperations()
+        .doubleMultiply(
+            basePoint.getPrecomputedForDouble(), aGroupElement.getPrecomputedForDouble(), a, b);
+  }
+
+  private Ed25519GroupElement fixedBaseMultiply(
+      final Ed25519GroupElement[][] table, final Ed25519EncodedFieldElement scalar) {
+    final byte[] e = Ed25519GroupElement.toRadix16(scalar);
+    setZeroP3();
+    for (int i = 1; i < 64; i += 2) {
+      select(table[i / 2], e[i]);
+      addSelected(false);
+      toP3();
+    }
+
+    dbl();
+    toP2();
+    dbl();
+    toP2();
+    dbl();
+    toP2();
+    dbl();
+    toP3();
+
+    for (int i = 0; i < 64; i += 2) {
+      select(table[i / 2], e[i]);
+      addSelected(false);
+      toP3();
+    }
+
+    return Ed25519GroupElement.p3(
+        new Ed25519FieldElement(x.clone()),
+        new Ed25519FieldElement(y.clone()),
+        new Ed25519FieldElement(z.clone()),
+        new Ed25519FieldElement(t.clone()));
+  }
+
+  private Ed25519GroupElement windowedMultiply(
+      final long[][] table, final int entries, final int[] digits) {
+    setZeroP3();
+    for (int i = 0; i < digits.length; i++) {
+      select(table[i], entries, digits[i]);
+      addSelected(false);
+      toP3();
+    }
+    return Ed25519GroupElement.p3(
+        new Ed25519FieldElement(x.clone()),
+        new Ed25519FieldElement(y.clone()),
+        new Ed25519FieldElement(z.clone()),
+        new Ed25519FieldElement(t.clone()));
+  }
+
+  private Ed25519GroupElement doubleMultiply(
+      final Ed25519GroupElement[] bTable,
+      final Ed25519GroupElement[] aTable,
+      final Ed25519EncodedFieldElement a,
+      final Ed25519EncodedFieldElement b) {
+    final byte[] aSlide = Ed25519GroupElement.slide(a);
+    final byte[] bSlide = Ed25519GroupElement.slide(b);
+    setZeroP3();
+
+    int i;
+    for (i = 255; i >= 0; --i) {
+      if (aSlide[i] != 0 || bSlide[i] != 0) {
+        break;
+      }
+    }
+
+    for (; i >= 0; --i) {
+      dbl();
+
+      if (aSlide[i] > 0) {
+        toP3();
+        load(aTable[aSlide[i] / 2]);
+        addSelected(true);
+      } else if (aSlide[i] < 0) {
+        toP3();
+        load(aTable[(-aSlide[i]) / 2]);
+        addSelected(false);
+      }
+
+      if (bSlide[i] > 0) {
+        toP3();
+        load(bTable[bSlide[i] / 2]);
+        addSelected(false);
+      } else if (bSlide[i] < 0) {
+        toP3();
+        load(bTable[(-bSlide[i]) / 2]);
+        addSelected(true);
+      }
+
+      toP2();
+    }
+
+    return Ed25519GroupElement.p2(
+        new Ed25519FieldElement(x.clone()),
+        new Ed25519FieldElement(y.clone()),
+        new Ed25519FieldElement(z.clone()));
+  }
+
+  private void setZeroP3() {
+    for (int i = 0; i < 10; i++) {
+      x[i] = 0;
+      y[i] = 0;
+      z[i] = 0;
+      t[i] = 0;
+    }
+    y[0] = 1;
+    z[0] = 1;
+  }
+
+  /**
+   * Doubles the current point in P2 or P3 coordinate system into P x P, as in {@link
+   * Ed25519GroupElement#dbl()}.
+   */
+  private void dbl() {
+    Ed25519FieldElement.square(x, a, false);
+    Ed25519FieldElement.square(y, b, false);
+    Ed25519FieldElement.square(z, pt, true);
+    add(x, y, c);
+    Ed25519FieldElement.square(c, px, false);
+    add(b, a, py);
+    subtract(b, a, pz);
+    subtract(px, py, px);
+    subtract(pt, pz, pt);
+  }
+
+  /**
+   * Adds or subtracts the selected precomputed point to the current point in P3 coordinate system
+   * into P x P, as in {@link Ed25519GroupElement} precomputedAdd and precomputedSubtract.
+   *
+   * @param negate if the selected point is subtracted.
+   */
+  private void addSelected(final boolean negate) {
+    add(y, x, px);
+    subtract(y, x, py);
+    Ed25519FieldElement.multiply(px, negate ? yMinusX : yPlusX, a);
+    Ed25519FieldElement.multiply(py, negate ? yPlusX : yMinusX, b);
+    Ed25519FieldElement.multiply(xy2d, t, c);
+    add(z, z, pt);
+    subtract(a, b, px);
+    add(a, b, py);
+    if (negate) {
+      subtract(pt, c, pz);
+      add(pt, c, pt);
+    } else {
+      add(pt, c, pz);
+      subtract(pt, c, pt);
+    }
+  }
+
+  private void toP2() {
+    Ed25519FieldElement.multiply(px, pt, x);
+    Ed25519FieldElement.multiply(py, pz, y);
+    Ed25519FieldElement.multiply(pz, pt, z);
+  }
+
+  private void toP3() {
+    Ed25519FieldElement.multiply(px, pt, x);
+    Ed25519FieldElement.multiply(py, pz, y);
+    Ed25519FieldElement.multiply(pz, pt, z);
+    Ed25519FieldElement.multiply(px, py, t);
+  }
+
+  private void load(final Ed25519GroupElement precomputed) {
+    System.arraycopy(precomputed.getX().getRaw(), 0, yPlusX, 0, 10);
+    System.arraycopy(precomputed.getY().getRaw(), 0, yMinusX, 0, 10);
+    System.arraycopy(precomputed.getZ().getRaw(), 0, xy2d, 0, 10);
+  }
+
+  /**
+   * Selects 16^i r_i B from the row of the lookup table without secret indices or branches, as in
+   * {@link Ed25519GroupElement} select.
+   *
+   * @param row the precomputed multiples 1 to 8 of 16^i B.
+   * @param digit r_i between -8 and 8.
+   */
+  private void select(final Ed25519GroupElement[] row, final int digit) {
+    final int negative = ByteUtils.isNegativeConstantTime(digit);
+    final int abs = digit - (((-negative) & digit) << 1);
+    for (int i = 0; i < 10; i++) {
+      yPlusX[i] = 0;
+      yMinusX[i] = 0;
+      xy2d[i] = 0;
+    }
+    yPlusX[0] = 1;
+    yMinusX[0] = 1;
+    for (int j = 0; j < 8; j++) {
+      final int mask = -ByteUtils.isEqualConstantTime(abs, j + 1);
+      final int[] rowYPlusX = row[j].getX().getRaw();
+      final int[] rowYMinusX = row[j].getY().getRaw();
+      final int[] rowXy2d = row[j].getZ().getRaw();
+      for (int i = 0; i < 10; i++) {
+        yPlusX[i] ^= mask & (yPlusX[i] ^ rowYPlusX[i]);
+        yMinusX[i] ^= mask & (yMinusX[i] ^ rowYMinusX[i]);
+        xy2d[i] ^= mask & (xy2d[i] ^ rowXy2d[i]);
+      }
+    }
+    negateSelected(negative);
+  }
+
+  /**
+   * Selects 2^(w * i) r_i B from a window of a {@link Ed25519FixedBaseTable} without secret
+   * indices or branches. Every entry is read and or'ed under a mask that is only set for the
+   * selected one, the identity is selected when r_i is 0.
+   *
+   * @param window the precomputed multiples 1 to entries of 2^(w * i) B.
+   * @param entries the number of multiples in the window.
+   * @param digit r_i between -entries and entries.
+   */
+  private void select(final long[] window, final int entries, final int digit) {
+    final int negative = ByteUtils.isNegativeConstantTime(digit);
+    final int abs = digit - (((-negative) & digit) << 1);
+    final int size = Ed25519FixedBaseTable.ENTRY_SIZE;
+    for (int i = 0; i < size; i++) {
+      selected[i] = 0;
+    }
+    for (int j = 0, offset = 0; j < entries; j++, offset += size) {
+      // abs ^ (j + 1) is between 0 and 255, minus one it is only negative when they are equal.
+      final long mask = ((abs ^ (j + 1)) - 1) >> 31;
+      for (int i = 0; i < size; i++) {
+        selected[i] |= mask & window[offset + i];
+      }
+    }
+    for (int k = 0; k < 5; k++) {
+      unpack(selected[k], yPlusX, 2 * k);
+      unpack(selected[k + 5], yMinusX, 2 * k);
+      unpack(selected[k + 10], xy2d, 2 * k);
+    }
+    final int zero = (abs - 1) >>> 31;
+    yPlusX[0] |= zero;
+    yMinusX[0] |= zero;
+    negateSelected(negative);
+  }
+
+  /** -P swaps y + x with y - x and negates 2 * d * x * y. */
+  private void negateSelected(final int negative) {
+    conditionalSwap(yPlusX, yMinusX, negative);
+    for (int i = 0; i < 10; i++) {
+      c[i] = -xy2d[i];
+    }
+    conditionalMove(xy2d, c, negative);
+  }
+
+  private static void unpack(final long packed, final int[] f, final int index) {
+    f[index] = (int) packed;
+    f[index + 1] = (int) (packed >> 32);
+  }
+
+  private static void conditionalMove(final int[] f, final int[] g, final int move) {
+    final int mask = -move;
+    for (int i = 0; i < 10; i++) {
+      f[i] ^= mask & (f[i] ^ g[i]);
+    }
+  }
+
+  private static void conditionalSwap(final int[] f, final int[] g, final int swap) {
+    final int mask = -swap;
+    for (int i = 0; i < 10; i++) {
+      final int difference = mask & (f[i] ^ g[i]);
+      f[i] ^= difference;
+      g[i] ^= difference;
+    }
+  }
+
+  private static void add(final int[] f, final int[] g, final int[] h) {
+    for (int i = 0; i < 10; i++) {
+      h[i] = f[i] + g[i];
+    }
+  }
+
+  private static void subtract(final int[] f, final int[] g, final int[] h) {
+    for (int i = 0; i < 10; i++) {
+      h[i] = f[i] - g[i];
+    }
+  }
+}
@@ -17,6 +17,10 @@ package io.nem.symbol.sdk.api;
 
 import io.nem.symbol.sdk.model.transaction.Transaction;
 import io.nem.symbol.sdk.model.transaction.TransactionFactory;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
 
 /**
  * This interface allow users to serialize and deserialize transaction using the symbol binary
@@ -33,6 +37,22 @@ public interface BinarySerialization {
    */
   <T extends Transaction> byte[] serialize(T transaction);
 
+  /**
+   * It serializes a transaction into the given buffer, starting at its current position, using
+   * the symbol buffer format. The buffer's position is advanced by the written bytes.
+   *
+   * @param <T> the type of the transaction
+   * @param transaction the transaction
+   * @param buffer the destination buffer with at least {@link #getSize(Transaction)} bytes
+   *     remaining.
+   * @return the number of written bytes.
+   */
+  default <T extends Transaction> int serializeTo(T transaction, ByteBuffer buffer) {
+    byte[] bytes = serialize(transaction);
+    buffer.put(bytes);
+    return bytes.length;
+  }
+
   /**
    * It deserializes the symbol buffer payload into a transaction factory.
    *
@@ -49,6 +69,71 @@ public interface BinarySerialization {
    */
   Transaction deserialize(byte[] payload);
 
+  /**
+   * It deserializes the symbol buffer payload that starts at the buffer's current position into a
+   * transaction factory. The position is advanced to the end of the transaction, so consecutive
+   * transactions can be read from the same buffer.
+   *
+   * <p>The default implementation copies the remaining bytes and consumes all of them, so only one
+   * transaction can be read from the buffer.
+   *
+   * @param payload the buffer, it can be a slice of a memory-mapped file.
+   * @return the {@link TransactionFactory}.
+   */
+  default TransactionFactory<?> deserializeToFactory(ByteBuffer payload) {
+    byte[] bytes = new byte[payload.remaining()];
+    payload.get(bytes);
+    return deserializeToFactory(bytes);
+  }
+
+  /**
+   * It deserializes the symbol buffer payload that starts at the buffer's current position into a
+   * transaction. The position is advanced to the end of the transaction.
+   *
+   * <p>The default implementation copies the remaining bytes and consumes all of them.
+   *
+   * @param payload the buffer, it can be a slice of a memory-mapped file.
+   * @return the transaction.
+   */
+  default Transaction deserialize(ByteBuffer payload) {
+    byte[] bytes = new byte[payload.remaining()];
+    payload.get(bytes);
+    return deserialize(bytes);
+  }
+
+  /**
+   * It deserializes a batch of payloads using the common {@link java.util.concurrent.ForkJoinPool}.
+   * The default implementation deserializes the payloads sequentially.
+   *
+   * @param payloads the byte array payloads
+   * @return one result per payload, in the same order. A payload that cannot be deserialized
+   *     produces a failed result, it does not abort the batch.
+   */
+  default List<DeserializationResult> deserialize(List<byte[]> payloads) {
+    List<DeserializationResult> results = new ArrayList<>(payloads.size());
+    for (int i = 0; i < payloads.size(); i++) {
+      try {
+        results.add(DeserializationResult.success(i, deserialize(payloads.get(i))));
+      } catch (RuntimeException e) {
+        results.add(DeserializationResult.failure(i, e));
+      }
+    }
+    return results;
+  }
+
+  /**
+   * It deserializes a batch of payloads spreading the work over the given executor. The default
+   * implementation ignores the executor and deserializes the payloads sequentially.
+   *
+   * @param payloads the byte array payloads
+   * @param executor the executor running the deserialization tasks.
+   * @return one result per payload, in the same order. A payload that cannot be deserialized
+   *     produces a failed result, it does not abort the batch.
+   */
+  default List<DeserializationResult> deserialize(List<byte[]> payloads, Executor executor) {
+    return deserialize(payloads);
+  }
+
   /**
    * It returns the transaction's byte array size useful to calculate its fee.
    *
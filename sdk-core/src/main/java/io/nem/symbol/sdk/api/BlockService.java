@@ -17,6 +17,7 @@ package io.nem.symbol.sdk.api;
 
 import io.reactivex.Observable;
 import java.math.BigInteger;
+import java.util.List;
 
 /** Service with block related functions. */
 public interface BlockService {
@@ -30,6 +31,23 @@ public interface BlockService {
    */
   Observable<Boolean> isValidTransactionInBlock(BigInteger height, String transactionHash);
 
+  /**
+   * Validate many transaction hashes of the same block. The default implementation validates each
+   * hash with {@link #isValidTransactionInBlock(BigInteger, String)}, implementations can resolve
+   * the block header once and request the merkle proofs concurrently.
+   *
+   * @param height block height
+   * @param transactionHashes transaction hashes
+   * @return the validity of each transaction hash, in the order of the given hashes.
+   */
+  default Observable<List<Boolean>> areValidTransactionsInBlock(
+      BigInteger height, List<String> transactionHashes) {
+    return Observable.fromIterable(transactionHashes)
+        .concatMap(transactionHash -> isValidTransactionInBlock(height, transactionHash))
+        .toList()
+        .toObservable();
+  }
+
   /**
    * Validate statement hash in block
    *
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.api;
+
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import java.util.Optional;
+
+/**
+ * It represents the outcome of deserializing one payload of a batch. Either the transaction or the
+ * error is present.
+ */
+public class DeserializationResult {
+
+  /** The index of the payload in the batch. */
+  private final int index;
+
+  /** The transaction if the payload could be deserialized. */
+  private final Transaction transaction;
+
+  /** The error if the payload could not be deserialized. */
+  private final RuntimeException error;
+
+  private DeserializationResult(int index, Transaction transaction, RuntimeException error) {
+    this.index = index;
+    this.transaction = transaction;
+    this.error = error;
+  }
+
+  /**
+   * Creates a successful result.
+   *
+   * @param index the index of the payload in the batch.
+   * @param transaction the deserialized transaction.
+   * @return the result.
+   */
+  public static DeserializationResult success(int index, Transaction transaction) {
+    return new DeserializationResult(index, transaction, null);
+  }
+
+  /**
+   * Creates a failed result.
+   *
+   * @param index the index of the payload in the batch.
+   * @param error the deserialization error.
+   * @return the result.
+   */
+  public static DeserializationResult failure(int index, RuntimeException error) {
+    return new DeserializationResult(index, null, error);
+  }
+
+  /** @return the index of the payload in the batch. */
+  public int getIndex() {
+    return index;
+  }
+
+  /** @return the transaction if the payload could be deserialized. */
+  public Optional<Transaction> getTransaction() {
+    return Optional.ofNullable(transaction);
+  }
+
+  /** @return the error if the payload could not be deserialized. */
+  public Optional<RuntimeException> getError() {
+    return Optional.ofNullable(error);
+  }
+
+  /** @return if the payload could be deserialized. */
+  public boolean isSuccess() {
+    return error == null;
+  }
+}
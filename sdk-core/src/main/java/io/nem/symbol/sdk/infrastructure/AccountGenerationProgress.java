@@ -0,0 +1,80 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+/** A snapshot of the progress of an {@link AccountGenerator} run. */
+public class AccountGenerationProgress {
+
+  private final long attempts;
+
+  private final int found;
+
+  private final int target;
+
+  private final long elapsedNanos;
+
+  /**
+   * Constructor.
+   *
+   * @param attempts the number of key pairs generated so far.
+   * @param found the number of accounts accepted by the filter so far.
+   * @param target the number of accounts requested.
+   * @param elapsedNanos the nanoseconds since the run started.
+   */
+  public AccountGenerationProgress(long attempts, int found, int target, long elapsedNanos) {
+    this.attempts = attempts;
+    this.found = found;
+    this.target = target;
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /** @return the number of key pairs generated so far. */
+  public long getAttempts() {
+    return attempts;
+  }
+
+  /** @return the number of accounts accepted by the filter so far. */
+  public int getFound() {
+    return found;
+  }
+
+  /** @return the number of accounts requested. */
+  public int getTarget() {
+    return target;
+  }
+
+  /** @return the nanoseconds since the run started. */
+  public long getElapsedNanos() {
+    return elapsedNanos;
+  }
+
+  /** @return true if all the requested accounts have been found. */
+  public boolean isCompleted() {
+    return found >= target;
+  }
+
+  /** @return the number of key pairs generated per second. */
+  public double getAttemptsPerSecond() {
+    return elapsedNanos == 0 ? 0 : attempts * 1e9 / elapsedNanos;
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "AccountGenerationProgress{found=%d/%d, attempts=%d, attemptsPerSecond=%.1f}",
+        found, target, attempts, getAttemptsPerSecond());
+  }
+}
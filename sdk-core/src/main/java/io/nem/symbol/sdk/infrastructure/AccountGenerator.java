@@ -0,0 +1,247 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.crypto.CryptoEngine;
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PrivateKey;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Generates new accounts in parallel, for example to provision deposit accounts or to search for
+ * addresses with a readable Base32 prefix or suffix (vanity addresses).
+ *
+ * <p>One worker runs per executor thread. Each worker keeps its own {@link SecureRandom} and the
+ * address hashes reuse the digests of its thread, the addresses are derived from the public key
+ * bytes without hex conversions.
+ *
+ * <p>Every extra Base32 character of a prefix or suffix multiplies the expected number of attempts
+ * by 32, a 5 characters prefix after the network character needs about 33 million attempts. The
+ * {@link AddressPattern} filters are validated against the network type before the search starts,
+ * other filters can be bounded with a maximum number of attempts.
+ */
+public class AccountGenerator {
+
+  /** The number of attempts of a worker between two progress reports. */
+  public static final int REPORT_INTERVAL = 1024;
+
+  private final Executor executor;
+
+  private final int parallelism;
+
+  private final CryptoEngine engine;
+
+  /** Creates a generator that uses the common fork join pool and the default engine. */
+  public AccountGenerator() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a generator that uses the default engine.
+   *
+   * @param executor the executor running the workers.
+   */
+  public AccountGenerator(Executor executor) {
+    this(executor, CryptoEngines.defaultEngine());
+  }
+
+  /**
+   * Creates a generator.
+   *
+   * @param executor the executor running the workers.
+   * @param engine the engine deriving the public keys.
+   */
+  public AccountGenerator(Executor executor, CryptoEngine engine) {
+    Validate.notNull(executor, "Executor must not be null");
+    Validate.notNull(engine, "Engine must not be null");
+    this.executor = executor;
+    this.engine = engine;
+    this.parallelism =
+        executor instanceof ForkJoinPool
+            ? ((ForkJoinPool) executor).getParallelism()
+            : Runtime.getRuntime().availableProcessors();
+  }
+
+  /**
+   * Generates new random accounts.
+   *
+   * @param count the number of accounts.
+   * @param networkType the network type of the accounts.
+   * @return the accounts.
+   */
+  public List<Account> generate(int count, NetworkType networkType) {
+    return generate(count, networkType, address -> true, progress -> {});
+  }
+
+  /**
+   * Generates new random accounts whose addresses match the filter.
+   *
+   * @param count the number of accounts.
+   * @param networkType the network type of the accounts.
+   * @param filter the condition the addresses must match, see {@link #addressStartsWith(String)}
+   *     and {@link #addressEndsWith(String)}.
+   * @return the accounts, in the order they were found.
+   */
+  public List<Account> generate(int count, NetworkType networkType, Predicate<Address> filter) {
+    return generate(count, networkType, filter, progress -> {});
+  }
+
+  /**
+   * Generates new random accounts whose addresses match the filter.
+   *
+   * @param count the number of accounts.
+   * @param networkType the network type of the accounts.
+   * @param filter the condition the addresses must match, see {@link #addressStartsWith(String)}
+   *     and {@link #addressEndsWith(String)}.
+   * @param progressListener called by the workers every {@link #REPORT_INTERVAL} attempts and
+   *     once more when the run completes. It may be called concurrently from different threads.
+   * @return the accounts, in the order they were found.
+   */
+  public List<Account> generate(
+      int count,
+      NetworkType networkType,
+      Predicate<Address> filter,
+      Consumer<AccountGenerationProgress> progressListener) {
+    return generate(count, networkType, filter, Long.MAX_VALUE, progressListener);
+  }
+
+  /**
+   * Generates new random accounts whose addresses match the filter, giving up after a number of
+   * attempts.
+   *
+   * @param count the number of accounts.
+   * @param networkType the network type of the accounts.
+   * @param filter the condition the addresses must match, see {@link #addressStartsWith(String)}
+   *     and {@link #addressEndsWith(String)}.
+   * @param maxAttempts the number of key pairs after which the workers stop. They check it every
+   *     attempt but only publish their attempts every {@link #REPORT_INTERVAL} ones, so each worker
+   *     may run up to {@link #REPORT_INTERVAL} extra attempts.
+   * @param progressListener called by the workers every {@link #REPORT_INTERVAL} attempts and
+   *     once more when the run completes. It may be called concurrently from different threads.
+   * @return the accounts, in the order they were found. There are fewer than count accounts when
+   *     the attempts ran out.
+   */
+  public List<Account> generate(
+      int count,
+      NetworkType networkType,
+      Predicate<Address> filter,
+      long maxAttempts,
+      Consumer<AccountGenerationProgress> progressListener) {
+    Validate.isTrue(count >= 0, "Count must not be negative");
+    Validate.notNull(networkType, "Network type must not be null");
+    Validate.notNull(filter, "Filter must not be null");
+    Validate.isTrue(maxAttempts > 0, "Max attempts must be positive");
+    Validate.notNull(progressListener, "Progress listener must not be null");
+    if (filter instanceof AddressPattern) {
+      ((AddressPattern) filter).validate(networkType);
+    }
+    long start = System.nanoTime();
+    Account[] results = new Account[count];
+    AtomicInteger found = new AtomicInteger();
+    AtomicLong attempts = new AtomicLong();
+    AtomicBoolean failed = new AtomicBoolean();
+    Runnable worker =
+        () -> {
+          SecureRandom random = new SecureRandom();
+          long pending = 0;
+          try {
+            while (found.get() < count && attempts.get() < maxAttempts && !failed.get()) {
+              byte[] seed = new byte[PrivateKey.SIZE];
+              random.nextBytes(seed);
+              Account account =
+                  new Account(KeyPair.fromPrivate(new PrivateKey(seed), engine), networkType);
+              if (filter.test(account.getAddress())) {
+                int index = found.getAndIncrement();
+                if (index < count) {
+                  results[index] = account;
+                }
+              }
+              if (++pending == REPORT_INTERVAL) {
+                pending = 0;
+                progressListener.accept(
+                    new AccountGenerationProgress(
+                        attempts.addAndGet(REPORT_INTERVAL),
+                        Math.min(found.get(), count),
+                        count,
+                        System.nanoTime() - start));
+              }
+            }
+          } catch (RuntimeException e) {
+            // Stops the other workers, a vanity search would otherwise never end.
+            failed.set(true);
+            throw e;
+          } finally {
+            attempts.addAndGet(pending);
+          }
+        };
+    List<CompletableFuture<Void>> workers = new ArrayList<>();
+    for (int i = 0; i < parallelism; i++) {
+      workers.add(CompletableFuture.runAsync(worker, executor));
+    }
+    try {
+      CompletableFuture.allOf(workers.toArray(new CompletableFuture[0])).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+    int completed = Math.min(found.get(), count);
+    progressListener.accept(
+        new AccountGenerationProgress(attempts.get(), completed, count, System.nanoTime() - start));
+    return Arrays.asList(completed == count ? results : Arrays.copyOf(results, completed));
+  }
+
+  /**
+   * Creates a filter of the addresses whose plain representation starts with the prefix. The
+   * first character is given by the network type, for example T for the test network, and the
+   * second one is one of 4 characters depending on the network type.
+   *
+   * @param prefix the Base32 prefix, case insensitive.
+   * @return the filter, it can be combined with {@link #addressEndsWith(String)}.
+   */
+  public static AddressPattern addressStartsWith(String prefix) {
+    return AddressPattern.startsWith(prefix);
+  }
+
+  /**
+   * Creates a filter of the addresses whose plain representation ends with the suffix. The last
+   * character of an address is always A, I, Q or Y.
+   *
+   * @param suffix the Base32 suffix, case insensitive.
+   * @return the filter, it can be combined with {@link #addressStartsWith(String)}.
+   */
+  public static AddressPattern addressEndsWith(String suffix) {
+    return AddressPattern.endsWith(suffix);
+  }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Immutable Bloom filter of the addresses touched by a range of blocks.
+ *
+ * <p>The number of bits is a power of two sized from the number of addresses and the target false
+ * positive rate, so the filter of an empty range has no bits at all. Addresses are hashed once into
+ * a {@link Key} and the bit positions are derived from it with double hashing.
+ */
+public class AddressBloomFilter {
+
+  /** Minimum number of bits of a non empty filter. */
+  private static final int MIN_BITS = 64;
+
+  /** Maximum number of hash functions. */
+  private static final int MAX_HASH_COUNT = 30;
+
+  private final long fromHeight;
+
+  private final long toHeight;
+
+  private final int hashCount;
+
+  private final long[] bits;
+
+  AddressBloomFilter(long fromHeight, long toHeight, int hashCount, long[] bits) {
+    Validate.isTrue(fromHeight <= toHeight, "fromHeight must not exceed toHeight");
+    Validate.isTrue(Long.bitCount(bits.length) <= 1, "bits length must be a power of two");
+    this.fromHeight = fromHeight;
+    this.toHeight = toHeight;
+    this.hashCount = hashCount;
+    this.bits = bits;
+  }
+
+  /**
+   * Creates the filter of the given keys.
+   *
+   * @param fromHeight the first height of the range.
+   * @param toHeight the last height of the range.
+   * @param keys the keys of the addresses touched by the range.
+   * @param falsePositiveRate the target false positive rate of a single address lookup.
+   * @return the filter.
+   */
+  public static AddressBloomFilter create(
+      long fromHeight, long toHeight, Collection<Key> keys, double falsePositiveRate) {
+    Validate.notNull(keys, "keys is required");
+    Validate.isTrue(
+        falsePositiveRate > 0 && falsePositiveRate < 1, "falsePositiveRate must be in (0, 1)");
+    if (keys.isEmpty()) {
+      return new AddressBloomFilter(fromHeight, toHeight, 0, new long[0]);
+    }
+    double log2 = Math.log(2);
+    double optimalBits = -keys.size() * Math.log(falsePositiveRate) / (log2 * log2);
+    int bitCount = MIN_BITS;
+    while (bitCount < optimalBits && bitCount < (1 << 30)) {
+      bitCount <<= 1;
+    }
+    int hashCount =
+        Math.max(
+            1, Math.min(MAX_HASH_COUNT, (int) Math.round((double) bitCount / keys.size() * log2)));
+    long[] bits = new long[bitCount / Long.SIZE];
+    long mask = bitCount - 1;
+    for (Key key : keys) {
+      long position = key.h1;
+      for (int i = 0; i < hashCount; i++) {
+        int bit = (int) (position & mask);
+        bits[bit >>> 6] |= 1L << bit;
+        position += key.h2;
+      }
+    }
+    return new AddressBloomFilter(fromHeight, toHeight, hashCount, bits);
+  }
+
+  /**
+   * @param key the address key.
+   * @return false if the address is definitely not in the range, true if it may be.
+   */
+  public boolean mightContain(Key key) {
+    if (bits.length == 0) {
+      return false;
+    }
+    long mask = getBitCount() - 1L;
+    long position = key.h1;
+    for (int i = 0; i < hashCount; i++) {
+      int bit = (int) (position & mask);
+      if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+        return false;
+      }
+      position += key.h2;
+    }
+    return true;
+  }
+
+  /** @return the first height of the range. */
+  public long getFromHeight() {
+    return fromHeight;
+  }
+
+  /** @return the last height of the range. */
+  public long getToHeight() {
+    return toHeight;
+  }
+
+  /** @return the number of hash functions. */
+  public int getHashCount() {
+    return hashCount;
+  }
+
+  /** @return the number of bits, a power of two or 0 for an empty range. */
+  public int getBitCount() {
+    return bits.length * Long.SIZE;
+  }
+
+  /** @return true if no address was added to the filter. */
+  public boolean isEmpty() {
+    return bits.length == 0;
+  }
+
+  long[] getBits() {
+    return bits;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    AddressBloomFilter that = (AddressBloomFilter) o;
+    return fromHeight == that.fromHeight
+        && toHeight == that.toHeight
+        && hashCount == that.hashCount
+        && Arrays.equals(bits, that.bits);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Long.hashCode(fromHeight) + Arrays.hashCode(bits);
+  }
+
+  /**
+   * The hash of an address. Keys are computed from the 24 bytes encoded form, so an {@link
+   * io.nem.symbol.sdk.model.account.Address} and a {@link
+   * io.nem.symbol.sdk.model.namespace.NamespaceId} get different keys.
+   */
+  public static class Key {
+
+    private final long h1;
+
+    private final long h2;
+
+    private Key(long h1, long h2) {
+      this.h1 = h1;
+      this.h2 = h2;
+    }
+
+    /**
+     * @param address the address or namespace id.
+     * @param networkType the network type.
+     * @return the key of the address.
+     */
+    public static Key of(UnresolvedAddress address, NetworkType networkType) {
+      Validate.notNull(address, "address is required");
+      Validate.notNull(networkType, "networkType is required");
+      ByteBuffer buffer =
+          SerializationUtils.fromUnresolvedAddressToByteBuffer(address, networkType);
+      long h1 = mix(buffer.getLong(0) ^ mix(buffer.getLong(8) ^ mix(buffer.getLong(16))));
+      // The second hash must be odd to visit distinct positions of a power of two filter.
+      long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+      return new Key(h1, h2);
+    }
+
+    /**
+     * Returns the first bit position of the key in a filter of the given size.
+     *
+     * @param bitCount the number of bits, a power of two.
+     * @return the position.
+     */
+    int firstBit(int bitCount) {
+      return (int) (h1 & (bitCount - 1));
+    }
+
+    private static long mix(long value) {
+      value ^= value >>> 33;
+      value *= 0xFF51AFD7ED558CCDL;
+      value ^= value >>> 33;
+      value *= 0xC4CEB9FE1A85EC53L;
+      value ^= value >>> 33;
+      return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Key key = (Key) o;
+      return h1 == key.h1 && h2 == key.h2;
+    }
+
+    @Override
+    public int hashCode() {
+      return Long.hashCode(h1);
+    }
+  }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.infrastructure.AddressBloomFilter.Key;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A sorted list of {@link AddressBloomFilter}, one per block or range of blocks, used to skip the
+ * blocks that cannot touch any watched address.
+ *
+ * <p>Looking up a large watched set does not test every address against every filter. The watched
+ * keys are bucketed by their first bit position, so a filter is only tested against the addresses
+ * whose first bit is set in it.
+ *
+ * <p>File layout, big endian:
+ *
+ * <pre>
+ * magic (8 bytes) | network type (1 byte) | filter count (int)
+ * per filter: from height (long) | to height (long) | hash count (int) | words (int) | bits
+ * </pre>
+ */
+public class AddressBloomIndex {
+
+  /** The magic bytes at the beginning of the file. */
+  static final byte[] MAGIC = "SYMBLMv1".getBytes(StandardCharsets.US_ASCII);
+
+  private final NetworkType networkType;
+
+  private final List<AddressBloomFilter> filters = new ArrayList<>();
+
+  /** @param networkType the network type of the indexed addresses. */
+  public AddressBloomIndex(NetworkType networkType) {
+    Validate.notNull(networkType, "networkType is required");
+    this.networkType = networkType;
+  }
+
+  /**
+   * Appends the filter of the next range of blocks.
+   *
+   * @param filter the filter. Its range must start after the last added range.
+   */
+  public void add(AddressBloomFilter filter) {
+    Validate.notNull(filter, "filter is required");
+    if (!filters.isEmpty()) {
+      AddressBloomFilter last = filters.get(filters.size() - 1);
+      Validate.isTrue(
+          filter.getFromHeight() > last.getToHeight(),
+          "Filter starting at %s overlaps the last filter ending at %s",
+          filter.getFromHeight(),
+          last.getToHeight());
+    }
+    filters.add(filter);
+  }
+
+  /**
+   * Returns the ranges of blocks that may touch any of the given addresses.
+   *
+   * @param addresses the watched addresses or namespace ids.
+   * @return the filters of the candidate ranges, in height order.
+   */
+  public List<AddressBloomFilter> getCandidates(Collection<? extends UnresolvedAddress> addresses) {
+    Validate.notNull(addresses, "addresses is required");
+    Key[] keys = addresses.stream().map(a -> Key.of(a, networkType)).distinct().toArray(Key[]::new);
+    if (keys.length == 0) {
+      return Collections.emptyList();
+    }
+    Map<Integer, Buckets> buckets = new HashMap<>();
+    List<AddressBloomFilter> candidates = new ArrayList<>();
+    for (AddressBloomFilter filter : filters) {
+      if (filter.isEmpty()) {
+        continue;
+      }
+      boolean candidate;
+      // A bucketed lookup costs a pass over the filter words, a direct one a lookup per address.
+      if (filter.getBitCount() / Long.SIZE < keys.length) {
+        candidate =
+            buckets
+                .computeIfAbsent(filter.getBitCount(), bitCount -> new Buckets(keys, bitCount))
+                .mightContainAny(filter);
+      } else {
+        candidate = Arrays.stream(keys).anyMatch(filter::mightContain);
+      }
+      if (candidate) {
+        candidates.add(filter);
+      }
+    }
+    return candidates;
+  }
+
+  /**
+   * @param height the block height.
+   * @param address the address or namespace id.
+   * @return false if the block definitely does not touch the address, true if it may.
+   */
+  public boolean mightContain(long height, UnresolvedAddress address) {
+    Key key = Key.of(address, networkType);
+    int low = 0;
+    int high = filters.size() - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      AddressBloomFilter filter = filters.get(middle);
+      if (filter.getToHeight() < height) {
+        low = middle + 1;
+      } else if (filter.getFromHeight() > height) {
+        high = middle - 1;
+      } else {
+        return filter.mightContain(key);
+      }
+    }
+    return false;
+  }
+
+  /** @return the filters in height order. */
+  public List<AddressBloomFilter> getFilters() {
+    return Collections.unmodifiableList(filters);
+  }
+
+  /** @return the network type of the indexed addresses. */
+  public NetworkType getNetworkType() {
+    return networkType;
+  }
+
+  /**
+   * Writes the index into a file.
+   *
+   * @param file the file to create or overwrite.
+   * @throws IOException if the file cannot be written.
+   */
+  public void writeTo(Path file) throws IOException {
+    Validate.notNull(file, "file is required");
+    try (DataOutputStream output =
+        new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+      output.write(MAGIC);
+      output.writeByte(networkType.getValue());
+      output.writeInt(filters.size());
+      for (AddressBloomFilter filter : filters) {
+        output.writeLong(filter.getFromHeight());
+        output.writeLong(filter.getToHeight());
+        output.writeInt(filter.getHashCount());
+        long[] bits = filter.getBits();
+        output.writeInt(bits.length);
+        for (long word : bits) {
+          output.writeLong(word);
+        }
+      }
+    }
+  }
+
+  /**
+   * Reads an index written with {@link #writeTo(Path)}.
+   *
+   * @param file the file.
+   * @return the index.
+   * @throws IOException if the file cannot be read or it is not a valid file.
+   */
+  public static AddressBloomIndex readFrom(Path file) throws IOException {
+    Validate.notNull(file, "file is required");
+    try (DataInputStream input =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      byte[] magic = new byte[MAGIC.length];
+      input.readFully(magic);
+      if (!Arrays.equals(magic, MAGIC)) {
+        throw new IOException("Invalid address bloom index file " + file);
+      }
+      AddressBloomIndex index =
+          new AddressBloomIndex(NetworkType.rawValueOf(input.readByte() & 0xFF));
+      int count = input.readInt();
+      for (int i = 0; i < count; i++) {
+        long fromHeight = input.readLong();
+        long toHeight = input.readLong();
+        int hashCount = input.readInt();
+        long[] bits = new long[input.readInt()];
+        for (int w = 0; w < bits.length; w++) {
+          bits[w] = input.readLong();
+        }
+        index.add(new AddressBloomFilter(fromHeight, toHeight, hashCount, bits));
+      }
+      return index;
+    }
+  }
+
+  /** The watched keys grouped by their first bit position in filters of a given size. */
+  private static class Buckets {
+
+    private final Key[] keys;
+
+    private final long[] firstBits;
+
+    private final int[] heads;
+
+    private final int[] next;
+
+    private Buckets(Key[] keys, int bitCount) {
+      this.keys = keys;
+      this.firstBits = new long[bitCount / Long.SIZE];
+      this.heads = new int[bitCount];
+      this.next = new int[keys.length];
+      Arrays.fill(heads, -1);
+      for (int i = 0; i < keys.length; i++) {
+        int bit = keys[i].firstBit(bitCount);
+        firstBits[bit >>> 6] |= 1L << bit;
+        next[i] = heads[bit];
+        heads[bit] = i;
+      }
+    }
+
+    private boolean mightContainAny(AddressBloomFilter filter) {
+      long[] bits = filter.getBits();
+      for (int w = 0; w < bits.length; w++) {
+        long candidates = bits[w] & firstBits[w];
+        while (candidates != 0) {
+          int bit = (w << 6) + Long.numberOfTrailingZeros(candidates);
+          for (int i = heads[bit]; i >= 0; i = next[i]) {
+            if (filter.mightContain(keys[i])) {
+              return true;
+            }
+          }
+          candidates &= candidates - 1;
+        }
+      }
+      return false;
+    }
+  }
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.ReceiptPaginationStreamer;
+import io.nem.symbol.sdk.api.ReceiptRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.ResolutionStatementSearchCriteria;
+import io.nem.symbol.sdk.api.TransactionPaginationStreamer;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.api.TransactionSearchCriteria;
+import io.nem.symbol.sdk.infrastructure.AddressBloomFilter.Key;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.PublicAccount;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.namespace.NamespaceId;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.receipt.AddressResolutionStatement;
+import io.nem.symbol.sdk.model.receipt.ResolutionEntry;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.RecipientTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionGroup;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Builds an {@link AddressBloomIndex} by streaming the confirmed transactions of a range of blocks,
+ * and scans the transactions of the watched addresses using the index to skip blocks.
+ *
+ * <p>The filter of a block covers the signers and recipients of its transactions, including the
+ * inner transactions of aggregates, and the addresses the recipient aliases resolved to in that
+ * block.
+ */
+public class AddressBloomIndexBuilder {
+
+  /** The default target false positive rate of a single address lookup. */
+  public static final double DEFAULT_FALSE_POSITIVE_RATE = 1e-7;
+
+  /** The approximate number of blocks whose transactions are requested in one search. */
+  private static final int FETCH_BLOCKS = 100;
+
+  private final TransactionRepository transactionRepository;
+
+  private final ReceiptRepository receiptRepository;
+
+  private final Observable<NetworkType> networkType;
+
+  private final int blocksPerFilter;
+
+  private final double falsePositiveRate;
+
+  /**
+   * Creates a builder with one filter per block and {@link #DEFAULT_FALSE_POSITIVE_RATE}.
+   *
+   * @param repositoryFactory the repository factory.
+   */
+  public AddressBloomIndexBuilder(RepositoryFactory repositoryFactory) {
+    this(repositoryFactory, 1, DEFAULT_FALSE_POSITIVE_RATE);
+  }
+
+  /**
+   * @param repositoryFactory the repository factory.
+   * @param blocksPerFilter the number of blocks covered by each filter.
+   * @param falsePositiveRate the target false positive rate of a single address lookup. A scan of
+   *     N addresses visits a non matching range with a probability close to N times this rate.
+   */
+  public AddressBloomIndexBuilder(
+      RepositoryFactory repositoryFactory, int blocksPerFilter, double falsePositiveRate) {
+    Validate.notNull(repositoryFactory, "repositoryFactory is required");
+    Validate.isTrue(blocksPerFilter > 0, "blocksPerFilter must be greater than 0");
+    Validate.isTrue(
+        falsePositiveRate > 0 && falsePositiveRate < 1, "falsePositiveRate must be in (0, 1)");
+    this.transactionRepository = repositoryFactory.createTransactionRepository();
+    this.receiptRepository = repositoryFactory.createReceiptRepository();
+    this.networkType = repositoryFactory.getNetworkType();
+    this.blocksPerFilter = blocksPerFilter;
+    this.falsePositiveRate = falsePositiveRate;
+  }
+
+  /**
+   * Builds the index of the blocks between the given heights, both inclusive.
+   *
+   * @param fromHeight the first height.
+   * @param toHeight the last height.
+   * @return an observable of the index, emitted once all the blocks have been streamed.
+   */
+  public Observable<AddressBloomIndex> build(BigInteger fromHeight, BigInteger toHeight) {
+    Validate.notNull(fromHeight, "fromHeight is required");
+    Validate.notNull(toHeight, "toHeight is required");
+    Validate.isTrue(fromHeight.compareTo(toHeight) <= 0, "fromHeight must not exceed toHeight");
+    long from = fromHeight.longValue();
+    long to = toHeight.longValue();
+    long fetchSize = (long) blocksPerFilter * Math.max(1, FETCH_BLOCKS / blocksPerFilter);
+    return networkType.flatMap(
+        type -> {
+          AddressBloomIndex index = new AddressBloomIndex(type);
+          return Observable.rangeLong(0, (to - from) / fetchSize + 1)
+              .map(i -> from + i * fetchSize)
+              .concatMap(start -> getAddresses(start, Math.min(to, start + fetchSize - 1)))
+              .doOnNext(addresses -> addFilters(index, type, addresses))
+              .ignoreElements()
+              .andThen(Observable.just(index));
+        });
+  }
+
+  private void addFilters(
+      AddressBloomIndex index, NetworkType type, BlockAddresses blockAddresses) {
+    for (long start = blockAddresses.fromHeight;
+        start <= blockAddresses.toHeight;
+        start += blocksPerFilter) {
+      long end = Math.min(blockAddresses.toHeight, start + blocksPerFilter - 1);
+      Set<Key> keys = new HashSet<>();
+      blockAddresses
+          .addresses
+          .subMap(start, true, end, true)
+          .values()
+          .forEach(addresses -> addresses.forEach(a -> keys.add(Key.of(a, type))));
+      index.add(AddressBloomFilter.create(start, end, keys, falsePositiveRate));
+    }
+  }
+
+  /**
+   * Streams the confirmed transactions of the candidate blocks of the index that touch any of the
+   * given addresses. Blocks whose filter rules the addresses out are not requested.
+   *
+   * @param index the index.
+   * @param addresses the watched addresses.
+   * @return the matching transactions in height order. Inner transactions are emitted on their own.
+   */
+  public Observable<Transaction> scan(AddressBloomIndex index, Collection<Address> addresses) {
+    Validate.notNull(index, "index is required");
+    Validate.notNull(addresses, "addresses is required");
+    Set<Address> watched = new HashSet<>(addresses);
+    return Observable.defer(() -> Observable.fromIterable(index.getCandidates(watched)))
+        .concatMap(
+            filter ->
+                getTransactions(filter.getFromHeight(), filter.getToHeight())
+                    .flatMap(
+                        transactions ->
+                            getResolutions(transactions)
+                                .map(
+                                    resolutions ->
+                                        transactions.stream()
+                                            .filter(
+                                                t ->
+                                                    getAddresses(t, resolutions).stream()
+                                                        .anyMatch(watched::contains))
+                                            .collect(Collectors.toList()))))
+        .flatMapIterable(transactions -> transactions);
+  }
+
+  private Observable<BlockAddresses> getAddresses(long fromHeight, long toHeight) {
+    return getTransactions(fromHeight, toHeight)
+        .flatMap(
+            transactions ->
+                getResolutions(transactions)
+                    .map(
+                        resolutions -> {
+                          BlockAddresses blockAddresses =
+                              new BlockAddresses(fromHeight, toHeight);
+                          for (Transaction transaction : transactions) {
+                            blockAddresses.add(
+                                getHeight(transaction), getAddresses(transaction, resolutions));
+                          }
+                          return blockAddresses;
+                        }));
+  }
+
+  private Observable<List<Transaction>> getTransactions(long fromHeight, long toHeight) {
+    TransactionSearchCriteria criteria =
+        new TransactionSearchCriteria(TransactionGroup.CONFIRMED)
+            .fromHeight(BigInteger.valueOf(fromHeight))
+            .toHeight(BigInteger.valueOf(toHeight))
+            .embedded(true);
+    return new TransactionPaginationStreamer(transactionRepository)
+        .search(criteria)
+        .toList()
+        .toObservable();
+  }
+
+  /**
+   * Loads the address resolutions of the heights where an alias was used as recipient.
+   *
+   * @param transactions the transactions.
+   * @return the resolved addresses by height and alias.
+   */
+  private Observable<Map<Long, Map<UnresolvedAddress, List<Address>>>> getResolutions(
+      List<Transaction> transactions) {
+    Set<Long> heights = new HashSet<>();
+    for (Transaction transaction : transactions) {
+      for (UnresolvedAddress recipient : getRecipients(transaction)) {
+        if (recipient instanceof NamespaceId) {
+          heights.add(getHeight(transaction));
+        }
+      }
+    }
+    return Observable.fromIterable(heights)
+        .concatMap(
+            height ->
+                ReceiptPaginationStreamer.addresses(receiptRepository)
+                    .search(
+                        new ResolutionStatementSearchCriteria().height(BigInteger.valueOf(height))))
+        .toList()
+        .map(
+            statements -> {
+              Map<Long, Map<UnresolvedAddress, List<Address>>> resolutions = new HashMap<>();
+              for (AddressResolutionStatement statement : statements) {
+                resolutions
+                    .computeIfAbsent(statement.getHeight().longValue(), h -> new HashMap<>())
+                    .put(
+                        statement.getUnresolved(),
+                        statement.getResolutionEntries().stream()
+                            .map(ResolutionEntry::getResolved)
+                            .collect(Collectors.toList()));
+              }
+              return resolutions;
+            })
+        .toObservable();
+  }
+
+  /**
+   * Returns the addresses touched by a transaction: the signer, the recipients and the addresses
+   * the recipient aliases resolved to.
+   */
+  private static List<UnresolvedAddress> getAddresses(
+      Transaction transaction, Map<Long, Map<UnresolvedAddress, List<Address>>> resolutions) {
+    Map<UnresolvedAddress, List<Address>> heightResolutions =
+        resolutions.getOrDefault(getHeight(transaction), Collections.emptyMap());
+    List<UnresolvedAddress> addresses = new ArrayList<>();
+    addAddresses(transaction, heightResolutions, addresses);
+    return addresses;
+  }
+
+  private static void addAddresses(
+      Transaction transaction,
+      Map<UnresolvedAddress, List<Address>> resolutions,
+      List<UnresolvedAddress> addresses) {
+    transaction.getSigner().map(PublicAccount::getAddress).ifPresent(addresses::add);
+    if (transaction instanceof RecipientTransaction) {
+      UnresolvedAddress recipient = ((RecipientTransaction) transaction).getRecipient();
+      addresses.add(recipient);
+      addresses.addAll(resolutions.getOrDefault(recipient, Collections.emptyList()));
+    }
+    if (transaction instanceof AggregateTransaction) {
+      for (Transaction inner : ((AggregateTransaction) transaction).getInnerTransactions()) {
+        addAddresses(inner, resolutions, addresses);
+      }
+    }
+  }
+
+  private static List<UnresolvedAddress> getRecipients(Transaction transaction) {
+    List<UnresolvedAddress> recipients = new ArrayList<>();
+    if (transaction instanceof RecipientTransaction) {
+      recipients.add(((RecipientTransaction) transaction).getRecipient());
+    }
+    if (transaction instanceof AggregateTransaction) {
+      for (Transaction inner : ((AggregateTransaction) transaction).getInnerTransactions()) {
+        recipients.addAll(getRecipients(inner));
+      }
+    }
+    return recipients;
+  }
+
+  private static long getHeight(Transaction transaction) {
+    return transaction
+        .getTransactionInfo()
+        .map(TransactionInfo::getHeight)
+        .orElseThrow(
+            () ->
+                new IllegalArgumentException(
+                    "Transaction Info is required in " + transaction.getType() + " transaction"))
+        .longValue();
+  }
+
+  /** The addresses touched by each block of a range. */
+  private static class BlockAddresses {
+
+    private final long fromHeight;
+
+    private final long toHeight;
+
+    private final TreeMap<Long, List<UnresolvedAddress>> addresses = new TreeMap<>();
+
+    private BlockAddresses(long fromHeight, long toHeight) {
+      this.fromHeight = fromHeight;
+      this.toHeight = toHeight;
+    }
+
+    private void add(long height, List<UnresolvedAddress> transactionAddresses) {
+      addresses.computeIfAbsent(height, h -> new ArrayList<>()).addAll(transactionAddresses);
+    }
+  }
+}
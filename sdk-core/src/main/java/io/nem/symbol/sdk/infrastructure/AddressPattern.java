@@ -0,0 +1,170 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.util.function.Predicate;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A filter of the addresses whose plain representation starts with a prefix and ends with a
+ * suffix, created with {@link AccountGenerator#addressStartsWith(String)} and {@link
+ * AccountGenerator#addressEndsWith(String)}.
+ *
+ * <p>Unlike a plain predicate, the pattern knows which addresses can exist, so {@link
+ * AccountGenerator} rejects a pattern that no address of the network type can match instead of
+ * searching forever.
+ */
+public class AddressPattern implements Predicate<Address> {
+
+  /** The number of characters of a plain address. */
+  public static final int PLAIN_ADDRESS_SIZE = 39;
+
+  private static final String BASE32_ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ234567";
+
+  /** The last character of an address only carries 2 bits followed by 3 zero bits. */
+  private static final String LAST_CHARACTERS = "AIQY";
+
+  private final String prefix;
+
+  private final String suffix;
+
+  private AddressPattern(String prefix, String suffix) {
+    this.prefix = prefix;
+    this.suffix = suffix;
+  }
+
+  /**
+   * Creates a pattern of the addresses starting with the prefix.
+   *
+   * @param prefix the Base32 prefix, case insensitive.
+   * @return the pattern.
+   */
+  static AddressPattern startsWith(String prefix) {
+    return new AddressPattern(toBase32(prefix), "");
+  }
+
+  /**
+   * Creates a pattern of the addresses ending with the suffix.
+   *
+   * @param suffix the Base32 suffix, case insensitive.
+   * @return the pattern.
+   */
+  static AddressPattern endsWith(String suffix) {
+    String normalized = toBase32(suffix);
+    Validate.isTrue(
+        normalized.isEmpty()
+            || LAST_CHARACTERS.indexOf(normalized.charAt(normalized.length() - 1)) >= 0,
+        "'%s' cannot be the end of an address, addresses always end with A, I, Q or Y",
+        suffix);
+    return new AddressPattern("", normalized);
+  }
+
+  /** @return the prefix of the addresses, empty if any prefix matches. */
+  public String getPrefix() {
+    return prefix;
+  }
+
+  /** @return the suffix of the addresses, empty if any suffix matches. */
+  public String getSuffix() {
+    return suffix;
+  }
+
+  @Override
+  public boolean test(Address address) {
+    String plain = address.plain();
+    return plain.startsWith(prefix) && plain.endsWith(suffix);
+  }
+
+  /**
+   * Combines two patterns, for example a prefix and a suffix.
+   *
+   * @param other the other pattern.
+   * @return the pattern of the addresses matching both patterns.
+   */
+  public AddressPattern and(AddressPattern other) {
+    Validate.notNull(other, "Other pattern must not be null");
+    Validate.isTrue(
+        prefix.startsWith(other.prefix) || other.prefix.startsWith(prefix),
+        "Prefixes '%s' and '%s' cannot match the same address",
+        prefix,
+        other.prefix);
+    Validate.isTrue(
+        suffix.endsWith(other.suffix) || other.suffix.endsWith(suffix),
+        "Suffixes '%s' and '%s' cannot match the same address",
+        suffix,
+        other.suffix);
+    return new AddressPattern(
+        prefix.length() >= other.prefix.length() ? prefix : other.prefix,
+        suffix.length() >= other.suffix.length() ? suffix : other.suffix);
+  }
+
+  /**
+   * Validates that addresses of the network type can match the pattern. The first character of
+   * an address is given by the network type and the second one by the network type and 2 bits of
+   * the public key hash.
+   *
+   * @param networkType the network type of the generated addresses.
+   */
+  public void validate(NetworkType networkType) {
+    Validate.notNull(networkType, "Network type must not be null");
+    if (prefix.isEmpty()) {
+      return;
+    }
+    int networkByte = networkType.getValue();
+    char first = BASE32_ALPHABET.charAt(networkByte >> 3);
+    Validate.isTrue(
+        prefix.charAt(0) == first,
+        "Addresses of network type %s start with %s, they cannot start with '%s'",
+        networkType,
+        first,
+        prefix);
+    if (prefix.length() > 1) {
+      int second = (networkByte & 0x07) << 2;
+      Validate.isTrue(
+          BASE32_ALPHABET.indexOf(prefix.charAt(1)) >> 2 == (networkByte & 0x07),
+          "The second character of addresses of network type %s is between %s and %s, they"
+              + " cannot start with '%s'",
+          networkType,
+          BASE32_ALPHABET.charAt(second),
+          BASE32_ALPHABET.charAt(second + 3),
+          prefix);
+    }
+  }
+
+  private static String toBase32(String value) {
+    Validate.notNull(value, "Value must not be null");
+    String normalized = value.trim().toUpperCase();
+    Validate.isTrue(
+        normalized.length() <= PLAIN_ADDRESS_SIZE,
+        "'%s' is longer than an address of %d characters",
+        value,
+        PLAIN_ADDRESS_SIZE);
+    for (int i = 0; i < normalized.length(); i++) {
+      Validate.isTrue(
+          BASE32_ALPHABET.indexOf(normalized.charAt(i)) >= 0,
+          "'%s' is not a Base32 string, addresses never contain 0, 1, 8 or 9",
+          value);
+    }
+    return normalized;
+  }
+
+  @Override
+  public String toString() {
+    return "AddressPattern{prefix='" + prefix + "', suffix='" + suffix + "'}";
+  }
+}
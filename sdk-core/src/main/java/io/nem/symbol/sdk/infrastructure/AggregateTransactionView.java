@@ -0,0 +1,116 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Read-only flyweight view of a serialized aggregate transaction. The inner transactions are
+ * visited lazily with a single reused {@link TransactionView}.
+ *
+ * <p>The body layout is the transactions hash (32 bytes), the payload size (4 bytes), 4 reserved
+ * bytes, the embedded transactions, each one padded to 8 bytes, and the cosignatures.
+ */
+public class AggregateTransactionView extends TransactionView {
+
+  private static final int TRANSACTIONS_OFFSET = 40;
+
+  private static final int COSIGNATURE_SIZE = 104;
+
+  private static final int ALIGNMENT = 8;
+
+  private final TransactionView innerView = new TransactionView();
+
+  @Override
+  AggregateTransactionView position(ByteBuffer payload, int offset, boolean embedded) {
+    Validate.isTrue(!embedded, "Aggregate transactions cannot be embedded");
+    super.position(payload, offset, false);
+    int type = getTypeValue();
+    Validate.isTrue(
+        type == TransactionType.AGGREGATE_COMPLETE.getValue()
+            || type == TransactionType.AGGREGATE_BONDED.getValue(),
+        "Transaction is not an aggregate transaction");
+    Validate.isTrue(
+        getPayloadSize() >= 0 && getTransactionsEnd() <= getOffset() + getSize(),
+        "Invalid aggregate transaction body");
+    return this;
+  }
+
+  @Override
+  public AggregateTransactionView wrap(ByteBuffer payload, int offset) {
+    return position(payload, offset, false);
+  }
+
+  /** @return the hash of the inner transactions. */
+  public String getTransactionsHash() {
+    byte[] hash = new byte[32];
+    for (int i = 0; i < hash.length; i++) {
+      hash[i] = getBuffer().get(getBodyOffset() + i);
+    }
+    return ConvertUtils.toHex(hash);
+  }
+
+  /** @return the size of the inner transactions, padding included. */
+  public int getPayloadSize() {
+    return getBuffer().getInt(getBodyOffset() + 32);
+  }
+
+  /** @return the number of inner transactions. */
+  public int getInnerTransactionsCount() {
+    int count = 0;
+    int end = getTransactionsEnd();
+    for (int position = getTransactionsStart(); position < end; position = next(position)) {
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * Visits the inner transactions in order. The same view instance is positioned on each inner
+   * transaction, consumers must not keep it.
+   *
+   * @param consumer the consumer of the inner transaction views.
+   */
+  public void forEachInnerTransaction(Consumer<TransactionView> consumer) {
+    int end = getTransactionsEnd();
+    for (int position = getTransactionsStart(); position < end; position = next(position)) {
+      consumer.accept(innerView.wrapEmbedded(getSource(), position));
+    }
+  }
+
+  /** @return the number of cosignatures. */
+  public int getCosignaturesCount() {
+    return (getOffset() + getSize() - getTransactionsEnd()) / COSIGNATURE_SIZE;
+  }
+
+  private int getTransactionsStart() {
+    return getBodyOffset() + TRANSACTIONS_OFFSET;
+  }
+
+  private int getTransactionsEnd() {
+    return getTransactionsStart() + getPayloadSize();
+  }
+
+  private int next(int position) {
+    int size = getBuffer().getInt(position);
+    Validate.isTrue(size >= EMBEDDED_HEADER_SIZE, "Invalid embedded transaction size %d", size);
+    return position + size + (ALIGNMENT - size % ALIGNMENT) % ALIGNMENT;
+  }
+}
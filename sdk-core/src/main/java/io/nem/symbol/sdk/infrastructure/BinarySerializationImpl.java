@@ -71,8 +71,10 @@ import io.nem.symbol.catapult.builders.VrfKeyLinkTransactionBodyBuilder;
 import io.nem.symbol.core.crypto.PublicKey;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.core.utils.ExceptionUtils;
+import io.nem.symbol.core.utils.MapperUtils;
 import io.nem.symbol.core.utils.StringEncoder;
 import io.nem.symbol.sdk.api.BinarySerialization;
+import io.nem.symbol.sdk.api.DeserializationResult;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.PublicAccount;
 import io.nem.symbol.sdk.model.account.UnresolvedAddress;
@@ -150,16 +152,18 @@ import io.nem.symbol.sdk.model.transaction.VrfKeyLinkTransactionFactory;
 import java.io.DataInputStream;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.EnumSet;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.Validate;
-import org.apache.commons.lang3.tuple.Pair;
 
 /**
  * Implementation of BinarySerialization. It uses the catbuffer generated builders to deserialize an
@@ -168,11 +172,47 @@ import org.apache.commons.lang3.tuple.Pair;
 public class BinarySerializationImpl implements BinarySerialization {
 
   /** Cached instance. */
-  public static final BinarySerialization INSTANCE = new BinarySerializationImpl();
+  public static final BinarySerializationImpl INSTANCE = new BinarySerializationImpl();
 
-  /** The serializers, one per {@link TransactionType} must be registered. */
-  private final Map<Pair<TransactionType, Integer>, TransactionSerializer<?>> serializers =
-      new HashMap<>();
+  /** The size of a transaction signature. */
+  private static final int SIGNATURE_SIZE = 64;
+
+  /** The size of the common attributes of a top level transaction. */
+  private static final int HEADER_SIZE = 128;
+
+  /** The size of a public key. */
+  private static final int PUBLIC_KEY_SIZE = 32;
+
+  /** The size of a serialized unresolved address. */
+  private static final int UNRESOLVED_ADDRESS_SIZE = 24;
+
+  /** The size of the common attributes of an embedded transaction. */
+  private static final int EMBEDDED_HEADER_SIZE = 48;
+
+  /** The size of a transfer body without mosaics and message. */
+  private static final int TRANSFER_FIXED_BODY_SIZE = 32;
+
+  /** The size of a serialized mosaic, id and amount. */
+  private static final int MOSAIC_SIZE = 16;
+
+  /** The size of an aggregate body without transactions and cosignatures. */
+  private static final int AGGREGATE_FIXED_BODY_SIZE = 40;
+
+  /** The size of a serialized cosignature, version, signer and signature. */
+  private static final int COSIGNATURE_SIZE = 104;
+
+  /** The alignment of the embedded transactions of an aggregate. */
+  private static final int ALIGNMENT = 8;
+
+  /** The payload of a transfer without message. */
+  private static final byte[] EMPTY_MESSAGE = new byte[0];
+
+  /**
+   * The serializers indexed by {@link TransactionType} ordinal and version, one per {@link
+   * TransactionType} must be registered.
+   */
+  private final TransactionSerializer<?>[][] serializers =
+      new TransactionSerializer<?>[TransactionType.values().length][0];
 
   /** Constructor */
   public BinarySerializationImpl() {
@@ -205,9 +245,13 @@ public class BinarySerializationImpl implements BinarySerialization {
   /** @param serializer the serializer to be registered. */
   private void register(TransactionSerializer serializer) {
 
-    Pair<TransactionType, Integer> pair =
-        Pair.of(serializer.getTransactionType(), serializer.getVersion());
-    if (serializers.put(pair, serializer) != null) {
+    int type = serializer.getTransactionType().ordinal();
+    int version = serializer.getVersion();
+    Validate.isTrue(version >= 0, "Invalid version " + version);
+    if (serializers[type].length <= version) {
+      serializers[type] = Arrays.copyOf(serializers[type], version + 1);
+    }
+    if (serializers[type][version] != null) {
       throw new IllegalArgumentException(
           "TransactionSerializer for type "
               + serializer.getTransactionType()
@@ -215,6 +259,7 @@ public class BinarySerializationImpl implements BinarySerialization {
               + serializer.getVersion()
               + " was already registered!");
     }
+    serializers[type][version] = serializer;
   }
 
   /**
@@ -227,9 +272,12 @@ public class BinarySerializationImpl implements BinarySerialization {
    */
   <T extends Transaction> TransactionSerializer<T> resolveSerializer(
       TransactionType transactionType, int version) {
+    TransactionSerializer<?>[] versions = serializers[transactionType.ordinal()];
     @SuppressWarnings("unchecked")
     TransactionSerializer<T> mapper =
-        (TransactionSerializer<T>) serializers.get(Pair.of(transactionType, version));
+        version >= 0 && version < versions.length
+            ? (TransactionSerializer<T>) versions[version]
+            : null;
     if (mapper == null) {
       throw new UnsupportedOperationException("Unimplemented Transaction type " + transactionType);
     }
@@ -249,6 +297,99 @@ public class BinarySerializationImpl implements BinarySerialization {
     return serializeTransaction(transactionBuilder.serialize(), transaction);
   }
 
+  /**
+   * Serializes a transaction straight into the given buffer. The header fields are written in
+   * place and the size is patched once the body has been written, so no intermediate arrays are
+   * concatenated.
+   *
+   * @param transaction the transaction
+   * @param buffer the destination buffer, heap, direct or mapped. It must have at least {@link
+   *     #getSize(Transaction)} bytes remaining. Its byte order is preserved.
+   * @param <T> the type of the transaction
+   * @return the number of bytes written.
+   */
+  @Override
+  public <T extends Transaction> int serializeTo(T transaction, ByteBuffer buffer) {
+    Validate.notNull(transaction, "Transaction must not be null");
+    Validate.notNull(buffer, "Buffer must not be null");
+    TransactionSerializer<T> transactionSerializer = resolveBodySerializer(transaction);
+    if (!transactionSerializer.isDirect()) {
+      byte[] bytes = transaction.serialize();
+      buffer.put(bytes);
+      return bytes.length;
+    }
+    ByteOrder order = buffer.order();
+    buffer.order(ByteOrder.LITTLE_ENDIAN);
+    try {
+      int start = buffer.position();
+      buffer.putInt(0);
+      buffer.putInt(0);
+      if (transaction.getSignature().isPresent()) {
+        putHex(buffer, transaction.getSignature().get(), SIGNATURE_SIZE);
+      } else {
+        putZeros(buffer, SIGNATURE_SIZE);
+      }
+      if (transaction.getSigner().isPresent()) {
+        buffer.put(transaction.getSigner().get().getPublicKey().getBytes());
+      } else {
+        putZeros(buffer, PUBLIC_KEY_SIZE);
+      }
+      buffer.putInt(0);
+      buffer.put(transaction.getVersion().byteValue());
+      buffer.put((byte) transaction.getNetworkType().getValue());
+      buffer.putShort((short) transaction.getType().getValue());
+      buffer.putLong(SerializationUtils.toUnsignedLong(transaction.getMaxFee()));
+      buffer.putLong(transaction.getDeadline().getValue());
+      transactionSerializer.writeBody(transaction, buffer);
+      int size = buffer.position() - start;
+      buffer.putInt(start, size);
+      return size;
+    } finally {
+      buffer.order(order);
+    }
+  }
+
+  /**
+   * Serializes a body through {@link TransactionSerializer#writeBody} into an array of the size
+   * given by {@link TransactionSerializer#getBodySize}.
+   *
+   * @param <T> the type of the transaction
+   * @param transactionSerializer the serializer.
+   * @param transaction the transaction.
+   * @return the body bytes.
+   */
+  private static <T extends Transaction> byte[] serializeBodyDirectly(
+      TransactionSerializer<T> transactionSerializer, T transaction) {
+    byte[] body = new byte[transactionSerializer.getBodySize(transaction)];
+    ByteBuffer buffer = ByteBuffer.wrap(body).order(ByteOrder.LITTLE_ENDIAN);
+    transactionSerializer.writeBody(transaction, buffer);
+    Validate.validState(!buffer.hasRemaining(), "Invalid body size calculation");
+    return body;
+  }
+
+  /**
+   * Writes a hex value into the buffer without allocating the decoded array.
+   *
+   * @param buffer the buffer
+   * @param hex the hex value
+   * @param size the expected number of bytes
+   */
+  private static void putHex(ByteBuffer buffer, String hex, int size) {
+    Validate.isTrue(hex.length() == size * 2, "Invalid hex size for " + hex);
+    for (int i = 0; i < hex.length(); i += 2) {
+      int high = Character.digit(hex.charAt(i), 16);
+      int low = Character.digit(hex.charAt(i + 1), 16);
+      Validate.isTrue(high >= 0 && low >= 0, "Invalid hex value " + hex);
+      buffer.put((byte) ((high << 4) | low));
+    }
+  }
+
+  private static void putZeros(ByteBuffer buffer, int size) {
+    for (int i = 0; i < size; i++) {
+      buffer.put((byte) 0);
+    }
+  }
+
   /**
    * Serialized the transfer transaction to embedded bytes.
    *
@@ -277,7 +418,7 @@ public class BinarySerializationImpl implements BinarySerialization {
   private <T extends Transaction> EmbeddedTransactionBuilder toEmbeddedTransactionBuilder(
       T transaction) {
     return EmbeddedTransactionBuilderHelper.loadFromBinary(
-        SerializationUtils.toDataInput(serializeEmbedded(transaction)));
+        SerializationUtils.toDataInput(transaction.serializeEmbedded()));
   }
 
   /**
@@ -322,6 +463,45 @@ public class BinarySerializationImpl implements BinarySerialization {
    * @return the serialized transaction.
    */
   private <T extends Transaction> byte[] serializeTransaction(byte[] commonBytes, T transaction) {
+    TransactionSerializer<T> transactionSerializer = resolveBodySerializer(transaction);
+    byte[] transactionBytes = transactionSerializer.serializeBody(transaction);
+    return SerializationUtils.concat(commonBytes, transactionBytes);
+  }
+
+  /**
+   * Writes a transaction as an embedded transaction of an aggregate, without the trailing padding.
+   * The size is patched once the body has been written.
+   *
+   * @param <T> the type of the transaction
+   * @param transaction the inner transaction.
+   * @param buffer the little endian aggregate body buffer.
+   */
+  <T extends Transaction> void writeEmbedded(T transaction, ByteBuffer buffer) {
+    TransactionSerializer<T> transactionSerializer = resolveBodySerializer(transaction);
+    if (!transactionSerializer.isDirect()) {
+      buffer.put(transaction.serializeEmbedded());
+      return;
+    }
+    int start = buffer.position();
+    buffer.putInt(0);
+    buffer.putInt(0);
+    buffer.put(getRequiredSignerBytes(transaction.getSigner()));
+    buffer.putInt(0);
+    buffer.put(transaction.getVersion().byteValue());
+    buffer.put((byte) transaction.getNetworkType().getValue());
+    buffer.putShort((short) transaction.getType().getValue());
+    transactionSerializer.writeBody(transaction, buffer);
+    buffer.putInt(start, buffer.position() - start);
+  }
+
+  /**
+   * Resolves the serializer of a transaction that is about to be serialized.
+   *
+   * @param <T> the type of the transaction
+   * @param transaction the transaction.
+   * @return the {@link TransactionSerializer}
+   */
+  private <T extends Transaction> TransactionSerializer<T> resolveBodySerializer(T transaction) {
     Validate.isTrue(
         transaction.isTransactionFullyLoaded(),
         "Partially loaded and incomplete transactions cannot be serialized.");
@@ -330,8 +510,7 @@ public class BinarySerializationImpl implements BinarySerialization {
     Validate.isTrue(
         transactionSerializer.getTransactionClass().isAssignableFrom(transaction.getClass()),
         "Invalid TransactionSerializer's transaction class.");
-    byte[] transactionBytes = transactionSerializer.toBodyBuilder(transaction).serialize();
-    return SerializationUtils.concat(commonBytes, transactionBytes);
+    return transactionSerializer;
   }
 
   /**
@@ -343,10 +522,40 @@ public class BinarySerializationImpl implements BinarySerialization {
    */
   @Override
   public <T extends Transaction> long getSize(T transaction) {
-    return getTransactionBuilder(transaction).getSize()
-        + resolveSerializer(transaction.getType(), transaction.getVersion())
-            .toBodyBuilder(transaction)
-            .getSize();
+    Validate.notNull(transaction, "Transaction must not be null");
+    if (isSizedFromModel(transaction)) {
+      return HEADER_SIZE + getBodySize(transaction);
+    }
+    return transaction.serialize().length;
+  }
+
+  /**
+   * It returns the size of the transaction once embedded in an aggregate, without padding.
+   *
+   * @param transaction the inner transaction
+   * @return the embedded size.
+   */
+  int getEmbeddedSize(Transaction transaction) {
+    if (isSizedFromModel(transaction) || !transaction.getSigner().isPresent()) {
+      return EMBEDDED_HEADER_SIZE + getBodySize(transaction);
+    }
+    return transaction.serializeEmbedded().length;
+  }
+
+  /**
+   * Transactions whose body goes through the catbuffer builder are sized from their cached
+   * serialization, so sizing and then writing them builds the body only once. Partially loaded
+   * transactions cannot be serialized and are still sized through the builder.
+   */
+  private boolean isSizedFromModel(Transaction transaction) {
+    return !transaction.isTransactionFullyLoaded()
+        || resolveSerializer(transaction.getType(), transaction.getVersion()).isDirect();
+  }
+
+  private <T extends Transaction> int getBodySize(T transaction) {
+    TransactionSerializer<T> transactionSerializer =
+        resolveSerializer(transaction.getType(), transaction.getVersion());
+    return transactionSerializer.getBodySize(transaction);
   }
 
   /**
@@ -360,6 +569,138 @@ public class BinarySerializationImpl implements BinarySerialization {
         .orElseThrow(() -> new IllegalStateException("SignerBytes is required"));
   }
 
+  /**
+   * Deserializes the transaction that starts at the buffer's current position. The common
+   * attributes are read in place and the body is decoded straight from the buffer when its
+   * serializer supports it. Other types fall back to the catbuffer builders.
+   *
+   * @param payload the buffer, heap, direct or mapped. Its position is advanced to the end of the
+   *     transaction, its byte order is not modified.
+   * @return the {@link TransactionFactory}.
+   */
+  @Override
+  public TransactionFactory<?> deserializeToFactory(ByteBuffer payload) {
+    Validate.notNull(payload, "Payload must not be null");
+    ByteBuffer buffer = payload.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    int start = buffer.position();
+    Validate.isTrue(buffer.remaining() >= HEADER_SIZE, "Payload is too small");
+    int size = buffer.getInt(start);
+    Validate.isTrue(
+        size >= HEADER_SIZE && size <= buffer.remaining(), "Invalid transaction size " + size);
+    int version = SerializationUtils.byteToUnsignedInt(buffer.get(start + 108));
+    NetworkType networkType =
+        NetworkType.rawValueOf(SerializationUtils.byteToUnsignedInt(buffer.get(start + 109)));
+    TransactionType transactionType =
+        TransactionType.rawValueOf(
+            SerializationUtils.shortToUnsignedInt(buffer.getShort(start + 110)));
+    Deadline deadline =
+        new Deadline(SerializationUtils.toUnsignedBigInteger(buffer.getLong(start + 120)));
+
+    buffer.limit(start + size);
+    buffer.position(start + HEADER_SIZE);
+    Optional<TransactionFactory<?>> bodyFactory =
+        resolveSerializer(transactionType, version).readBody(networkType, deadline, buffer);
+    TransactionFactory<?> factory;
+    if (bodyFactory.isPresent()) {
+      factory = bodyFactory.get();
+      factory.version(version);
+      factory.maxFee(SerializationUtils.toUnsignedBigInteger(buffer.getLong(start + 112)));
+      readHex(buffer, start + 8, SIGNATURE_SIZE).ifPresent(factory::signature);
+      readHex(buffer, start + 72, PUBLIC_KEY_SIZE)
+          .map(key -> PublicAccount.createFromPublicKey(key, networkType))
+          .ifPresent(factory::signer);
+    } else {
+      byte[] bytes = new byte[size];
+      buffer.position(start);
+      buffer.get(bytes);
+      factory = deserializeToFactory(bytes);
+    }
+    payload.position(start + size);
+    return factory;
+  }
+
+  /**
+   * Deserializes the transaction that starts at the buffer's current position.
+   *
+   * @param payload the buffer. Its position is advanced to the end of the transaction.
+   * @return the {@link Transaction}
+   */
+  @Override
+  public Transaction deserialize(ByteBuffer payload) {
+    return deserializeToFactory(payload).build();
+  }
+
+  /**
+   * It deserializes a batch of payloads using the common {@link ForkJoinPool}.
+   *
+   * @param payloads the byte array payloads
+   * @return one result per payload, in the same order.
+   */
+  @Override
+  public List<DeserializationResult> deserialize(List<byte[]> payloads) {
+    return deserialize(payloads, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * It deserializes a batch of payloads. The payloads are split in contiguous chunks, a few per
+   * worker, and each chunk writes its results into its own slots so no ordering step is needed.
+   *
+   * @param payloads the byte array payloads
+   * @param executor the executor running the deserialization tasks.
+   * @return one result per payload, in the same order.
+   */
+  @Override
+  public List<DeserializationResult> deserialize(List<byte[]> payloads, Executor executor) {
+    Validate.notNull(payloads, "Payloads must not be null");
+    Validate.notNull(executor, "Executor must not be null");
+    DeserializationResult[] results = new DeserializationResult[payloads.size()];
+    int parallelism =
+        executor instanceof ForkJoinPool
+            ? ((ForkJoinPool) executor).getParallelism()
+            : Runtime.getRuntime().availableProcessors();
+    int chunkSize = Math.max(1, (results.length + parallelism * 4 - 1) / (parallelism * 4));
+    List<CompletableFuture<Void>> chunks = new ArrayList<>();
+    for (int from = 0; from < results.length; from += chunkSize) {
+      int start = from;
+      int end = Math.min(results.length, from + chunkSize);
+      Runnable chunk = () -> deserializeChunk(payloads, results, start, end);
+      chunks.add(CompletableFuture.runAsync(chunk, executor));
+    }
+    CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).join();
+    return Arrays.asList(results);
+  }
+
+  private void deserializeChunk(
+      List<byte[]> payloads, DeserializationResult[] results, int start, int end) {
+    for (int i = start; i < end; i++) {
+      try {
+        byte[] payload = payloads.get(i);
+        Validate.notNull(payload, "Payload must not be null");
+        results[i] = DeserializationResult.success(i, deserialize(ByteBuffer.wrap(payload)));
+      } catch (RuntimeException e) {
+        results[i] = DeserializationResult.failure(i, e);
+      }
+    }
+  }
+
+  /**
+   * Reads a fixed size value as hex.
+   *
+   * @param buffer the buffer.
+   * @param offset the absolute offset of the value.
+   * @param size the size of the value.
+   * @return the hex value or empty if all the bytes are zeros.
+   */
+  private static Optional<String> readHex(ByteBuffer buffer, int offset, int size) {
+    byte[] bytes = new byte[size];
+    boolean allZeros = true;
+    for (int i = 0; i < size; i++) {
+      bytes[i] = buffer.get(offset + i);
+      allZeros &= bytes[i] == 0;
+    }
+    return allZeros ? Optional.empty() : Optional.of(ConvertUtils.toHex(bytes));
+  }
+
   /**
    * Deserialization of transactions. All the code related to the deserialization is handled in the
    * class and its helpers. Transaction Model Objects are not polluted with deserialization
@@ -515,6 +856,67 @@ public class BinarySerializationImpl implements BinarySerialization {
      * @return the catbuffer {@link Serializer}.
      */
     Serializer toBodyBuilder(T transaction);
+
+    /**
+     * Writes the body of the transaction, the bytes after the common attributes, into a little
+     * endian buffer. Serializers of frequent transaction types override it to write the fields
+     * directly instead of serializing the catbuffer body builder.
+     *
+     * @param transaction the transaction to be serialized
+     * @param buffer the little endian buffer.
+     */
+    default void writeBody(T transaction, ByteBuffer buffer) {
+      buffer.put(toBodyBuilder(transaction).serialize());
+    }
+
+    /**
+     * Tells whether {@link #getBodySize} and {@link #writeBody} work from the model. The other
+     * transactions go through the catbuffer body builder, they are serialized once and their cached
+     * bytes are copied instead of sizing them through a second builder.
+     *
+     * @return true if the body is sized and written without the catbuffer body builder.
+     */
+    default boolean isDirect() {
+      return false;
+    }
+
+    /**
+     * Serializes the body of the transaction. Serializers that write their body directly override
+     * it to fill an array of the known body size.
+     *
+     * @param transaction the transaction to be serialized
+     * @return the body bytes.
+     */
+    default byte[] serializeBody(T transaction) {
+      return toBodyBuilder(transaction).serialize();
+    }
+
+    /**
+     * Reads the body of a transaction straight from a little endian buffer. Serializers of
+     * frequent transaction types override it so bulk decoding skips the catbuffer body builders.
+     *
+     * @param networkType the network type
+     * @param deadline the deadline
+     * @param body the buffer positioned at the start of the body and limited to its end.
+     * @return the {@link TransactionFactory} or empty if the body can only be read with the
+     *     catbuffer builders.
+     */
+    default Optional<TransactionFactory<?>> readBody(
+        NetworkType networkType, Deadline deadline, ByteBuffer body) {
+      return Optional.empty();
+    }
+
+    /**
+     * It returns the size of the body, the bytes after the common attributes. Direct serializers
+     * override it to compute the size from the model without creating the catbuffer body builder,
+     * see {@link #isDirect()}.
+     *
+     * @param transaction the transaction
+     * @return the size of the body.
+     */
+    default int getBodySize(T transaction) {
+      return toBodyBuilder(transaction).getSize();
+    }
   }
 
   private static class TransferTransactionSerializer
@@ -558,6 +960,69 @@ public class BinarySerializationImpl implements BinarySerialization {
           getMessageBuffer(transaction));
     }
 
+    @Override
+    public Optional<TransactionFactory<?>> readBody(
+        NetworkType networkType, Deadline deadline, ByteBuffer body) {
+      byte[] recipientBytes = new byte[UNRESOLVED_ADDRESS_SIZE];
+      body.get(recipientBytes);
+      int messageSize = SerializationUtils.shortToUnsignedInt(body.getShort());
+      int mosaicsCount = SerializationUtils.byteToUnsignedInt(body.get());
+      body.position(body.position() + 5);
+      Validate.isTrue(
+          body.remaining() >= mosaicsCount * 16 + messageSize, "Invalid transfer transaction body");
+      List<Mosaic> mosaics = new ArrayList<>(mosaicsCount);
+      for (int i = 0; i < mosaicsCount; i++) {
+        MosaicId mosaicId = new MosaicId(SerializationUtils.toUnsignedBigInteger(body.getLong()));
+        mosaics.add(new Mosaic(mosaicId, SerializationUtils.toUnsignedBigInteger(body.getLong())));
+      }
+      byte[] messageArray = new byte[messageSize];
+      body.get(messageArray);
+      UnresolvedAddress recipient =
+          MapperUtils.toUnresolvedAddress(ConvertUtils.toHex(recipientBytes));
+      TransferTransactionFactory factory =
+          TransferTransactionFactory.create(networkType, deadline, recipient, mosaics);
+      Message.createFromPayload(messageArray).ifPresent(factory::message);
+      return Optional.of(factory);
+    }
+
+    @Override
+    public boolean isDirect() {
+      return true;
+    }
+
+    @Override
+    public byte[] serializeBody(TransferTransaction transaction) {
+      return serializeBodyDirectly(this, transaction);
+    }
+
+    @Override
+    public int getBodySize(TransferTransaction transaction) {
+      int messageSize = transaction.getMessage().map(m -> m.getPayload().length).orElse(0);
+      return TRANSFER_FIXED_BODY_SIZE + transaction.getMosaics().size() * MOSAIC_SIZE + messageSize;
+    }
+
+    @Override
+    public void writeBody(TransferTransaction transaction, ByteBuffer buffer) {
+      buffer.put(
+          SerializationUtils.fromUnresolvedAddressToByteBuffer(
+              transaction.getRecipient(), transaction.getNetworkType()));
+      byte[] message = transaction.getMessage().map(Message::getPayload).orElse(EMPTY_MESSAGE);
+      List<Mosaic> mosaics = transaction.getMosaics();
+      buffer.putShort((short) message.length);
+      buffer.put((byte) mosaics.size());
+      buffer.putInt(0);
+      buffer.put((byte) 0);
+      if (mosaics.size() > 1) {
+        mosaics = new ArrayList<>(mosaics);
+        mosaics.sort(Comparator.comparing(m -> m.getId().getId()));
+      }
+      for (Mosaic mosaic : mosaics) {
+        buffer.putLong(mosaic.getId().getIdAsLong());
+        buffer.putLong(SerializationUtils.toUnsignedLong(mosaic.getAmount()));
+      }
+      buffer.put(message);
+    }
+
     /**
      * Gets mosaic array.
      *
@@ -1609,6 +2074,53 @@ public class BinarySerializationImpl implements BinarySerialization {
           cosignatures);
     }
 
+    @Override
+    public boolean isDirect() {
+      return true;
+    }
+
+    @Override
+    public byte[] serializeBody(AggregateTransaction transaction) {
+      return serializeBodyDirectly(this, transaction);
+    }
+
+    /**
+     * Writes the inner transactions straight into the body, padding each one to 8 bytes, instead
+     * of serializing and parsing them back into catbuffer embedded builders.
+     */
+    @Override
+    public void writeBody(AggregateTransaction transaction, ByteBuffer buffer) {
+      buffer.put(ConvertUtils.getBytes(transaction.getTransactionsHash()));
+      int payloadSizePosition = buffer.position();
+      buffer.putInt(0);
+      buffer.putInt(0);
+      int transactionsStart = buffer.position();
+      for (Transaction innerTransaction : transaction.getInnerTransactions()) {
+        int start = buffer.position();
+        transactionSerialization.writeEmbedded(innerTransaction, buffer);
+        int padding = (ALIGNMENT - (buffer.position() - start) % ALIGNMENT) % ALIGNMENT;
+        for (int i = 0; i < padding; i++) {
+          buffer.put((byte) 0);
+        }
+      }
+      buffer.putInt(payloadSizePosition, buffer.position() - transactionsStart);
+      for (AggregateTransactionCosignature cosignature : transaction.getCosignatures()) {
+        buffer.putLong(SerializationUtils.toUnsignedLong(cosignature.getVersion()));
+        buffer.put(cosignature.getSigner().getPublicKey().getBytes());
+        buffer.put(ConvertUtils.getBytes(cosignature.getSignature()));
+      }
+    }
+
+    @Override
+    public int getBodySize(AggregateTransaction transaction) {
+      int size = AGGREGATE_FIXED_BODY_SIZE;
+      for (Transaction innerTransaction : transaction.getInnerTransactions()) {
+        int embeddedSize = transactionSerialization.getEmbeddedSize(innerTransaction);
+        size += embeddedSize + (ALIGNMENT - embeddedSize % ALIGNMENT) % ALIGNMENT;
+      }
+      return size + transaction.getCosignatures().size() * COSIGNATURE_SIZE;
+    }
+
     private CosignatureBuilder getCosignatureBuilder(AggregateTransactionCosignature c) {
       return CosignatureBuilder.create(
           SerializationUtils.toUnsignedLong(c.getVersion()),
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.BlockRepository;
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.blockchain.FinalizedBlock;
+import io.reactivex.Observable;
+import io.reactivex.disposables.CompositeDisposable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.disposables.Disposables;
+import io.reactivex.functions.Action;
+import java.math.BigInteger;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * In-memory cache of {@link BlockInfo} headers keyed by height.
+ *
+ * <p>Blocks at or below the latest known finalized height are pinned: once cached, they are never
+ * replaced. Blocks above the finalized height may be rolled back by the network. When a block
+ * arrives for a height that is already cached with a different hash, the cached entry and every
+ * non-finalized entry above it are discarded, as they belong to the abandoned fork.
+ *
+ * <p>{@link #getBlockByHeight(BlockRepository, BigInteger)} only serves the non-finalized blocks
+ * from the cache while the cache is subscribed to a {@link Listener}. Without a listener nothing
+ * would replace a block rolled back by the network, so only finalized blocks are cached.
+ *
+ * <p>When the cache is full, the lowest cached heights are evicted first.
+ */
+public class BlockInfoCache {
+
+  /** The default maximum number of cached blocks. */
+  public static final int DEFAULT_MAX_SIZE = 10_000;
+
+  /** The cached blocks sorted by height. */
+  private final ConcurrentNavigableMap<BigInteger, BlockInfo> blocks =
+      new ConcurrentSkipListMap<>();
+
+  /** The maximum number of cached blocks. */
+  private final int maxSize;
+
+  /** The latest known finalized height. Blocks at or below this height are pinned. */
+  private volatile BigInteger finalizedHeight = BigInteger.ZERO;
+
+  /** The number of listeners currently updating the cache. */
+  private final AtomicInteger subscriptions = new AtomicInteger();
+
+  /** Creates a cache with {@link #DEFAULT_MAX_SIZE} entries. */
+  public BlockInfoCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  /** @param maxSize the maximum number of cached blocks. */
+  public BlockInfoCache(int maxSize) {
+    Validate.isTrue(maxSize > 0, "maxSize must be greater than 0");
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Returns the cached block at the given height.
+   *
+   * @param height the block height.
+   * @return the cached block if present.
+   */
+  public Optional<BlockInfo> get(BigInteger height) {
+    Validate.notNull(height, "height is required");
+    return Optional.ofNullable(blocks.get(height));
+  }
+
+  /**
+   * Returns the cached block at the given height only if it has the given hash.
+   *
+   * @param height the block height.
+   * @param hash the expected block hash.
+   * @return the cached block if present and its hash matches.
+   */
+  public Optional<BlockInfo> get(BigInteger height, String hash) {
+    Validate.notNull(hash, "hash is required");
+    return get(height).filter(block -> StringUtils.equalsIgnoreCase(hash, block.getHash()));
+  }
+
+  /**
+   * Adds a block to the cache. If a block with a different hash is cached at the same height and
+   * the height is not finalized, the cached block and all the blocks above it are invalidated.
+   * Finalized blocks are never replaced.
+   *
+   * @param block the block to cache.
+   */
+  public void put(BlockInfo block) {
+    Validate.notNull(block, "block is required");
+    put(block.getHeight(), block);
+  }
+
+  private synchronized void put(BigInteger height, BlockInfo block) {
+    Validate.notNull(height, "height is required");
+    BlockInfo current = blocks.get(height);
+    if (current != null) {
+      if (isFinalized(height) || StringUtils.equalsIgnoreCase(current.getHash(), block.getHash())) {
+        return;
+      }
+      invalidateFrom(height);
+    }
+    blocks.put(height, block);
+    while (blocks.size() > maxSize) {
+      blocks.pollFirstEntry();
+    }
+  }
+
+  /**
+   * Records a new finalized block. If the cached block at the finalized height does not match the
+   * finalized hash, every non-finalized entry is discarded.
+   *
+   * @param finalizedBlock the finalized block.
+   */
+  public synchronized void finalized(FinalizedBlock finalizedBlock) {
+    Validate.notNull(finalizedBlock, "finalizedBlock is required");
+    BigInteger height = finalizedBlock.getHeight();
+    if (height.compareTo(finalizedHeight) <= 0) {
+      return;
+    }
+    BlockInfo current = blocks.get(height);
+    if (current != null
+        && !StringUtils.equalsIgnoreCase(current.getHash(), finalizedBlock.getHash())) {
+      invalidateFrom(finalizedHeight.add(BigInteger.ONE));
+    }
+    finalizedHeight = height;
+  }
+
+  /**
+   * Loads the block at the given height from the cache, or from the repository if it is not
+   * cached. Blocks loaded from the repository are added to the cache. Non-finalized blocks are only
+   * cached and served from the cache while a listener keeps the cache up to date, see {@link
+   * #subscribe(Listener)}.
+   *
+   * @param blockRepository the repository used on cache misses.
+   * @param height the block height.
+   * @return the block info.
+   */
+  public Observable<BlockInfo> getBlockByHeight(
+      BlockRepository blockRepository, BigInteger height) {
+    Validate.notNull(blockRepository, "blockRepository is required");
+    Validate.notNull(height, "height is required");
+    return Observable.defer(
+        () ->
+            get(height)
+                .filter(block -> isCacheable(height))
+                .map(Observable::just)
+                .orElseGet(
+                    () ->
+                        blockRepository
+                            .getBlockByHeight(height)
+                            .doOnNext(
+                                block -> {
+                                  if (isCacheable(height)) {
+                                    put(height, block);
+                                  }
+                                })));
+  }
+
+  /**
+   * Keeps the cache up to date with the listener's new and finalized blocks. The subscription stops
+   * counting as an up to date listener when it is disposed or when one of the listener's streams
+   * fails or completes, for example when the websocket is closed.
+   *
+   * @param listener an opened listener.
+   * @return the subscription, dispose it to stop updating the cache.
+   */
+  public Disposable subscribe(Listener listener) {
+    Validate.notNull(listener, "listener is required");
+    AtomicBoolean active = new AtomicBoolean(true);
+    Action release =
+        () -> {
+          if (active.compareAndSet(true, false)) {
+            unsubscribed();
+          }
+        };
+    subscriptions.incrementAndGet();
+    CompositeDisposable disposable = new CompositeDisposable(Disposables.fromAction(release));
+    disposable.add(listener.newBlock().subscribe(this::put, e -> release.run(), release));
+    disposable.add(
+        listener.finalizedBlock().subscribe(this::finalized, e -> release.run(), release));
+    return disposable;
+  }
+
+  /** @return if a listener is keeping the non-finalized blocks up to date. */
+  public boolean isSubscribed() {
+    return subscriptions.get() > 0;
+  }
+
+  /** @return the latest known finalized height. */
+  public BigInteger getFinalizedHeight() {
+    return finalizedHeight;
+  }
+
+  /**
+   * @param height the block height.
+   * @return if the given height is at or below the latest known finalized height.
+   */
+  public boolean isFinalized(BigInteger height) {
+    return height.compareTo(finalizedHeight) <= 0;
+  }
+
+  /** @return the number of cached blocks. */
+  public int size() {
+    return blocks.size();
+  }
+
+  /** Removes all the cached blocks. The finalized height is kept. */
+  public void clear() {
+    blocks.clear();
+  }
+
+  /**
+   * Called once per ended subscription. When the last listener is gone, the non-finalized blocks
+   * are discarded, the blocks rolled back while nobody was listening must not be served when a
+   * listener subscribes again.
+   */
+  private synchronized void unsubscribed() {
+    if (subscriptions.decrementAndGet() == 0) {
+      invalidateFrom(finalizedHeight.add(BigInteger.ONE));
+    }
+  }
+
+  private boolean isCacheable(BigInteger height) {
+    return isFinalized(height) || isSubscribed();
+  }
+
+  private void invalidateFrom(BigInteger height) {
+    BigInteger from = isFinalized(height) ? finalizedHeight.add(BigInteger.ONE) : height;
+    blocks.tailMap(from, true).clear();
+  }
+}
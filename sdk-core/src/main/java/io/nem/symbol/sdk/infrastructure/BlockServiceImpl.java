@@ -16,9 +16,11 @@
 package io.nem.symbol.sdk.infrastructure;
 
 import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.crypto.MerkleTreeBuilder;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.api.BlockRepository;
 import io.nem.symbol.sdk.api.BlockService;
+import io.nem.symbol.sdk.api.ChainRepository;
 import io.nem.symbol.sdk.api.RepositoryFactory;
 import io.nem.symbol.sdk.model.blockchain.BlockInfo;
 import io.nem.symbol.sdk.model.blockchain.MerklePathItem;
@@ -27,18 +29,55 @@ import io.nem.symbol.sdk.model.blockchain.Position;
 import io.reactivex.Observable;
 import io.reactivex.functions.BiFunction;
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.lang3.Validate;
 
 /** Implementation of {@link BlockService} */
 public class BlockServiceImpl implements BlockService {
 
+  /** The maximum number of merkle proofs requested at the same time by the batch validations. */
+  private static final int MAX_CONCURRENT_PROOF_REQUESTS = 16;
+
+  /** The minimum time between two refreshes of the latest finalized height. */
+  private static final long FINALIZED_HEIGHT_REFRESH_MILLIS = 30_000;
+
   /** The block repository. */
   private final BlockRepository blockRepository;
 
-  /** @param repositoryFactory the repository factory. */
+  /** The chain repository, used to learn the latest finalized height. */
+  private final ChainRepository chainRepository;
+
+  /** The block header cache. */
+  private final BlockInfoCache blockInfoCache;
+
+  /** The time of the last refresh of the finalized height. */
+  private final AtomicLong lastFinalizedHeightRefresh = new AtomicLong();
+
+  /**
+   * Creates a service with its own cache. The cache is not subscribed to a listener, so only the
+   * finalized block headers are cached. The finalized height is read from the chain info when a
+   * block above the known finalized height is requested, at most every 30 seconds.
+   *
+   * @param repositoryFactory the repository factory.
+   */
   public BlockServiceImpl(RepositoryFactory repositoryFactory) {
+    this(repositoryFactory, new BlockInfoCache());
+  }
+
+  /**
+   * @param repositoryFactory the repository factory.
+   * @param blockInfoCache the block header cache, it can be shared with other services. Subscribe
+   *     it to a listener to also cache the non-finalized headers, otherwise the service refreshes
+   *     its finalized height from the chain info.
+   */
+  public BlockServiceImpl(RepositoryFactory repositoryFactory, BlockInfoCache blockInfoCache) {
+    Validate.notNull(blockInfoCache, "blockInfoCache is required");
     this.blockRepository = repositoryFactory.createBlockRepository();
+    this.chainRepository = repositoryFactory.createChainRepository();
+    this.blockInfoCache = blockInfoCache;
   }
 
   @Override
@@ -46,7 +85,7 @@ public class BlockServiceImpl implements BlockService {
     Validate.notNull(height, "height is required");
     Validate.notNull(transactionHash, "transactionHash is required");
     return getBooleanObservable(
-        blockRepository.getBlockByHeight(height).map(BlockInfo::getBlockTransactionsHash),
+        getBlockByHeight(height).map(BlockInfo::getBlockTransactionsHash),
         transactionHash,
         blockRepository.getMerkleTransaction(height, transactionHash));
   }
@@ -56,37 +95,83 @@ public class BlockServiceImpl implements BlockService {
     Validate.notNull(height, "height is required");
     Validate.notNull(statementHash, "statementHash is required");
     return getBooleanObservable(
-        blockRepository.getBlockByHeight(height).map(BlockInfo::getBlockReceiptsHash),
+        getBlockByHeight(height).map(BlockInfo::getBlockReceiptsHash),
         statementHash,
         blockRepository.getMerkleReceipts(height, statementHash));
   }
 
+  @Override
+  public Observable<List<Boolean>> areValidTransactionsInBlock(
+      BigInteger height, List<String> transactionHashes) {
+    Validate.notNull(height, "height is required");
+    Validate.noNullElements(transactionHashes, "transactionHashes are required");
+    return getBlockByHeight(height)
+        .map(block -> ConvertUtils.fromHexToBytes(block.getBlockTransactionsHash()))
+        .flatMap(
+            root ->
+                Observable.fromIterable(transactionHashes)
+                    .concatMapEager(
+                        transactionHash -> isValidTransactionInRoot(height, transactionHash, root),
+                        MAX_CONCURRENT_PROOF_REQUESTS,
+                        1)
+                    .toList()
+                    .toObservable())
+        .onErrorReturn(e -> Collections.nCopies(transactionHashes.size(), false));
+  }
+
+  private Observable<Boolean> isValidTransactionInRoot(
+      BigInteger height, String transactionHash, byte[] root) {
+    return blockRepository
+        .getMerkleTransaction(height, transactionHash)
+        .map(
+            merkleProofInfo ->
+                isValidMerklePath(
+                    ConvertUtils.fromHexToBytes(transactionHash),
+                    merkleProofInfo.getMerklePath(),
+                    root))
+        .first(false)
+        .onErrorReturnItem(false)
+        .toObservable();
+  }
+
+  private Observable<BlockInfo> getBlockByHeight(BigInteger height) {
+    return Observable.defer(
+        () -> {
+          Observable<BlockInfo> block = blockInfoCache.getBlockByHeight(blockRepository, height);
+          if (blockInfoCache.isFinalized(height)
+              || blockInfoCache.isSubscribed()
+              || !shouldRefreshFinalizedHeight()) {
+            return block;
+          }
+          // A failed refresh only means the block is not cached.
+          return chainRepository
+              .getChainInfo()
+              .doOnNext(chainInfo -> blockInfoCache.finalized(chainInfo.getLatestFinalizedBlock()))
+              .ignoreElements()
+              .onErrorComplete()
+              .andThen(block);
+        });
+  }
+
+  /** @return true at most once every {@link #FINALIZED_HEIGHT_REFRESH_MILLIS}. */
+  private boolean shouldRefreshFinalizedHeight() {
+    long now = System.currentTimeMillis();
+    long last = lastFinalizedHeightRefresh.get();
+    return now - last >= FINALIZED_HEIGHT_REFRESH_MILLIS
+        && lastFinalizedHeightRefresh.compareAndSet(last, now);
+  }
+
   private Observable<Boolean> getBooleanObservable(
       Observable<String> rootObservable,
       String leaf,
       Observable<MerkleProofInfo> merkleTransactionObservable) {
 
     BiFunction<String, MerkleProofInfo, Boolean> zipper =
-        (root, merkleProofInfo) -> {
-          List<MerklePathItem> merklePath = merkleProofInfo.getMerklePath();
-          if (merklePath.isEmpty()) {
-            // Single item tree, so leaf = HRoot0
-            return leaf.equalsIgnoreCase(root);
-          }
-
-          // 1 is left
-          java.util.function.BiFunction<String, MerklePathItem, String> accumulator =
-              (proofHash, pathItem) ->
-                  ConvertUtils.toHex(
-                      Hashes.sha3_256(
-                          ConvertUtils.fromHexToBytes(
-                              pathItem.getPosition() == Position.LEFT
-                                  ? pathItem.getHash() + proofHash
-                                  : proofHash + pathItem.getHash())));
-
-          String hroot0 = merklePath.stream().reduce(leaf, accumulator, (s1, s2) -> s1);
-          return root.equalsIgnoreCase(hroot0);
-        };
+        (root, merkleProofInfo) ->
+            isValidMerklePath(
+                ConvertUtils.fromHexToBytes(leaf),
+                merkleProofInfo.getMerklePath(),
+                ConvertUtils.fromHexToBytes(root));
     return Observable.zip(rootObservable, merkleTransactionObservable, zipper)
         .onErrorReturn(
             (e) -> {
@@ -94,4 +179,35 @@ public class BlockServiceImpl implements BlockService {
               return false;
             });
   }
+
+  /**
+   * Recalculates the root from a leaf and its merkle path and compares it with the expected root.
+   * The nodes are hashed into one buffer with the sha3 digest of the calling thread, no hex string
+   * is built while walking the path.
+   *
+   * @param leaf the leaf hash.
+   * @param merklePath the merkle path of the leaf, from the leaf to the root.
+   * @param root the expected root hash.
+   * @return if the path proves that the leaf belongs to the tree.
+   */
+  private static boolean isValidMerklePath(
+      byte[] leaf, List<MerklePathItem> merklePath, byte[] root) {
+    if (merklePath.isEmpty()) {
+      // Single item tree, so leaf = HRoot0
+      return Arrays.equals(leaf, root);
+    }
+    byte[] node = new byte[MerkleTreeBuilder.HASH_SIZE];
+    byte[] current = leaf;
+    for (MerklePathItem pathItem : merklePath) {
+      byte[] sibling = ConvertUtils.fromHexToBytes(pathItem.getHash());
+      // The inputs are consumed before the output is written, so node can be both.
+      if (pathItem.getPosition() == Position.LEFT) {
+        Hashes.sha3_256Into(node, 0, sibling, current);
+      } else {
+        Hashes.sha3_256Into(node, 0, current, sibling);
+      }
+      current = node;
+    }
+    return Arrays.equals(node, root);
+  }
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Signs large batches of transactions with the same account, for example the transfers of a payout
+ * run. The transactions are split in chunks that are signed in parallel by the executor and the
+ * account's signer is shared, so its private key is expanded only once.
+ */
+public class BulkTransactionSigner {
+
+  private final Executor executor;
+
+  private final int parallelism;
+
+  /** Creates a signer that uses the common fork join pool. */
+  public BulkTransactionSigner() {
+    this(ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a signer.
+   *
+   * @param executor the executor that signs the chunks of transactions.
+   */
+  public BulkTransactionSigner(Executor executor) {
+    Validate.notNull(executor, "Executor must not be null");
+    this.executor = executor;
+    this.parallelism =
+        executor instanceof ForkJoinPool
+            ? ((ForkJoinPool) executor).getParallelism()
+            : Runtime.getRuntime().availableProcessors();
+  }
+
+  /**
+   * Signs the transactions.
+   *
+   * @param transactions the transactions to sign.
+   * @param account the account signing the transactions.
+   * @param generationHash the generation hash of the network.
+   * @return the signed transactions, in the same order.
+   */
+  public List<SignedTransaction> sign(
+      List<? extends Transaction> transactions, Account account, String generationHash) {
+    Validate.notNull(transactions, "Transactions must not be null");
+    Validate.notNull(account, "Account must not be null");
+    Validate.notNull(generationHash, "Generation hash must not be null");
+    SignedTransaction[] results = new SignedTransaction[transactions.size()];
+    int chunkSize = Math.max(1, (results.length + parallelism * 4 - 1) / (parallelism * 4));
+    List<CompletableFuture<Void>> chunks = new ArrayList<>();
+    for (int from = 0; from < results.length; from += chunkSize) {
+      int start = from;
+      int end = Math.min(results.length, from + chunkSize);
+      Runnable chunk =
+          () -> {
+            for (int i = start; i < end; i++) {
+              results[i] = transactions.get(i).signWith(account, generationHash);
+            }
+          };
+      chunks.add(CompletableFuture.runAsync(chunk, executor));
+    }
+    try {
+      CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+    return Arrays.asList(results);
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.BlockRepository;
+import io.nem.symbol.sdk.api.ReceiptPaginationStreamer;
+import io.nem.symbol.sdk.api.ReceiptRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.TransactionPaginationStreamer;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.api.TransactionSearchCriteria;
+import io.nem.symbol.sdk.api.TransactionStatementSearchCriteria;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.TransactionGroup;
+import io.reactivex.Observable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Exports a range of blocks with their confirmed transactions and receipts into a columnar file
+ * that can be scanned offline with {@link ColumnarChainReader}.
+ */
+public class ColumnarChainExporter {
+
+  private final BlockRepository blockRepository;
+
+  private final TransactionRepository transactionRepository;
+
+  private final ReceiptRepository receiptRepository;
+
+  private final Observable<NetworkType> networkType;
+
+  /** @param repositoryFactory the repository factory. */
+  public ColumnarChainExporter(RepositoryFactory repositoryFactory) {
+    this.blockRepository = repositoryFactory.createBlockRepository();
+    this.transactionRepository = repositoryFactory.createTransactionRepository();
+    this.receiptRepository = repositoryFactory.createReceiptRepository();
+    this.networkType = repositoryFactory.getNetworkType();
+  }
+
+  /**
+   * Exports the blocks, transactions and receipts between the given heights, both inclusive. The
+   * file is written sequentially while the data is streamed from the node.
+   *
+   * @param file the destination file.
+   * @param fromHeight the first height.
+   * @param toHeight the last height.
+   * @return an observable with the number of exported rows. The file is complete once the
+   *     observable completes.
+   */
+  public Observable<Long> export(Path file, BigInteger fromHeight, BigInteger toHeight) {
+    Validate.notNull(file, "file is required");
+    Validate.notNull(fromHeight, "fromHeight is required");
+    Validate.notNull(toHeight, "toHeight is required");
+    Validate.isTrue(fromHeight.compareTo(toHeight) <= 0, "fromHeight must not exceed toHeight");
+    return networkType.flatMap(
+        type ->
+            Observable.using(
+                () -> new ColumnarChainWriter(file, type),
+                writer -> export(writer, fromHeight, toHeight),
+                ColumnarChainWriter::close,
+                false));
+  }
+
+  private Observable<Long> export(
+      ColumnarChainWriter writer, BigInteger fromHeight, BigInteger toHeight) {
+    long count = toHeight.subtract(fromHeight).longValue() + 1;
+    Observable<Object> blocks =
+        Observable.rangeLong(fromHeight.longValue(), count)
+            .concatMap(height -> blockRepository.getBlockByHeight(BigInteger.valueOf(height)))
+            .doOnNext(block -> writer.write(block))
+            .cast(Object.class);
+
+    TransactionSearchCriteria transactionCriteria =
+        new TransactionSearchCriteria(TransactionGroup.CONFIRMED)
+            .fromHeight(fromHeight)
+            .toHeight(toHeight)
+            .embedded(true);
+    Observable<Object> transactions =
+        new TransactionPaginationStreamer(transactionRepository)
+            .search(transactionCriteria)
+            .doOnNext(transaction -> writer.write(transaction))
+            .cast(Object.class);
+
+    TransactionStatementSearchCriteria statementCriteria =
+        new TransactionStatementSearchCriteria().fromHeight(fromHeight).toHeight(toHeight);
+    Observable<Object> statements =
+        ReceiptPaginationStreamer.transactions(receiptRepository)
+            .search(statementCriteria)
+            .doOnNext(statement -> writer.write(statement))
+            .cast(Object.class);
+
+    return Observable.concat(blocks, transactions, statements)
+        .count()
+        .toObservable()
+        .doOnNext(
+            rows -> {
+              try {
+                writer.close();
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+  }
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.core.utils.MapperUtils;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.mosaic.UnresolvedMosaicId;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Memory-mapped reader of the files created by {@link ColumnarChainWriter}.
+ *
+ * <p>Each row group is mapped on its own, so files larger than 2GB can be scanned. Scans reuse a
+ * single {@link Row} instance and compare dictionary ids instead of decoded addresses, so they do
+ * not allocate per row.
+ */
+public class ColumnarChainReader implements Closeable {
+
+  private final FileChannel channel;
+
+  private final NetworkType networkType;
+
+  private final byte[][] addresses;
+
+  private final Map<ByteBuffer, Integer> addressIds;
+
+  private final long[] mosaics;
+
+  private final List<RowGroupIndex> rowGroups = new ArrayList<>();
+
+  /**
+   * Opens a columnar chain file.
+   *
+   * @param file the file created by {@link ColumnarChainWriter}.
+   * @throws IOException if the file cannot be read or it is not a valid file.
+   */
+  public ColumnarChainReader(Path file) throws IOException {
+    Validate.notNull(file, "file is required");
+    this.channel = FileChannel.open(file, StandardOpenOption.READ);
+    try {
+      long size = channel.size();
+      byte[] magic = ColumnarChainWriter.MAGIC;
+      int trailerSize = 8 + magic.length;
+      if (size < magic.length + 1 + trailerSize) {
+        throw new IOException("Invalid columnar chain file " + file);
+      }
+      MappedByteBuffer header = channel.map(MapMode.READ_ONLY, 0, magic.length + 1);
+      MappedByteBuffer trailer = channel.map(MapMode.READ_ONLY, size - trailerSize, trailerSize);
+      long footerOffset = trailer.getLong();
+      if (!hasMagic(header) || !hasMagic(trailer)) {
+        throw new IOException("Invalid columnar chain file " + file);
+      }
+      this.networkType = NetworkType.rawValueOf(header.get() & 0xFF);
+
+      MappedByteBuffer footer =
+          channel.map(MapMode.READ_ONLY, footerOffset, size - trailerSize - footerOffset);
+      this.addresses = new byte[footer.getInt()][ColumnarChainWriter.ADDRESS_SIZE];
+      this.addressIds = new HashMap<>(addresses.length * 2);
+      for (int i = 0; i < addresses.length; i++) {
+        footer.get(addresses[i]);
+        addressIds.put(ByteBuffer.wrap(addresses[i]), i + 1);
+      }
+      this.mosaics = new long[footer.getInt()];
+      for (int i = 0; i < mosaics.length; i++) {
+        mosaics[i] = footer.getLong();
+      }
+      indexRowGroups(footerOffset);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  private void indexRowGroups(long footerOffset) throws IOException {
+    long position = ColumnarChainWriter.MAGIC.length + 1;
+    ByteBuffer groupHeader = ByteBuffer.allocate(5);
+    ByteBuffer columnHeader = ByteBuffer.allocate(4);
+    while (position < footerOffset) {
+      groupHeader.clear();
+      readFully(groupHeader, position);
+      ColumnarChainTable table = ColumnarChainTable.rawValueOf(groupHeader.get(0));
+      int rows = groupHeader.getInt(1);
+      long start = position + groupHeader.capacity();
+      position = start;
+      for (int i = 0; i < table.getColumnCount(); i++) {
+        columnHeader.clear();
+        readFully(columnHeader, position);
+        position += columnHeader.capacity() + columnHeader.getInt(0);
+      }
+      rowGroups.add(new RowGroupIndex(table, rows, start, position - start));
+    }
+  }
+
+  private void readFully(ByteBuffer buffer, long position) throws IOException {
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new IOException("Unexpected end of columnar chain file");
+      }
+    }
+  }
+
+  private static boolean hasMagic(ByteBuffer buffer) {
+    byte[] magic = new byte[ColumnarChainWriter.MAGIC.length];
+    buffer.get(magic);
+    return Arrays.equals(magic, ColumnarChainWriter.MAGIC);
+  }
+
+  /**
+   * Scans all the rows of a table in file order.
+   *
+   * @param table the table.
+   * @param consumer the consumer of the rows. The {@link Row} instance is reused between calls.
+   * @throws IOException if a row group cannot be mapped.
+   */
+  public void scan(ColumnarChainTable table, Consumer<Row> consumer) throws IOException {
+    Validate.notNull(table, "table is required");
+    Validate.notNull(consumer, "consumer is required");
+    Row row = new Row(table);
+    int[] offsets = new int[table.getColumnCount()];
+    for (RowGroupIndex group : rowGroups) {
+      if (group.table != table) {
+        continue;
+      }
+      MappedByteBuffer buffer = channel.map(MapMode.READ_ONLY, group.position, group.size);
+      int offset = 0;
+      for (int i = 0; i < offsets.length; i++) {
+        offsets[i] = offset + 4;
+        offset += 4 + buffer.getInt(offset);
+      }
+      row.reset();
+      for (int r = 0; r < group.rows; r++) {
+        for (int c = 0; c < offsets.length; c++) {
+          long value = 0;
+          int shift = 0;
+          byte b;
+          do {
+            b = buffer.get(offsets[c]++);
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+          } while (b < 0);
+          row.set(c, value);
+        }
+        consumer.accept(row);
+      }
+    }
+  }
+
+  /**
+   * Returns the dictionary id of an address so scans can compare ids instead of addresses.
+   *
+   * @param address the address or namespace id.
+   * @return the dictionary id or 0 if the address is not in the file.
+   */
+  public int getAddressId(UnresolvedAddress address) {
+    Validate.notNull(address, "address is required");
+    ByteBuffer key = SerializationUtils.fromUnresolvedAddressToByteBuffer(address, networkType);
+    return addressIds.getOrDefault(key, ColumnarChainWriter.NONE);
+  }
+
+  /**
+   * @param id the 1-based dictionary id.
+   * @return the address or namespace id.
+   */
+  public UnresolvedAddress getAddress(int id) {
+    Validate.inclusiveBetween(1, addresses.length, id, "Invalid address id " + id);
+    return MapperUtils.toUnresolvedAddress(ConvertUtils.toHex(addresses[id - 1]));
+  }
+
+  /**
+   * @param id the 1-based dictionary id.
+   * @return the mosaic id or namespace id.
+   */
+  public UnresolvedMosaicId getMosaicId(int id) {
+    Validate.inclusiveBetween(1, mosaics.length, id, "Invalid mosaic id " + id);
+    return MapperUtils.toUnresolvedMosaicId(
+        ConvertUtils.toHex(ByteBuffer.allocate(8).putLong(mosaics[id - 1]).array()));
+  }
+
+  /** @return the number of addresses in the dictionary. */
+  public int getAddressCount() {
+    return addresses.length;
+  }
+
+  /** @return the number of mosaic ids in the dictionary. */
+  public int getMosaicCount() {
+    return mosaics.length;
+  }
+
+  /** @return the network type of the exported data. */
+  public NetworkType getNetworkType() {
+    return networkType;
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  /**
+   * A decoded row. Address and mosaic values are dictionary ids, see {@link #getAddress(int)} and
+   * {@link #getMosaicId(int)}.
+   */
+  public static class Row {
+
+    private final ColumnarChainTable table;
+
+    private final long[] values;
+
+    private Row(ColumnarChainTable table) {
+      this.table = table;
+      this.values = new long[table.getColumnCount()];
+    }
+
+    private void reset() {
+      Arrays.fill(values, 0);
+    }
+
+    private void set(int column, long value) {
+      if (column == 0 || (column == 1 && table == ColumnarChainTable.BLOCKS)) {
+        values[column] += (value >>> 1) ^ -(value & 1);
+      } else {
+        values[column] = value;
+      }
+    }
+
+    /** @return the table of the row. */
+    public ColumnarChainTable getTable() {
+      return table;
+    }
+
+    /** @return the block height. */
+    public long getHeight() {
+      return values[0];
+    }
+
+    /** @return the block timestamp, only for {@link ColumnarChainTable#BLOCKS}. */
+    public long getTimestamp() {
+      return table == ColumnarChainTable.BLOCKS ? values[1] : 0;
+    }
+
+    /** @return the transaction or receipt type value, 0 for blocks. */
+    public int getType() {
+      return table == ColumnarChainTable.BLOCKS ? 0 : (int) values[1];
+    }
+
+    /** @return the signer address id of blocks and transactions, the source id for receipts. */
+    public int getSignerId() {
+      return (int) values[2];
+    }
+
+    /** @return the recipient address id of transactions, the target id for receipts. */
+    public int getRecipientId() {
+      return table == ColumnarChainTable.BLOCKS ? 0 : (int) values[3];
+    }
+
+    /** @return the mosaic id dictionary id of transactions and receipts. */
+    public int getMosaicId() {
+      return table == ColumnarChainTable.BLOCKS ? 0 : (int) values[4];
+    }
+
+    /** @return the mosaic amount of transactions and receipts, as unsigned long. */
+    public long getAmount() {
+      return table == ColumnarChainTable.BLOCKS ? 0 : values[5];
+    }
+
+    /** @return the max fee of transactions or the total fee of blocks, as unsigned long. */
+    public long getFee() {
+      switch (table) {
+        case BLOCKS:
+          return values[3];
+        case TRANSACTIONS:
+          return values[6];
+        default:
+          return 0;
+      }
+    }
+
+    /** @return the transactions count of blocks. */
+    public int getTransactionsCount() {
+      return table == ColumnarChainTable.BLOCKS ? (int) values[4] : 0;
+    }
+  }
+
+  /** The location of a row group in the file. */
+  private static class RowGroupIndex {
+
+    private final ColumnarChainTable table;
+
+    private final int rows;
+
+    private final long position;
+
+    private final long size;
+
+    private RowGroupIndex(ColumnarChainTable table, int rows, long position, long size) {
+      this.table = table;
+      this.rows = rows;
+      this.position = position;
+      this.size = size;
+    }
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import java.util.Arrays;
+
+/**
+ * The tables of a columnar chain export file. Each table is stored as row groups where every
+ * column is written contiguously. See {@link ColumnarChainWriter} for the file layout.
+ */
+public enum ColumnarChainTable {
+
+  /** Block headers: height, timestamp, signer, total fee and transactions count. */
+  BLOCKS(1, 5),
+
+  /**
+   * Transactions: height, type, signer, recipient, mosaic id, amount and max fee. Transactions
+   * moving more than one mosaic are stored as one row per mosaic.
+   */
+  TRANSACTIONS(2, 7),
+
+  /** Receipts: height, type, source address, target address, mosaic id and amount. */
+  RECEIPTS(3, 6);
+
+  /** The table id written in the row group header. */
+  private final int value;
+
+  /** The number of columns of each row group. */
+  private final int columnCount;
+
+  ColumnarChainTable(int value, int columnCount) {
+    this.value = value;
+    this.columnCount = columnCount;
+  }
+
+  /**
+   * Returns the table for the given row group id.
+   *
+   * @param value the row group table id.
+   * @return the {@link ColumnarChainTable}
+   */
+  public static ColumnarChainTable rawValueOf(int value) {
+    return Arrays.stream(values())
+        .filter(t -> t.value == value)
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException(value + " is not a valid table"));
+  }
+
+  /** @return the table id written in the row group header. */
+  public int getValue() {
+    return value;
+  }
+
+  /** @return the number of columns of each row group. */
+  public int getColumnCount() {
+    return columnCount;
+  }
+}
@@ -0,0 +1,401 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.model.account.PublicAccount;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.UnresolvedMosaicId;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.receipt.BalanceChangeReceipt;
+import io.nem.symbol.sdk.model.receipt.BalanceTransferReceipt;
+import io.nem.symbol.sdk.model.receipt.InflationReceipt;
+import io.nem.symbol.sdk.model.receipt.Receipt;
+import io.nem.symbol.sdk.model.receipt.TransactionStatement;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.HashLockTransaction;
+import io.nem.symbol.sdk.model.transaction.RecipientTransaction;
+import io.nem.symbol.sdk.model.transaction.SecretLockTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Writes blocks, transactions and receipts into a compact columnar file that can be scanned offline
+ * with {@link ColumnarChainReader}.
+ *
+ * <p>File layout, all the fixed size numbers are big endian:
+ *
+ * <pre>
+ * header:    magic (8 bytes) | network type (1 byte)
+ * row group: table id (1 byte) | row count (int) | per column: length (int) | encoded values
+ * footer:    address count (int) | addresses (24 bytes each)
+ *            | mosaic count (int) | mosaic ids (8 bytes each)
+ *            | footer offset (long) | magic (8 bytes)
+ * </pre>
+ *
+ * <p>Column values are unsigned LEB128 varints. Heights and timestamps are stored as zig-zag
+ * deltas from the previous row of the same row group. Addresses and mosaic ids are dictionary
+ * encoded: the column stores the 1-based position in the footer dictionary, 0 meaning empty.
+ *
+ * <p>Instances are not thread safe.
+ */
+public class ColumnarChainWriter implements Closeable {
+
+  /** The default number of rows of a row group. */
+  public static final int DEFAULT_ROW_GROUP_SIZE = 65536;
+
+  /** The magic bytes at the beginning and end of the file. */
+  static final byte[] MAGIC = "SYMCOLv1".getBytes(StandardCharsets.US_ASCII);
+
+  /** The size of a serialized unresolved address. */
+  static final int ADDRESS_SIZE = 24;
+
+  /** The dictionary id of an empty value. */
+  static final int NONE = 0;
+
+  private final DataOutputStream output;
+
+  private final NetworkType networkType;
+
+  private final int rowGroupSize;
+
+  private final Map<ByteBuffer, Integer> addressIds = new HashMap<>();
+
+  private final List<ByteBuffer> addresses = new ArrayList<>();
+
+  private final Map<Long, Integer> mosaicIds = new HashMap<>();
+
+  private final List<Long> mosaics = new ArrayList<>();
+
+  private final Map<ColumnarChainTable, RowGroup> rowGroups =
+      new EnumMap<>(ColumnarChainTable.class);
+
+  private long position;
+
+  private boolean closed;
+
+  /**
+   * Creates a writer with {@link #DEFAULT_ROW_GROUP_SIZE} rows per row group.
+   *
+   * @param file the file to create or overwrite.
+   * @param networkType the network type of the exported data.
+   * @throws IOException if the file cannot be opened.
+   */
+  public ColumnarChainWriter(Path file, NetworkType networkType) throws IOException {
+    this(file, networkType, DEFAULT_ROW_GROUP_SIZE);
+  }
+
+  /**
+   * @param file the file to create or overwrite.
+   * @param networkType the network type of the exported data.
+   * @param rowGroupSize the number of rows buffered in memory before writing a row group.
+   * @throws IOException if the file cannot be opened.
+   */
+  public ColumnarChainWriter(Path file, NetworkType networkType, int rowGroupSize)
+      throws IOException {
+    Validate.notNull(file, "file is required");
+    Validate.notNull(networkType, "networkType is required");
+    Validate.isTrue(rowGroupSize > 0, "rowGroupSize must be greater than 0");
+    this.networkType = networkType;
+    this.rowGroupSize = rowGroupSize;
+    this.output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+    for (ColumnarChainTable table : ColumnarChainTable.values()) {
+      rowGroups.put(table, new RowGroup(table));
+    }
+    output.write(MAGIC);
+    output.writeByte(networkType.getValue());
+    position = MAGIC.length + 1;
+  }
+
+  /**
+   * Appends a block header.
+   *
+   * @param block the block.
+   * @throws IOException if the row group cannot be written.
+   */
+  public void write(BlockInfo block) throws IOException {
+    Validate.notNull(block, "block is required");
+    RowGroup group = rowGroups.get(ColumnarChainTable.BLOCKS);
+    group.delta(0, block.getHeight().longValue());
+    group.delta(1, block.getTimestamp().longValue());
+    group.value(2, addressId(block.getSignerPublicAccount().getAddress()));
+    group.value(3, toLong(block.getTotalFee()));
+    group.value(4, block.getTransactionsCount() == null ? 0 : block.getTransactionsCount());
+    endRow(group);
+  }
+
+  /**
+   * Appends a transaction. Transactions moving more than one mosaic are written as one row per
+   * mosaic. The loaded inner transactions of aggregates are written too.
+   *
+   * @param transaction the transaction.
+   * @throws IOException if the row group cannot be written.
+   */
+  public void write(Transaction transaction) throws IOException {
+    Validate.notNull(transaction, "transaction is required");
+    write(transaction, 0);
+  }
+
+  private void write(Transaction transaction, long parentHeight) throws IOException {
+    long height =
+        transaction
+            .getTransactionInfo()
+            .map(TransactionInfo::getHeight)
+            .map(BigInteger::longValue)
+            .orElse(parentHeight);
+    int signer =
+        transaction.getSigner().map(PublicAccount::getAddress).map(this::addressId).orElse(NONE);
+    int recipient =
+        transaction instanceof RecipientTransaction
+            ? addressId(((RecipientTransaction) transaction).getRecipient())
+            : NONE;
+    List<Mosaic> transactionMosaics = getMosaics(transaction);
+    if (transactionMosaics.isEmpty()) {
+      writeTransactionRow(transaction, height, signer, recipient, NONE, 0);
+    }
+    for (Mosaic mosaic : transactionMosaics) {
+      int mosaicId = mosaicId(mosaic.getId());
+      long amount = toLong(mosaic.getAmount());
+      writeTransactionRow(transaction, height, signer, recipient, mosaicId, amount);
+    }
+    if (transaction instanceof AggregateTransaction) {
+      for (Transaction inner : ((AggregateTransaction) transaction).getInnerTransactions()) {
+        write(inner, height);
+      }
+    }
+  }
+
+  private void writeTransactionRow(
+      Transaction transaction, long height, int signer, int recipient, int mosaic, long amount)
+      throws IOException {
+    RowGroup group = rowGroups.get(ColumnarChainTable.TRANSACTIONS);
+    group.delta(0, height);
+    group.value(1, transaction.getType().getValue());
+    group.value(2, signer);
+    group.value(3, recipient);
+    group.value(4, mosaic);
+    group.value(5, amount);
+    group.value(6, toLong(transaction.getMaxFee()));
+    endRow(group);
+  }
+
+  /**
+   * Appends the receipts of a transaction statement.
+   *
+   * @param statement the statement.
+   * @throws IOException if the row group cannot be written.
+   */
+  public void write(TransactionStatement statement) throws IOException {
+    Validate.notNull(statement, "statement is required");
+    long height = statement.getHeight().longValue();
+    for (Receipt receipt : statement.getReceipts()) {
+      int source = NONE;
+      int target = NONE;
+      int mosaic = NONE;
+      long amount = 0;
+      if (receipt instanceof BalanceTransferReceipt) {
+        BalanceTransferReceipt transfer = (BalanceTransferReceipt) receipt;
+        source = addressId(transfer.getSenderAddress());
+        target = addressId(transfer.getRecipientAddress());
+        mosaic = mosaicId(transfer.getMosaicId());
+        amount = toLong(transfer.getAmount());
+      } else if (receipt instanceof BalanceChangeReceipt) {
+        BalanceChangeReceipt change = (BalanceChangeReceipt) receipt;
+        target = addressId(change.getTargetAddress());
+        mosaic = mosaicId(change.getMosaicId());
+        amount = toLong(change.getAmount());
+      } else if (receipt instanceof InflationReceipt) {
+        InflationReceipt inflation = (InflationReceipt) receipt;
+        mosaic = mosaicId(inflation.getMosaicId());
+        amount = toLong(inflation.getAmount());
+      }
+      RowGroup group = rowGroups.get(ColumnarChainTable.RECEIPTS);
+      group.delta(0, height);
+      group.value(1, receipt.getType().getValue());
+      group.value(2, source);
+      group.value(3, target);
+      group.value(4, mosaic);
+      group.value(5, amount);
+      endRow(group);
+    }
+  }
+
+  /**
+   * Writes the pending row groups, the dictionaries and the footer.
+   *
+   * @throws IOException if the file cannot be written.
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    try {
+      for (RowGroup group : rowGroups.values()) {
+        flush(group);
+      }
+      long footerOffset = position;
+      output.writeInt(addresses.size());
+      for (ByteBuffer address : addresses) {
+        output.write(address.array());
+      }
+      output.writeInt(mosaics.size());
+      for (Long mosaic : mosaics) {
+        output.writeLong(mosaic);
+      }
+      output.writeLong(footerOffset);
+      output.write(MAGIC);
+    } finally {
+      output.close();
+    }
+  }
+
+  private void endRow(RowGroup group) throws IOException {
+    group.rows++;
+    if (group.rows >= rowGroupSize) {
+      flush(group);
+    }
+  }
+
+  private void flush(RowGroup group) throws IOException {
+    if (group.rows == 0) {
+      return;
+    }
+    output.writeByte(group.table.getValue());
+    output.writeInt(group.rows);
+    position += 5;
+    for (ColumnBuffer column : group.columns) {
+      output.writeInt(column.size);
+      output.write(column.data, 0, column.size);
+      position += 4 + column.size;
+    }
+    group.reset();
+  }
+
+  private int addressId(UnresolvedAddress address) {
+    ByteBuffer key = SerializationUtils.fromUnresolvedAddressToByteBuffer(address, networkType);
+    return addressIds.computeIfAbsent(
+        key,
+        k -> {
+          addresses.add(k);
+          return addresses.size();
+        });
+  }
+
+  private int mosaicId(UnresolvedMosaicId mosaicId) {
+    return mosaicIds.computeIfAbsent(
+        mosaicId.getIdAsLong(),
+        k -> {
+          mosaics.add(k);
+          return mosaics.size();
+        });
+  }
+
+  private static List<Mosaic> getMosaics(Transaction transaction) {
+    if (transaction instanceof TransferTransaction) {
+      return ((TransferTransaction) transaction).getMosaics();
+    }
+    if (transaction instanceof HashLockTransaction) {
+      return Collections.singletonList(((HashLockTransaction) transaction).getMosaic());
+    }
+    if (transaction instanceof SecretLockTransaction) {
+      return Collections.singletonList(((SecretLockTransaction) transaction).getMosaic());
+    }
+    return Collections.emptyList();
+  }
+
+  private static long toLong(BigInteger value) {
+    return value == null ? 0 : value.longValue();
+  }
+
+  /** The buffered columns of the next row group of a table. */
+  private static class RowGroup {
+
+    private final ColumnarChainTable table;
+
+    private final ColumnBuffer[] columns;
+
+    private final long[] previous;
+
+    private int rows;
+
+    private RowGroup(ColumnarChainTable table) {
+      this.table = table;
+      this.columns = new ColumnBuffer[table.getColumnCount()];
+      this.previous = new long[table.getColumnCount()];
+      for (int i = 0; i < columns.length; i++) {
+        columns[i] = new ColumnBuffer();
+      }
+    }
+
+    private void value(int column, long value) {
+      columns[column].writeVarLong(value);
+    }
+
+    private void delta(int column, long value) {
+      long delta = value - previous[column];
+      previous[column] = value;
+      columns[column].writeVarLong((delta << 1) ^ (delta >> 63));
+    }
+
+    private void reset() {
+      rows = 0;
+      Arrays.fill(previous, 0);
+      for (ColumnBuffer column : columns) {
+        column.size = 0;
+      }
+    }
+  }
+
+  /** A growable byte array of varint encoded values. */
+  private static class ColumnBuffer {
+
+    private byte[] data = new byte[1024];
+
+    private int size;
+
+    private void writeVarLong(long value) {
+      if (data.length - size < 10) {
+        data = Arrays.copyOf(data, data.length * 2);
+      }
+      while ((value & ~0x7FL) != 0) {
+        data[size++] = (byte) ((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      data[size++] = (byte) value;
+    }
+  }
+}
@@ -0,0 +1,470 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.ReceiptPaginationStreamer;
+import io.nem.symbol.sdk.api.ReceiptRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.ResolutionStatementSearchCriteria;
+import io.nem.symbol.sdk.api.TransactionPaginationStreamer;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.api.TransactionSearchCriteria;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.namespace.NamespaceId;
+import io.nem.symbol.sdk.model.receipt.AddressResolutionStatement;
+import io.nem.symbol.sdk.model.receipt.MosaicResolutionStatement;
+import io.nem.symbol.sdk.model.receipt.ResolutionEntry;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionGroup;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Detects the transfers to a large set of watched addresses from the {@link Listener#newBlock()}
+ * stream, instead of subscribing to the confirmed channel of every address.
+ *
+ * <p>The transactions of each new block are fetched once, including the inner transactions of
+ * aggregates. Recipients are matched with a hash lookup in the watched set. Recipient aliases are
+ * resolved with the {@link AddressResolutionStatement}s of the block, which are only requested
+ * when an alias is used in the block.
+ *
+ * <p>Deposits are emitted once they reach the requested confirmation depth. When the listener
+ * reports a block at or below a height already processed, the deposits pending from that height
+ * are dropped and the new fork is processed again. Heights skipped by the listener are fetched so
+ * no block is missed.
+ */
+public class DepositDetector {
+
+  private final Listener listener;
+
+  private final TransactionRepository transactionRepository;
+
+  private final ReceiptRepository receiptRepository;
+
+  private final Set<Address> watchedAddresses = ConcurrentHashMap.newKeySet();
+
+  /**
+   * @param repositoryFactory the repository factory.
+   * @param listener the open listener used to get the new blocks.
+   */
+  public DepositDetector(RepositoryFactory repositoryFactory, Listener listener) {
+    Validate.notNull(repositoryFactory, "repositoryFactory is required");
+    Validate.notNull(listener, "listener is required");
+    this.listener = listener;
+    this.transactionRepository = repositoryFactory.createTransactionRepository();
+    this.receiptRepository = repositoryFactory.createReceiptRepository();
+  }
+
+  /**
+   * Adds addresses to the watched set. The set can be changed while detecting.
+   *
+   * @param addresses the deposit addresses.
+   */
+  public void watch(Collection<Address> addresses) {
+    Validate.notNull(addresses, "addresses is required");
+    watchedAddresses.addAll(addresses);
+  }
+
+  /**
+   * Removes addresses from the watched set.
+   *
+   * @param addresses the deposit addresses.
+   */
+  public void unwatch(Collection<Address> addresses) {
+    Validate.notNull(addresses, "addresses is required");
+    watchedAddresses.removeAll(addresses);
+  }
+
+  /**
+   * @param address the address.
+   * @return if the address is watched.
+   */
+  public boolean isWatched(Address address) {
+    return watchedAddresses.contains(address);
+  }
+
+  /** @return the number of watched addresses. */
+  public int getWatchedCount() {
+    return watchedAddresses.size();
+  }
+
+  /**
+   * Streams the deposits to the watched addresses of the new blocks.
+   *
+   * @param confirmations the confirmation depth of the emitted deposits, 1 meaning as soon as the
+   *     block is announced.
+   * @return the deposits in height order. Each subscription tracks its own pending deposits.
+   */
+  public Observable<Deposit> deposits(int confirmations) {
+    Validate.isTrue(confirmations > 0, "confirmations must be greater than 0");
+    return Observable.defer(
+        () -> {
+          DetectionState state = new DetectionState(confirmations);
+          return listener
+              .newBlock()
+              .map(BlockInfo::getHeight)
+              .concatMap(
+                  height ->
+                      Observable.fromIterable(state.onNewBlock(height.longValue()))
+                          .concatMap(h -> detect(BigInteger.valueOf(h)).toList().toObservable())
+                          .doOnNext(state::addPending)
+                          .ignoreElements()
+                          .andThen(Observable.defer(() -> Observable.fromIterable(state.ready()))));
+        });
+  }
+
+  /**
+   * Detects the deposits to the watched addresses in a block.
+   *
+   * @param height the block height.
+   * @return the deposits of the block with a confirmation depth of 1.
+   */
+  public Observable<Deposit> detect(BigInteger height) {
+    Validate.notNull(height, "height is required");
+    TransactionSearchCriteria criteria =
+        new TransactionSearchCriteria(TransactionGroup.CONFIRMED).height(height).embedded(true);
+    return new TransactionPaginationStreamer(transactionRepository)
+        .search(criteria)
+        .toList()
+        .toObservable()
+        .flatMap(transactions -> detect(height, getTransfers(transactions)));
+  }
+
+  private Observable<Deposit> detect(BigInteger height, List<Transfer> transfers) {
+    boolean aliasRecipient =
+        transfers.stream().anyMatch(t -> t.transaction.getRecipient() instanceof NamespaceId);
+    Observable<Map<UnresolvedAddress, AddressResolutionStatement>> addressResolutions =
+        aliasRecipient
+            ? ReceiptPaginationStreamer.addresses(receiptRepository)
+                .search(new ResolutionStatementSearchCriteria().height(height))
+                .toMap(AddressResolutionStatement::getUnresolved)
+                .toObservable()
+            : Observable.just(Collections.emptyMap());
+    return addressResolutions.flatMap(
+        resolutions -> {
+          Map<Transfer, Address> matches = new LinkedHashMap<>();
+          for (Transfer transfer : transfers) {
+            resolveRecipient(transfer, resolutions)
+                .filter(watchedAddresses::contains)
+                .ifPresent(recipient -> matches.put(transfer, recipient));
+          }
+          if (matches.isEmpty()) {
+            return Observable.empty();
+          }
+          return getMosaicResolutions(height, matches.keySet())
+              .flatMapIterable(
+                  mosaicResolutions ->
+                      matches.entrySet().stream()
+                          .map(
+                              e ->
+                                  new Deposit(
+                                      e.getValue(),
+                                      e.getKey().transaction,
+                                      e.getKey().hash,
+                                      height,
+                                      resolveMosaics(e.getKey(), height, mosaicResolutions),
+                                      1))
+                          .collect(Collectors.toList()));
+        });
+  }
+
+  /**
+   * Flattens the transfers of a block, including the inner transfers of aggregates, with the
+   * receipt source used to resolve their aliases.
+   */
+  private static List<Transfer> getTransfers(List<Transaction> transactions) {
+    Map<String, List<Transaction>> embedded = new HashMap<>();
+    Map<String, Transaction> aggregates = new HashMap<>();
+    List<Transfer> transfers = new ArrayList<>();
+    for (Transaction transaction : transactions) {
+      Optional<TransactionInfo> info = transaction.getTransactionInfo();
+      Optional<String> aggregateId = info.flatMap(TransactionInfo::getAggregateId);
+      if (aggregateId.isPresent()) {
+        embedded.computeIfAbsent(aggregateId.get(), id -> new ArrayList<>()).add(transaction);
+      } else if (transaction instanceof AggregateTransaction) {
+        info.flatMap(TransactionInfo::getId).ifPresent(id -> aggregates.put(id, transaction));
+      } else if (transaction instanceof TransferTransaction) {
+        transfers.add(
+            new Transfer(
+                (TransferTransaction) transaction,
+                info.flatMap(TransactionInfo::getHash).orElse(null),
+                getIndex(transaction) + 1,
+                0));
+      }
+    }
+    for (Transaction transaction : transactions) {
+      if (!(transaction instanceof AggregateTransaction)) {
+        continue;
+      }
+      AggregateTransaction aggregate = (AggregateTransaction) transaction;
+      Optional<TransactionInfo> info = aggregate.getTransactionInfo();
+      String hash = info.flatMap(TransactionInfo::getHash).orElse(null);
+      long primaryId = getIndex(aggregate) + 1;
+      List<Transaction> inner =
+          embedded.getOrDefault(
+              info.flatMap(TransactionInfo::getId).orElse(null),
+              aggregate.getInnerTransactions());
+      for (int i = 0; i < inner.size(); i++) {
+        Transaction innerTransaction = inner.get(i);
+        if (innerTransaction instanceof TransferTransaction) {
+          int innerIndex =
+              innerTransaction.getTransactionInfo().flatMap(TransactionInfo::getIndex).orElse(i);
+          transfers.add(
+              new Transfer(
+                  (TransferTransaction) innerTransaction, hash, primaryId, innerIndex + 1));
+        }
+      }
+    }
+    return transfers;
+  }
+
+  private static int getIndex(Transaction transaction) {
+    return transaction
+        .getTransactionInfo()
+        .flatMap(TransactionInfo::getIndex)
+        .orElseThrow(
+            () ->
+                new IllegalArgumentException(
+                    "TransactionIndex cannot be loaded from Transaction "
+                        + transaction.getType()));
+  }
+
+  private static Optional<Address> resolveRecipient(
+      Transfer transfer, Map<UnresolvedAddress, AddressResolutionStatement> resolutions) {
+    UnresolvedAddress recipient = transfer.transaction.getRecipient();
+    if (recipient instanceof Address) {
+      return Optional.of((Address) recipient);
+    }
+    return Optional.ofNullable(resolutions.get(recipient))
+        .flatMap(s -> s.getResolutionEntryById(transfer.primaryId, transfer.secondaryId))
+        .map(ResolutionEntry::getResolved);
+  }
+
+  private Observable<List<MosaicResolutionStatement>> getMosaicResolutions(
+      BigInteger height, Collection<Transfer> transfers) {
+    boolean aliasMosaic =
+        transfers.stream()
+            .flatMap(t -> t.transaction.getMosaics().stream())
+            .anyMatch(m -> m.getId() instanceof NamespaceId);
+    if (!aliasMosaic) {
+      return Observable.just(Collections.emptyList());
+    }
+    return ReceiptPaginationStreamer.mosaics(receiptRepository)
+        .search(new ResolutionStatementSearchCriteria().height(height))
+        .toList()
+        .toObservable();
+  }
+
+  private static List<Mosaic> resolveMosaics(
+      Transfer transfer, BigInteger height, List<MosaicResolutionStatement> statements) {
+    return transfer.transaction.getMosaics().stream()
+        .map(
+            mosaic -> {
+              Optional<MosaicId> resolved =
+                  MosaicResolutionStatement.getResolvedMosaicId(
+                      statements, height, mosaic.getId(), transfer.primaryId, transfer.secondaryId);
+              return resolved.map(id -> new Mosaic(id, mosaic.getAmount())).orElse(mosaic);
+            })
+        .collect(Collectors.toList());
+  }
+
+  /** A transfer of a block and the receipt source of its resolutions. */
+  private static class Transfer {
+
+    private final TransferTransaction transaction;
+
+    private final String hash;
+
+    private final long primaryId;
+
+    private final long secondaryId;
+
+    private Transfer(
+        TransferTransaction transaction, String hash, long primaryId, long secondaryId) {
+      this.transaction = transaction;
+      this.hash = hash;
+      this.primaryId = primaryId;
+      this.secondaryId = secondaryId;
+    }
+  }
+
+  /** The processed height and pending deposits of a subscription. */
+  private static class DetectionState {
+
+    private final int confirmations;
+
+    private final TreeMap<Long, List<Deposit>> pending = new TreeMap<>();
+
+    private long lastHeight;
+
+    private long chainHeight;
+
+    private DetectionState(int confirmations) {
+      this.confirmations = confirmations;
+    }
+
+    /**
+     * Registers a new chain height.
+     *
+     * @param height the height of the new block.
+     * @return the heights to process.
+     */
+    private List<Long> onNewBlock(long height) {
+      chainHeight = height;
+      if (lastHeight > 0 && height <= lastHeight) {
+        // Rollback: the deposits of the abandoned fork are not emitted.
+        pending.tailMap(height, true).clear();
+        lastHeight = height - 1;
+      }
+      long from = lastHeight > 0 ? lastHeight + 1 : height;
+      List<Long> heights = new ArrayList<>();
+      for (long h = from; h <= height; h++) {
+        heights.add(h);
+      }
+      lastHeight = height;
+      return heights;
+    }
+
+    private void addPending(List<Deposit> deposits) {
+      for (Deposit deposit : deposits) {
+        pending
+            .computeIfAbsent(deposit.getHeight().longValue(), h -> new ArrayList<>())
+            .add(deposit);
+      }
+    }
+
+    private List<Deposit> ready() {
+      Map<Long, List<Deposit>> readyDeposits =
+          pending.headMap(chainHeight - confirmations + 1, true);
+      List<Deposit> deposits =
+          readyDeposits.values().stream()
+              .flatMap(List::stream)
+              .map(d -> d.withConfirmations(chainHeight - d.getHeight().longValue() + 1))
+              .collect(Collectors.toList());
+      readyDeposits.clear();
+      return deposits;
+    }
+  }
+
+  /** A transfer to a watched address. */
+  public static class Deposit {
+
+    private final Address recipient;
+
+    private final TransferTransaction transaction;
+
+    private final String hash;
+
+    private final BigInteger height;
+
+    private final List<Mosaic> mosaics;
+
+    private final long confirmations;
+
+    private Deposit(
+        Address recipient,
+        TransferTransaction transaction,
+        String hash,
+        BigInteger height,
+        List<Mosaic> mosaics,
+        long confirmations) {
+      this.recipient = recipient;
+      this.transaction = transaction;
+      this.hash = hash;
+      this.height = height;
+      this.mosaics = mosaics;
+      this.confirmations = confirmations;
+    }
+
+    private Deposit withConfirmations(long confirmations) {
+      return new Deposit(recipient, transaction, hash, height, mosaics, confirmations);
+    }
+
+    /** @return the watched address, resolved if the transfer used an alias. */
+    public Address getRecipient() {
+      return recipient;
+    }
+
+    /** @return the transfer, an inner transaction if it was sent within an aggregate. */
+    public TransferTransaction getTransaction() {
+      return transaction;
+    }
+
+    /** @return the hash of the transfer or of its aggregate, null if unknown. */
+    public String getHash() {
+      return hash;
+    }
+
+    /** @return the height of the block that includes the transfer. */
+    public BigInteger getHeight() {
+      return height;
+    }
+
+    /** @return the transferred mosaics with their aliases resolved when possible. */
+    public List<Mosaic> getMosaics() {
+      return mosaics;
+    }
+
+    /** @return the confirmation depth when the deposit was emitted, 1 being the tip block. */
+    public long getConfirmations() {
+      return confirmations;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Deposit deposit = (Deposit) o;
+      return confirmations == deposit.confirmations
+          && Objects.equals(recipient, deposit.recipient)
+          && Objects.equals(transaction, deposit.transaction)
+          && Objects.equals(hash, deposit.hash)
+          && Objects.equals(height, deposit.height)
+          && Objects.equals(mosaics, deposit.mosaics);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(recipient, hash, height, confirmations);
+    }
+  }
+}
@@ -0,0 +1,690 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.core.utils.ExceptionUtils;
+import io.nem.symbol.sdk.api.BinarySerialization;
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.PublicAccount;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.blockchain.BlockType;
+import io.nem.symbol.sdk.model.blockchain.FinalizedBlock;
+import io.nem.symbol.sdk.model.blockchain.ImportanceBlockInfo;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionFactory;
+import io.nem.symbol.sdk.model.transaction.TransactionGroup;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.reactivex.disposables.Disposable;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UTFDataFormatException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Optional disk-backed store of finalized blocks and confirmed transactions.
+ *
+ * <p>Records are appended to segment files in a directory and read back through memory-mapped
+ * buffers. Transactions are stored as their {@link BinarySerializationImpl} payload plus the
+ * {@link TransactionInfo} values that are not part of the payload. A height and hash index is
+ * rebuilt from the record headers when the store is opened; a partially written record at the end
+ * of the last segment is discarded.
+ *
+ * <p>Only data at or below the latest known finalized height is accepted, so stored records never
+ * need to be invalidated. The finalized height starts at the highest stored block and moves forward
+ * with {@link #finalized(FinalizedBlock)}.
+ *
+ * <p>Record layout: length (int) | kind (byte) | height (long) | hash (32 bytes) | payload.
+ */
+public class LocalChainStore implements Closeable {
+
+  /** The default maximum size of a segment file. */
+  public static final long DEFAULT_SEGMENT_SIZE = 64L * 1024 * 1024;
+
+  private static final String SEGMENT_PREFIX = "segment-";
+
+  private static final String SEGMENT_SUFFIX = ".dat";
+
+  private static final byte BLOCK_RECORD = 1;
+
+  private static final byte TRANSACTION_RECORD = 2;
+
+  private static final int HASH_SIZE = 32;
+
+  private static final int HEADER_SIZE = 4 + 1 + 8 + HASH_SIZE;
+
+  private final Path directory;
+
+  private final long segmentSize;
+
+  private final BinarySerialization binarySerialization;
+
+  private final List<Segment> segments = new CopyOnWriteArrayList<>();
+
+  private final Map<BigInteger, Location> blocksByHeight = new ConcurrentHashMap<>();
+
+  private final Map<String, Location> blocksByHash = new ConcurrentHashMap<>();
+
+  private final Map<String, Location> transactionsByHash = new ConcurrentHashMap<>();
+
+  private final Map<BigInteger, List<Location>> transactionsByHeight = new ConcurrentHashMap<>();
+
+  private volatile BigInteger finalizedHeight = BigInteger.ZERO;
+
+  /**
+   * Opens or creates a store with {@link #DEFAULT_SEGMENT_SIZE} segments.
+   *
+   * @param directory the directory of the segment files.
+   * @throws IOException if the segments cannot be opened.
+   */
+  public LocalChainStore(Path directory) throws IOException {
+    this(directory, DEFAULT_SEGMENT_SIZE);
+  }
+
+  /**
+   * Opens or creates a store.
+   *
+   * @param directory the directory of the segment files.
+   * @param segmentSize the size after which a new segment file is started.
+   * @throws IOException if the segments cannot be opened.
+   */
+  public LocalChainStore(Path directory, long segmentSize) throws IOException {
+    Validate.notNull(directory, "directory is required");
+    Validate.isTrue(
+        segmentSize > HEADER_SIZE && segmentSize <= Integer.MAX_VALUE,
+        "segmentSize must be between %d and %d",
+        HEADER_SIZE + 1,
+        Integer.MAX_VALUE);
+    this.directory = directory;
+    this.segmentSize = segmentSize;
+    this.binarySerialization = BinarySerializationImpl.INSTANCE;
+    Files.createDirectories(directory);
+    List<Path> files;
+    try (Stream<Path> list = Files.list(directory)) {
+      files = list.filter(this::isSegment).sorted().collect(Collectors.toList());
+    }
+    try {
+      for (Path file : files) {
+        Segment segment = new Segment(file);
+        segments.add(segment);
+        index(segment);
+      }
+    } catch (IOException | RuntimeException e) {
+      close();
+      throw e;
+    }
+  }
+
+  private boolean isSegment(Path file) {
+    String name = file.getFileName().toString();
+    return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+  }
+
+  private void index(Segment segment) throws IOException {
+    ByteBuffer buffer = segment.map();
+    int position = 0;
+    byte[] hash = new byte[HASH_SIZE];
+    while (position + HEADER_SIZE <= buffer.limit()) {
+      int length = buffer.getInt(position);
+      if (length < HEADER_SIZE - 4 || position + 4 + length > buffer.limit()) {
+        break;
+      }
+      byte kind = buffer.get(position + 4);
+      BigInteger height = BigInteger.valueOf(buffer.getLong(position + 5));
+      ByteBuffer hashBuffer = buffer.duplicate();
+      hashBuffer.position(position + 13);
+      hashBuffer.get(hash);
+      addToIndex(kind, height, ConvertUtils.toHex(hash), new Location(segment, position, length));
+      position += 4 + length;
+    }
+    if (position < segment.size) {
+      segment.truncate(position);
+    }
+  }
+
+  private void addToIndex(byte kind, BigInteger height, String hash, Location location) {
+    if (kind == BLOCK_RECORD) {
+      blocksByHeight.put(height, location);
+      blocksByHash.put(hash, location);
+      if (height.compareTo(finalizedHeight) > 0) {
+        finalizedHeight = height;
+      }
+    } else if (kind == TRANSACTION_RECORD) {
+      transactionsByHash.put(hash, location);
+      transactionsByHeight.computeIfAbsent(height, h -> new CopyOnWriteArrayList<>()).add(location);
+    }
+  }
+
+  /**
+   * Records a new finalized block so blocks and transactions up to its height can be stored.
+   *
+   * @param finalizedBlock the finalized block.
+   */
+  public synchronized void finalized(FinalizedBlock finalizedBlock) {
+    Validate.notNull(finalizedBlock, "finalizedBlock is required");
+    if (finalizedBlock.getHeight().compareTo(finalizedHeight) > 0) {
+      finalizedHeight = finalizedBlock.getHeight();
+    }
+  }
+
+  /**
+   * Keeps the finalized height up to date with the listener's finalized blocks.
+   *
+   * @param listener an opened listener.
+   * @return the subscription, dispose it to stop following the finalized blocks.
+   */
+  public Disposable subscribe(Listener listener) {
+    Validate.notNull(listener, "listener is required");
+    return listener.finalizedBlock().subscribe(this::finalized);
+  }
+
+  /** @return the latest known finalized height. */
+  public BigInteger getFinalizedHeight() {
+    return finalizedHeight;
+  }
+
+  /**
+   * Stores a block if it is finalized and not already stored.
+   *
+   * @param block the block.
+   * @return if the block has been stored.
+   */
+  public synchronized boolean putBlock(BlockInfo block) {
+    Validate.notNull(block, "block is required");
+    if (block.getHeight().compareTo(finalizedHeight) > 0
+        || blocksByHeight.containsKey(block.getHeight())) {
+      return false;
+    }
+    byte[] payload = ExceptionUtils.propagate(() -> encodeBlock(block));
+    append(BLOCK_RECORD, block.getHeight(), block.getHash(), payload);
+    return true;
+  }
+
+  /**
+   * Stores a confirmed transaction if it is finalized, fully loaded and not already stored.
+   *
+   * @param transaction the transaction.
+   * @return if the transaction has been stored.
+   */
+  public synchronized boolean putTransaction(Transaction transaction) {
+    Validate.notNull(transaction, "transaction is required");
+    Optional<TransactionInfo> info = transaction.getTransactionInfo();
+    if (!transaction.isTransactionFullyLoaded()
+        || !info.isPresent()
+        || !info.get().getHash().isPresent()
+        || info.get().getHeight().signum() == 0
+        || info.get().getHeight().compareTo(finalizedHeight) > 0
+        || transactionsByHash.containsKey(info.get().getHash().get().toUpperCase())) {
+      return false;
+    }
+    byte[] payload = ExceptionUtils.propagate(() -> encodeTransaction(transaction, info.get()));
+    append(TRANSACTION_RECORD, info.get().getHeight(), info.get().getHash().get(), payload);
+    return true;
+  }
+
+  /**
+   * @param height the block height.
+   * @return the stored block if present.
+   */
+  public Optional<BlockInfo> getBlockByHeight(BigInteger height) {
+    Validate.notNull(height, "height is required");
+    return Optional.ofNullable(blocksByHeight.get(height)).map(this::readBlock);
+  }
+
+  /**
+   * @param hash the block hash.
+   * @return the stored block if present.
+   */
+  public Optional<BlockInfo> getBlockByHash(String hash) {
+    Validate.notNull(hash, "hash is required");
+    return Optional.ofNullable(blocksByHash.get(hash.toUpperCase())).map(this::readBlock);
+  }
+
+  /**
+   * @param hash the transaction hash.
+   * @return the stored transaction if present.
+   */
+  public Optional<Transaction> getTransaction(String hash) {
+    Validate.notNull(hash, "hash is required");
+    return Optional.ofNullable(transactionsByHash.get(hash.toUpperCase()))
+        .map(this::readTransaction);
+  }
+
+  /**
+   * @param height the block height.
+   * @return the stored transactions of the block in insertion order.
+   */
+  public List<Transaction> getTransactions(BigInteger height) {
+    Validate.notNull(height, "height is required");
+    return transactionsByHeight.getOrDefault(height, Collections.emptyList()).stream()
+        .map(this::readTransaction)
+        .collect(Collectors.toList());
+  }
+
+  /** @return the number of stored blocks. */
+  public int getBlockCount() {
+    return blocksByHeight.size();
+  }
+
+  /** @return the number of stored transactions. */
+  public int getTransactionCount() {
+    return transactionsByHash.size();
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    for (Segment segment : segments) {
+      segment.channel.close();
+    }
+  }
+
+  private void append(byte kind, BigInteger height, String hash, byte[] payload) {
+    ExceptionUtils.propagateVoid(
+        () -> {
+          int length = HEADER_SIZE - 4 + payload.length;
+          ByteBuffer record = ByteBuffer.allocate(4 + length);
+          record.putInt(length);
+          record.put(kind);
+          record.putLong(height.longValue());
+          record.put(ConvertUtils.fromHexToBytes(hash));
+          record.put(payload);
+          record.flip();
+          Segment segment = getWritableSegment(record.remaining());
+          long position = segment.size;
+          while (record.hasRemaining()) {
+            segment.channel.write(record, segment.size + record.position());
+          }
+          segment.size += record.limit();
+          addToIndex(kind, height, hash.toUpperCase(), new Location(segment, position, length));
+        });
+  }
+
+  private Segment getWritableSegment(int recordSize) throws IOException {
+    Segment last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+    if (last != null && (last.size == 0 || last.size + recordSize <= segmentSize)) {
+      return last;
+    }
+    String name = String.format("%s%08d%s", SEGMENT_PREFIX, segments.size(), SEGMENT_SUFFIX);
+    Segment segment = new Segment(directory.resolve(name));
+    segments.add(segment);
+    return segment;
+  }
+
+  private BlockInfo readBlock(Location location) {
+    return ExceptionUtils.propagate(() -> decodeBlock(location.read()));
+  }
+
+  private Transaction readTransaction(Location location) {
+    return ExceptionUtils.propagate(
+        () -> {
+          ByteBuffer input = location.read();
+          BigInteger height = BigInteger.valueOf(input.getLong());
+          byte[] hash = new byte[HASH_SIZE];
+          input.get(hash);
+          int index = input.getInt();
+          Integer transactionIndex = index < 0 ? null : index;
+          String id = readString(input);
+          String merkleComponentHash = readString(input);
+          byte[] payload = new byte[input.getInt()];
+          input.get(payload);
+          String hashHex = ConvertUtils.toHex(hash);
+          TransactionFactory<?> factory = binarySerialization.deserializeToFactory(payload);
+          factory.group(TransactionGroup.CONFIRMED);
+          factory.transactionInfo(
+              TransactionInfo.create(
+                  height,
+                  transactionIndex,
+                  id,
+                  hashHex,
+                  merkleComponentHash == null ? hashHex : merkleComponentHash));
+          return factory.build();
+        });
+  }
+
+  private byte[] encodeTransaction(Transaction transaction, TransactionInfo info)
+      throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream output = new DataOutputStream(bytes);
+    output.writeInt(info.getIndex().orElse(-1));
+    writeString(output, info.getId().orElse(null));
+    writeString(output, info.getMerkleComponentHash().orElse(null));
+    byte[] payload = binarySerialization.serialize(transaction);
+    output.writeInt(payload.length);
+    output.write(payload);
+    return bytes.toByteArray();
+  }
+
+  private static byte[] encodeBlock(BlockInfo block) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream output = new DataOutputStream(bytes);
+    output.writeBoolean(block instanceof ImportanceBlockInfo);
+    writeString(output, block.getRecordId().orElse(null));
+    output.writeLong(block.getSize());
+    writeString(output, block.getGenerationHash());
+    writeBigInteger(output, block.getTotalFee());
+    writeStrings(output, block.getStateHashSubCacheMerkleRoots());
+    output.writeInt(block.getTransactionsCount());
+    output.writeInt(block.getTotalTransactionsCount());
+    output.writeInt(block.getStatementsCount());
+    writeStrings(output, block.getSubCacheMerkleRoots());
+    writeString(output, block.getSignature());
+    writeString(output, block.getSignerPublicAccount().getPublicKey().toHex());
+    output.writeByte(block.getNetworkType().getValue());
+    output.writeInt(block.getVersion());
+    output.writeShort(block.getType().getValue());
+    writeBigInteger(output, block.getTimestamp());
+    writeBigInteger(output, block.getDifficulty());
+    output.writeLong(block.getFeeMultiplier());
+    writeString(output, block.getPreviousBlockHash());
+    writeString(output, block.getBlockTransactionsHash());
+    writeString(output, block.getBlockReceiptsHash());
+    writeString(output, block.getStateHash());
+    writeString(output, block.getProofGamma());
+    writeString(output, block.getProofScalar());
+    writeString(output, block.getProofVerificationHash());
+    writeString(output, block.getBeneficiaryAddress().plain());
+    if (block instanceof ImportanceBlockInfo) {
+      ImportanceBlockInfo importance = (ImportanceBlockInfo) block;
+      output.writeLong(importance.getVotingEligibleAccountsCount());
+      writeBigInteger(output, importance.getHarvestingEligibleAccountsCount());
+      writeBigInteger(output, importance.getTotalVotingBalance());
+      writeString(output, importance.getPreviousImportanceBlockHash());
+    }
+    return bytes.toByteArray();
+  }
+
+  private static BlockInfo decodeBlock(ByteBuffer input) throws IOException {
+    BigInteger height = BigInteger.valueOf(input.getLong());
+    byte[] hashBytes = new byte[HASH_SIZE];
+    input.get(hashBytes);
+    String hash = ConvertUtils.toHex(hashBytes);
+    boolean importance = input.get() != 0;
+    String recordId = readString(input);
+    long size = input.getLong();
+    String generationHash = readString(input);
+    BigInteger totalFee = readBigInteger(input);
+    List<String> stateHashSubCacheMerkleRoots = readStrings(input);
+    int transactionsCount = input.getInt();
+    int totalTransactionsCount = input.getInt();
+    int statementsCount = input.getInt();
+    List<String> subCacheMerkleRoots = readStrings(input);
+    String signature = readString(input);
+    String signerPublicKey = readString(input);
+    NetworkType networkType = NetworkType.rawValueOf(input.get() & 0xff);
+    int version = input.getInt();
+    BlockType type = BlockType.rawValueOf(input.getShort() & 0xffff);
+    BigInteger timestamp = readBigInteger(input);
+    BigInteger difficulty = readBigInteger(input);
+    long feeMultiplier = input.getLong();
+    String previousBlockHash = readString(input);
+    String blockTransactionsHash = readString(input);
+    String blockReceiptsHash = readString(input);
+    String stateHash = readString(input);
+    String proofGamma = readString(input);
+    String proofScalar = readString(input);
+    String proofVerificationHash = readString(input);
+    Address beneficiaryAddress = Address.createFromRawAddress(readString(input));
+    PublicAccount signer = PublicAccount.createFromPublicKey(signerPublicKey, networkType);
+    if (importance) {
+      return new ImportanceBlockInfo(
+          recordId,
+          size,
+          hash,
+          generationHash,
+          totalFee,
+          stateHashSubCacheMerkleRoots,
+          transactionsCount,
+          totalTransactionsCount,
+          statementsCount,
+          subCacheMerkleRoots,
+          signature,
+          signer,
+          networkType,
+          version,
+          type,
+          height,
+          timestamp,
+          difficulty,
+          feeMultiplier,
+          previousBlockHash,
+          blockTransactionsHash,
+          blockReceiptsHash,
+          stateHash,
+          proofGamma,
+          proofScalar,
+          proofVerificationHash,
+          beneficiaryAddress,
+          input.getLong(),
+          readBigInteger(input),
+          readBigInteger(input),
+          readString(input));
+    }
+    return new BlockInfo(
+        recordId,
+        size,
+        hash,
+        generationHash,
+        totalFee,
+        stateHashSubCacheMerkleRoots,
+        transactionsCount,
+        totalTransactionsCount,
+        statementsCount,
+        subCacheMerkleRoots,
+        signature,
+        signer,
+        networkType,
+        version,
+        type,
+        height,
+        timestamp,
+        difficulty,
+        feeMultiplier,
+        previousBlockHash,
+        blockTransactionsHash,
+        blockReceiptsHash,
+        stateHash,
+        proofGamma,
+        proofScalar,
+        proofVerificationHash,
+        beneficiaryAddress);
+  }
+
+  private static void writeString(DataOutputStream output, String value) throws IOException {
+    output.writeBoolean(value != null);
+    if (value != null) {
+      output.writeUTF(value);
+    }
+  }
+
+  private static String readString(ByteBuffer input) throws IOException {
+    return input.get() != 0 ? readUtf(input) : null;
+  }
+
+  /**
+   * Decodes a string written by {@link DataOutputStream#writeUTF(String)}: an unsigned short byte
+   * length followed by the modified UTF-8 bytes, which are at most 3 bytes per char.
+   */
+  private static String readUtf(ByteBuffer input) throws IOException {
+    int length = input.getShort() & 0xffff;
+    int end = input.position() + length;
+    char[] chars = new char[length];
+    int count = 0;
+    while (input.position() < end) {
+      int first = input.get() & 0xff;
+      if (first < 0x80) {
+        chars[count++] = (char) first;
+      } else if ((first & 0xe0) == 0xc0) {
+        chars[count++] = (char) (((first & 0x1f) << 6) | (input.get() & 0x3f));
+      } else if ((first & 0xf0) == 0xe0) {
+        int second = input.get() & 0x3f;
+        chars[count++] = (char) (((first & 0x0f) << 12) | (second << 6) | (input.get() & 0x3f));
+      } else {
+        throw new UTFDataFormatException("malformed input around byte " + input.position());
+      }
+    }
+    if (input.position() != end) {
+      throw new UTFDataFormatException("partial character at end");
+    }
+    return new String(chars, 0, count);
+  }
+
+  private static void writeStrings(DataOutputStream output, List<String> values)
+      throws IOException {
+    output.writeInt(values.size());
+    for (String value : values) {
+      output.writeUTF(value);
+    }
+  }
+
+  private static List<String> readStrings(ByteBuffer input) throws IOException {
+    int size = input.getInt();
+    List<String> values = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      values.add(readUtf(input));
+    }
+    return values;
+  }
+
+  private static void writeBigInteger(DataOutputStream output, BigInteger value)
+      throws IOException {
+    byte[] bytes = value.toByteArray();
+    output.writeByte(bytes.length);
+    output.write(bytes);
+  }
+
+  private static BigInteger readBigInteger(ByteBuffer input) {
+    byte[] bytes = new byte[input.get() & 0xff];
+    input.get(bytes);
+    return new BigInteger(bytes);
+  }
+
+  /** A segment file, appended through its channel and read through a mapped buffer. */
+  private static class Segment {
+
+    /** The smallest unmapped tail that is mapped again, smaller tails are read directly. */
+    private static final long MIN_REMAP_SIZE = 4L * 1024 * 1024;
+
+    private final FileChannel channel;
+
+    private volatile long size;
+
+    private volatile MappedByteBuffer mapped;
+
+    private Segment(Path file) throws IOException {
+      this.channel =
+          FileChannel.open(
+              file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      this.size = channel.size();
+    }
+
+    private synchronized ByteBuffer map() throws IOException {
+      if (mapped == null || mapped.limit() < size) {
+        mapped = channel.map(MapMode.READ_ONLY, 0, size);
+      }
+      return mapped.duplicate();
+    }
+
+    /**
+     * Returns the bytes of a range of the segment. Records appended after the segment was mapped
+     * are read through the channel, the segment is only mapped again once the unmapped tail is as
+     * large as the current mapping, so appending and reading maps a segment a few times only.
+     *
+     * @param position the position of the range.
+     * @param length the length of the range.
+     * @return a buffer whose remaining bytes are the range.
+     */
+    private ByteBuffer read(long position, int length) throws IOException {
+      long end = position + length;
+      MappedByteBuffer current = mapped;
+      if (current == null || current.limit() < end) {
+        current = remap(end);
+      }
+      if (current != null) {
+        ByteBuffer buffer = current.duplicate();
+        buffer.limit((int) end);
+        buffer.position((int) position);
+        return buffer;
+      }
+      ByteBuffer buffer = ByteBuffer.allocate(length);
+      while (buffer.hasRemaining()) {
+        if (channel.read(buffer, position + buffer.position()) < 0) {
+          throw new EOFException("Record at " + position + " is beyond the end of the segment");
+        }
+      }
+      buffer.flip();
+      return buffer;
+    }
+
+    /** @return the mapping if it covers the end, or null if the range must be read directly. */
+    private synchronized MappedByteBuffer remap(long end) throws IOException {
+      long mappedSize = mapped == null ? 0 : mapped.limit();
+      if (mappedSize < end
+          && (mapped == null || size - mappedSize >= Math.max(MIN_REMAP_SIZE, mappedSize))) {
+        mapped = channel.map(MapMode.READ_ONLY, 0, size);
+      }
+      return mapped != null && mapped.limit() >= end ? mapped : null;
+    }
+
+    private void truncate(long newSize) throws IOException {
+      channel.truncate(newSize);
+      size = newSize;
+      mapped = null;
+    }
+  }
+
+  /** The location of a record, the position points to the record's length prefix. */
+  private static class Location {
+
+    private final Segment segment;
+
+    private final long position;
+
+    private final int length;
+
+    private Location(Segment segment, long position, int length) {
+      this.segment = segment;
+      this.position = position;
+      this.length = length;
+    }
+
+    /** @return a buffer over the record, positioned after the record kind, at the height. */
+    private ByteBuffer read() throws IOException {
+      return segment.read(position + 5, length - 1);
+    }
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.BlockRepository;
+import io.nem.symbol.sdk.api.BlockSearchCriteria;
+import io.nem.symbol.sdk.api.Page;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.blockchain.MerkleProofInfo;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * {@link BlockRepository} that reads finalized blocks from a {@link LocalChainStore} before going
+ * to the network. Finalized blocks loaded from the network are added to the store.
+ */
+public class LocalStoreBlockRepository implements BlockRepository {
+
+  /** The remote repository. */
+  private final BlockRepository delegate;
+
+  /** The local store. */
+  private final LocalChainStore store;
+
+  /**
+   * @param delegate the remote repository.
+   * @param store the local store.
+   */
+  public LocalStoreBlockRepository(BlockRepository delegate, LocalChainStore store) {
+    Validate.notNull(delegate, "delegate is required");
+    Validate.notNull(store, "store is required");
+    this.delegate = delegate;
+    this.store = store;
+  }
+
+  @Override
+  public Observable<BlockInfo> getBlockByHeight(BigInteger height) {
+    Validate.notNull(height, "height is required");
+    return Observable.defer(
+        () ->
+            store
+                .getBlockByHeight(height)
+                .map(Observable::just)
+                .orElseGet(() -> delegate.getBlockByHeight(height).doOnNext(store::putBlock)));
+  }
+
+  @Override
+  public Observable<MerkleProofInfo> getMerkleTransaction(BigInteger height, String hash) {
+    return delegate.getMerkleTransaction(height, hash);
+  }
+
+  @Override
+  public Observable<MerkleProofInfo> getMerkleReceipts(BigInteger height, String hash) {
+    return delegate.getMerkleReceipts(height, hash);
+  }
+
+  @Override
+  public Observable<Page<BlockInfo>> search(BlockSearchCriteria criteria) {
+    return delegate.search(criteria);
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.Page;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.api.TransactionSearchCriteria;
+import io.nem.symbol.sdk.model.transaction.CosignatureSignedTransaction;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionAnnounceResponse;
+import io.nem.symbol.sdk.model.transaction.TransactionGroup;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.reactivex.Observable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * {@link TransactionRepository} that reads confirmed transactions from a {@link LocalChainStore}
+ * before going to the network. Finalized transactions loaded from the network are added to the
+ * store.
+ */
+public class LocalStoreTransactionRepository implements TransactionRepository {
+
+  /** The remote repository. */
+  private final TransactionRepository delegate;
+
+  /** The local store. */
+  private final LocalChainStore store;
+
+  /**
+   * @param delegate the remote repository.
+   * @param store the local store.
+   */
+  public LocalStoreTransactionRepository(TransactionRepository delegate, LocalChainStore store) {
+    Validate.notNull(delegate, "delegate is required");
+    Validate.notNull(store, "store is required");
+    this.delegate = delegate;
+    this.store = store;
+  }
+
+  @Override
+  public Observable<Transaction> getTransaction(TransactionGroup group, String transactionHash) {
+    Validate.notNull(group, "group is required");
+    Validate.notNull(transactionHash, "transactionHash is required");
+    if (group != TransactionGroup.CONFIRMED) {
+      return delegate.getTransaction(group, transactionHash);
+    }
+    return Observable.defer(
+        () ->
+            store
+                .getTransaction(transactionHash)
+                .map(Observable::just)
+                .orElseGet(
+                    () ->
+                        delegate
+                            .getTransaction(group, transactionHash)
+                            .doOnNext(store::putTransaction)));
+  }
+
+  @Override
+  public Observable<List<Transaction>> getTransactions(
+      TransactionGroup group, List<String> transactionHashes) {
+    Validate.notNull(group, "group is required");
+    Validate.notNull(transactionHashes, "transactionHashes is required");
+    if (group != TransactionGroup.CONFIRMED) {
+      return delegate.getTransactions(group, transactionHashes);
+    }
+    return Observable.defer(
+        () -> {
+          Map<String, Transaction> local = new HashMap<>();
+          List<String> missing = new ArrayList<>();
+          for (String hash : transactionHashes) {
+            Optional<Transaction> transaction = store.getTransaction(hash);
+            if (transaction.isPresent()) {
+              local.put(hash, transaction.get());
+            } else {
+              missing.add(hash);
+            }
+          }
+          if (missing.isEmpty()) {
+            return Observable.just(merge(transactionHashes, local));
+          }
+          return delegate
+              .getTransactions(group, missing)
+              .map(
+                  remote -> {
+                    for (Transaction transaction : remote) {
+                      store.putTransaction(transaction);
+                      transaction
+                          .getTransactionInfo()
+                          .flatMap(TransactionInfo::getHash)
+                          .ifPresent(hash -> local.put(hash.toUpperCase(), transaction));
+                    }
+                    return merge(transactionHashes, local);
+                  });
+        });
+  }
+
+  /** @return the known transactions in the order of the requested hashes. */
+  private static List<Transaction> merge(List<String> hashes, Map<String, Transaction> found) {
+    List<Transaction> transactions = new ArrayList<>(hashes.size());
+    for (String hash : hashes) {
+      Transaction transaction = found.get(hash);
+      if (transaction == null) {
+        transaction = found.get(hash.toUpperCase());
+      }
+      if (transaction != null) {
+        transactions.add(transaction);
+      }
+    }
+    return transactions;
+  }
+
+  @Override
+  public Observable<Page<Transaction>> search(TransactionSearchCriteria criteria) {
+    return delegate.search(criteria);
+  }
+
+  @Override
+  public Observable<TransactionAnnounceResponse> announce(SignedTransaction signedTransaction) {
+    return delegate.announce(signedTransaction);
+  }
+
+  @Override
+  public Observable<TransactionAnnounceResponse> announceAggregateBonded(
+      SignedTransaction signedTransaction) {
+    return delegate.announceAggregateBonded(signedTransaction);
+  }
+
+  @Override
+  public Observable<TransactionAnnounceResponse> announceAggregateBondedCosignature(
+      CosignatureSignedTransaction cosignatureSignedTransaction) {
+    return delegate.announceAggregateBondedCosignature(cosignatureSignedTransaction);
+  }
+}
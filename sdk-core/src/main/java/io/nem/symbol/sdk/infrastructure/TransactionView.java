@@ -0,0 +1,220 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Optional;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Read-only flyweight view of a serialized transaction. The fields are decoded on access at their
+ * fixed catbuffer offsets, nothing is copied when the view is positioned.
+ *
+ * <p>A view can be reused for many payloads by calling {@link #wrap(ByteBuffer, int)} or {@link
+ * #wrapEmbedded(ByteBuffer, int)} again. Views are not thread safe.
+ */
+public class TransactionView {
+
+  /** The size of the common attributes of a top level transaction. */
+  static final int HEADER_SIZE = 128;
+
+  /** The size of the common attributes of an embedded transaction. */
+  static final int EMBEDDED_HEADER_SIZE = 48;
+
+  /** The caller's buffer, kept to reuse the little endian duplicate. */
+  private ByteBuffer source;
+
+  /** Little endian duplicate of the source buffer. */
+  private ByteBuffer buffer;
+
+  private int offset;
+
+  private boolean embedded;
+
+  /**
+   * Positions the view on a top level transaction.
+   *
+   * @param payload the buffer holding the payload, it can be a mapped file.
+   * @param offset the absolute offset of the transaction in the buffer.
+   * @return this view.
+   */
+  public TransactionView wrap(ByteBuffer payload, int offset) {
+    return position(payload, offset, false);
+  }
+
+  /**
+   * Positions the view on an embedded transaction of an aggregate.
+   *
+   * @param payload the buffer holding the payload, it can be a mapped file.
+   * @param offset the absolute offset of the embedded transaction in the buffer.
+   * @return this view.
+   */
+  public TransactionView wrapEmbedded(ByteBuffer payload, int offset) {
+    return position(payload, offset, true);
+  }
+
+  TransactionView position(ByteBuffer payload, int offset, boolean embedded) {
+    Validate.notNull(payload, "payload is required");
+    if (payload != source) {
+      source = payload;
+      buffer = payload.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+    int headerSize = embedded ? EMBEDDED_HEADER_SIZE : HEADER_SIZE;
+    Validate.isTrue(
+        offset >= 0 && offset + headerSize <= buffer.limit(), "Invalid transaction offset");
+    this.offset = offset;
+    this.embedded = embedded;
+    int size = getSize();
+    Validate.isTrue(
+        size >= headerSize && offset + size <= buffer.limit(), "Invalid transaction size %d", size);
+    return this;
+  }
+
+  /** @return the little endian buffer of the view. */
+  ByteBuffer getBuffer() {
+    return buffer;
+  }
+
+  /** @return the caller's buffer the view is positioned on. */
+  public ByteBuffer getSource() {
+    return source;
+  }
+
+  /** @return the absolute offset of the transaction. */
+  public int getOffset() {
+    return offset;
+  }
+
+  /** @return if the view is positioned on an embedded transaction. */
+  public boolean isEmbedded() {
+    return embedded;
+  }
+
+  /** @return the size of the transaction in bytes. */
+  public int getSize() {
+    return buffer.getInt(offset);
+  }
+
+  /** @return the absolute offset of the transaction body. */
+  public int getBodyOffset() {
+    return offset + (embedded ? EMBEDDED_HEADER_SIZE : HEADER_SIZE);
+  }
+
+  /** @return the raw transaction type value. */
+  public int getTypeValue() {
+    return SerializationUtils.shortToUnsignedInt(buffer.getShort(offset + (embedded ? 46 : 110)));
+  }
+
+  /** @return the transaction type. */
+  public TransactionType getType() {
+    return TransactionType.rawValueOf(getTypeValue());
+  }
+
+  /** @return the transaction version. */
+  public int getVersion() {
+    return SerializationUtils.byteToUnsignedInt(buffer.get(offset + (embedded ? 44 : 108)));
+  }
+
+  /** @return the network type. */
+  public NetworkType getNetworkType() {
+    return NetworkType.rawValueOf(
+        SerializationUtils.byteToUnsignedInt(buffer.get(offset + (embedded ? 45 : 109))));
+  }
+
+  /** @return the max fee as an unsigned long. */
+  public long getMaxFee() {
+    return buffer.getLong(topLevelOffset(112));
+  }
+
+  /** @return the deadline as an unsigned long. */
+  public long getDeadline() {
+    return buffer.getLong(topLevelOffset(120));
+  }
+
+  /** @return the signature hex or empty if the transaction has not been signed. */
+  public Optional<String> getSignature() {
+    return toHex(topLevelOffset(8), 64);
+  }
+
+  /** @return the signer public key or empty if the payload does not have a signer. */
+  public Optional<PublicKey> getSigner() {
+    return toHex(getSignerOffset(), PublicKey.SIZE).map(PublicKey::fromHexString);
+  }
+
+  /**
+   * Compares the signer without decoding it.
+   *
+   * @param publicKey the public key.
+   * @return if the transaction was signed by the given public key.
+   */
+  public boolean isSigner(PublicKey publicKey) {
+    return equalBytes(getSignerOffset(), publicKey.getBytes());
+  }
+
+  /**
+   * Decodes the full model of the transaction. Only top level transactions can be decoded.
+   *
+   * @return the {@link Transaction}.
+   */
+  public Transaction toTransaction() {
+    Validate.validState(!embedded, "Embedded transactions cannot be decoded on their own");
+    ByteBuffer payload = buffer.duplicate();
+    payload.limit(offset + getSize());
+    payload.position(offset);
+    return BinarySerializationImpl.INSTANCE.deserialize(payload);
+  }
+
+  /**
+   * Compares bytes of the payload.
+   *
+   * @param position the absolute position of the first byte.
+   * @param bytes the expected bytes.
+   * @return if the payload has the given bytes at the position.
+   */
+  boolean equalBytes(int position, byte[] bytes) {
+    for (int i = 0; i < bytes.length; i++) {
+      if (buffer.get(position + i) != bytes[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int getSignerOffset() {
+    return offset + (embedded ? 8 : 72);
+  }
+
+  private int topLevelOffset(int relative) {
+    Validate.validState(!embedded, "Embedded transactions do not have this attribute");
+    return offset + relative;
+  }
+
+  private Optional<String> toHex(int position, int size) {
+    byte[] bytes = new byte[size];
+    boolean allZeros = true;
+    for (int i = 0; i < size; i++) {
+      bytes[i] = buffer.get(position + i);
+      allZeros &= bytes[i] == 0;
+    }
+    return allZeros ? Optional.empty() : Optional.of(ConvertUtils.toHex(bytes));
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.core.utils.MapperUtils;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.message.Message;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Read-only flyweight view of a serialized transfer transaction, top level or embedded.
+ *
+ * <p>The body layout is the recipient (24 bytes), the message size (2 bytes), the mosaics count (1
+ * byte), 5 reserved bytes, the mosaics (id and amount, 8 bytes each) and the message.
+ */
+public class TransferTransactionView extends TransactionView {
+
+  private static final int RECIPIENT_SIZE = 24;
+
+  private static final int MOSAICS_OFFSET = 32;
+
+  private static final int MOSAIC_SIZE = 16;
+
+  @Override
+  TransferTransactionView position(ByteBuffer payload, int offset, boolean embedded) {
+    super.position(payload, offset, embedded);
+    Validate.isTrue(
+        getTypeValue() == TransactionType.TRANSFER.getValue(),
+        "Transaction is not a transfer transaction");
+    Validate.isTrue(
+        MOSAICS_OFFSET + getMosaicsCount() * MOSAIC_SIZE + getMessageSize()
+            <= getSize() - (getBodyOffset() - getOffset()),
+        "Invalid transfer transaction body");
+    return this;
+  }
+
+  @Override
+  public TransferTransactionView wrap(ByteBuffer payload, int offset) {
+    return position(payload, offset, false);
+  }
+
+  @Override
+  public TransferTransactionView wrapEmbedded(ByteBuffer payload, int offset) {
+    return position(payload, offset, true);
+  }
+
+  /** @return the recipient, an address or a namespace id. */
+  public UnresolvedAddress getRecipient() {
+    byte[] recipient = new byte[RECIPIENT_SIZE];
+    for (int i = 0; i < RECIPIENT_SIZE; i++) {
+      recipient[i] = getBuffer().get(getBodyOffset() + i);
+    }
+    return MapperUtils.toUnresolvedAddress(ConvertUtils.toHex(recipient));
+  }
+
+  /**
+   * Compares the recipient with its serialized form without decoding the payload.
+   *
+   * @param encodedRecipient the 24 bytes of the address or namespace id, as returned by {@link
+   *     SerializationUtils#fromUnresolvedAddressToByteBuffer}.
+   * @return if the transfer is sent to the recipient.
+   */
+  public boolean isRecipient(byte[] encodedRecipient) {
+    Validate.isTrue(encodedRecipient.length == RECIPIENT_SIZE, "Invalid recipient size");
+    return equalBytes(getBodyOffset(), encodedRecipient);
+  }
+
+  /**
+   * Compares the recipient without decoding the payload.
+   *
+   * @param recipient the address or namespace id.
+   * @return if the transfer is sent to the recipient.
+   */
+  public boolean isRecipient(UnresolvedAddress recipient) {
+    return isRecipient(
+        SerializationUtils.fromUnresolvedAddressToByteBuffer(recipient, getNetworkType()).array());
+  }
+
+  /** @return the size of the message payload. */
+  public int getMessageSize() {
+    return SerializationUtils.shortToUnsignedInt(getBuffer().getShort(getBodyOffset() + 24));
+  }
+
+  /** @return the number of mosaics. */
+  public int getMosaicsCount() {
+    return SerializationUtils.byteToUnsignedInt(getBuffer().get(getBodyOffset() + 26));
+  }
+
+  /**
+   * @param index the index of the mosaic, mosaics are sorted by id.
+   * @return the unresolved mosaic id as a long.
+   */
+  public long getMosaicId(int index) {
+    return getBuffer().getLong(mosaicOffset(checkMosaicIndex(index)));
+  }
+
+  /**
+   * @param index the index of the mosaic, mosaics are sorted by id.
+   * @return the amount as an unsigned long.
+   */
+  public long getMosaicAmount(int index) {
+    return getBuffer().getLong(mosaicOffset(checkMosaicIndex(index)) + 8);
+  }
+
+  /** @return the message or empty if the transfer does not have one. */
+  public Optional<Message> getMessage() {
+    int messageOffset = mosaicOffset(getMosaicsCount());
+    byte[] message = new byte[getMessageSize()];
+    for (int i = 0; i < message.length; i++) {
+      message[i] = getBuffer().get(messageOffset + i);
+    }
+    return Message.createFromPayload(message);
+  }
+
+  private int checkMosaicIndex(int index) {
+    if (index < 0 || index >= getMosaicsCount()) {
+      throw new IndexOutOfBoundsException("Invalid mosaic index " + index);
+    }
+    return index;
+  }
+
+  private int mosaicOffset(int index) {
+    return getBodyOffset() + MOSAICS_OFFSET + index * MOSAIC_SIZE;
+  }
+}
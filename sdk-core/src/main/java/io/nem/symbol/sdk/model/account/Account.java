@@ -43,6 +43,9 @@ public class Account {
 
   private final NetworkType networkType;
 
+  /** The signer of the account, created on first use. */
+  private volatile DsaSigner signer;
+
   /**
    * Constructor
    *
@@ -51,13 +54,13 @@ public class Account {
    */
   public Account(String privateKey, NetworkType networkType) {
     this.keyPair = KeyPair.fromPrivate(PrivateKey.fromHexString(privateKey));
-    this.publicAccount = new PublicAccount(this.getPublicKey(), networkType);
+    this.publicAccount = new PublicAccount(this.keyPair.getPublicKey(), networkType);
     this.networkType = networkType;
   }
 
   public Account(KeyPair keyPair, NetworkType networkType) {
     this.keyPair = keyPair;
-    this.publicAccount = new PublicAccount(this.getPublicKey(), networkType);
+    this.publicAccount = new PublicAccount(this.keyPair.getPublicKey(), networkType);
     this.networkType = networkType;
   }
 
@@ -127,6 +130,21 @@ public class Account {
     return publicAccount;
   }
 
+  /**
+   * Returns the DSA signer of the account. The signer is created once and reused, it keeps the
+   * expanded private key so the key is not hashed again for every signature.
+   *
+   * @return the {@link DsaSigner}.
+   */
+  public DsaSigner getSigner() {
+    DsaSigner current = this.signer;
+    if (current == null) {
+      current = CryptoEngines.defaultEngine().createDsaSigner(this.getKeyPair());
+      this.signer = current;
+    }
+    return current;
+  }
+
   /**
    * Sign a transaction.
    *
@@ -156,9 +174,8 @@ public class Account {
    * @return {@link CosignatureSignedTransaction}
    */
   public CosignatureSignedTransaction signCosignatureTransaction(String transactionHash) {
-    DsaSigner signer = CryptoEngines.defaultEngine().createDsaSigner(this.getKeyPair());
     byte[] bytes = ConvertUtils.fromHexToBytes(transactionHash);
-    byte[] signatureBytes = signer.sign(bytes).getBytes();
+    byte[] signatureBytes = getSigner().sign(bytes).getBytes();
     return new CosignatureSignedTransaction(
         AggregateTransactionCosignature.DEFAULT_VERSION,
         transactionHash,
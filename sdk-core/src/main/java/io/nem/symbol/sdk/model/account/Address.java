@@ -38,7 +38,7 @@ public class Address implements UnresolvedAddress {
   private static final int PLAIN_ADDRESS_SIZE = 39;
 
   /** The raw address size. */
-  private static final int RAW_ADDRESS_SIZE = 24;
+  private static final int RAW_ADDRESS_SIZE = RawAddress.RAW_ADDRESS_SIZE;
 
   /** The checksum size. */
   private static final int CHECKSUM_SIZE = RawAddress.NUM_CHECKSUM_BYTES;
@@ -123,6 +123,23 @@ public class Address implements UnresolvedAddress {
     return new Address(RawAddress.generateAddress(publicKey, networkType), networkType);
   }
 
+  /**
+   * Creates an address based on the public key and the network type. The address bytes are
+   * derived directly from the key bytes, without hex conversions.
+   *
+   * @param publicKey the {@link PublicKey}
+   * @param networkType the {@link NetworkType}
+   * @return Address
+   * @see RawAddress#generateAddressBytes(PublicKey, NetworkType)
+   */
+  public static Address createFromPublicKey(PublicKey publicKey, NetworkType networkType) {
+    Validate.notNull(publicKey, "publicKey must not be null");
+    Validate.notNull(networkType, "networkType must not be null");
+    return new Address(
+        RawAddress.toPlainAddress(RawAddress.generateAddressBytes(publicKey, networkType)),
+        networkType);
+  }
+
   /**
    * Determines the validity of a plainAddress address.
    *
@@ -238,7 +255,7 @@ public class Address implements UnresolvedAddress {
    * @return an random address.
    */
   public static Address generateRandom(NetworkType networkType) {
-    return Address.createFromPublicKey(PublicKey.generateRandom().toHex(), networkType);
+    return Address.createFromPublicKey(PublicKey.generateRandom(), networkType);
   }
 
   /**
@@ -306,9 +323,7 @@ public class Address implements UnresolvedAddress {
    * @return the encoded address.
    */
   private static String fromEncodedToPlain(String encoded) {
-    byte[] bytes = ConvertUtils.fromHexToBytes(encoded);
-    String rawAddress = Base32Encoder.getString(bytes);
-    return rawAddress.substring(0, rawAddress.length() - 1);
+    return RawAddress.toPlainAddress(ConvertUtils.fromHexToBytes(encoded));
   }
 
   /**
@@ -34,6 +34,17 @@ public class PublicAccount {
     this.publicKey = PublicKey.fromHexString(publicKey);
   }
 
+  /**
+   * Creates a public account from a public key without hex conversions.
+   *
+   * @param publicKey Public key
+   * @param networkType NetworkType
+   */
+  public PublicAccount(PublicKey publicKey, NetworkType networkType) {
+    this.address = Address.createFromPublicKey(publicKey, networkType);
+    this.publicKey = publicKey;
+  }
+
   /**
    * Create a PublicAccount from a public key and network type.
    *
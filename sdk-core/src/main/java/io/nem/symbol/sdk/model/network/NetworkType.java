@@ -51,6 +51,15 @@ public enum NetworkType {
     this.addressPrefix = addressPrefix;
   }
 
+  /** The network types indexed by their one byte serialization value. */
+  private static final NetworkType[] BY_VALUE = new NetworkType[256];
+
+  static {
+    for (NetworkType networkType : values()) {
+      BY_VALUE[networkType.value] = networkType;
+    }
+  }
+
   /**
    * Static constructor converting network raw value to enum instance.
    *
@@ -58,10 +67,11 @@ public enum NetworkType {
    * @return {@link NetworkType}
    */
   public static NetworkType rawValueOf(int value) {
-    return Arrays.stream(values())
-        .filter(e -> e.value == value)
-        .findFirst()
-        .orElseThrow(() -> new IllegalArgumentException(value + " is not a valid value"));
+    NetworkType networkType = value >= 0 && value < BY_VALUE.length ? BY_VALUE[value] : null;
+    if (networkType == null) {
+      throw new IllegalArgumentException(value + " is not a valid value");
+    }
+    return networkType;
   }
 
   /**
@@ -17,6 +17,7 @@ package io.nem.symbol.sdk.model.receipt;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.Set;
 
@@ -182,6 +183,24 @@ public enum ReceiptType {
     this.value = value;
   }
 
+  /**
+   * The receipt type values in ascending order. The values are too sparse for a table indexed by
+   * value, the lookup is a binary search instead.
+   */
+  private static final int[] SORTED_VALUES;
+
+  /** The receipt types in the order of {@link #SORTED_VALUES}. */
+  private static final ReceiptType[] SORTED_TYPES;
+
+  static {
+    SORTED_TYPES = values();
+    Arrays.sort(SORTED_TYPES, Comparator.comparingInt(ReceiptType::getValue));
+    SORTED_VALUES = new int[SORTED_TYPES.length];
+    for (int i = 0; i < SORTED_TYPES.length; i++) {
+      SORTED_VALUES[i] = SORTED_TYPES[i].value;
+    }
+  }
+
   /**
    * Static constructor converting receipt type raw value to enum instance.
    *
@@ -189,10 +208,11 @@ public enum ReceiptType {
    * @return {@link ReceiptType}
    */
   public static ReceiptType rawValueOf(int value) {
-    return Arrays.stream(values())
-        .filter(e -> e.value == value)
-        .findFirst()
-        .orElseThrow(() -> new IllegalArgumentException(value + " is not a valid value"));
+    int index = Arrays.binarySearch(SORTED_VALUES, value);
+    if (index < 0) {
+      throw new IllegalArgumentException(value + " is not a valid value");
+    }
+    return SORTED_TYPES[index];
   }
 
   /**
@@ -15,17 +15,15 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
-import io.nem.symbol.catapult.builders.CosignatureBuilder;
-import io.nem.symbol.catapult.builders.SignatureDto;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.infrastructure.SerializationUtils;
 import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.PublicAccount;
-import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
-import org.apache.commons.lang3.ArrayUtils;
 
 /**
  * The aggregate innerTransactions contain multiple innerTransactions that can be initiated by
@@ -35,6 +33,9 @@ import org.apache.commons.lang3.ArrayUtils;
  */
 public class AggregateTransaction extends Transaction {
 
+  /** The size of a serialized cosignature: version, signer public key and signature. */
+  private static final int COSIGNATURE_SIZE = 8 + 32 + 64;
+
   private final String transactionsHash;
 
   private final List<Transaction> innerTransactions;
@@ -105,25 +106,20 @@ public class AggregateTransaction extends Transaction {
       final List<? extends AggregateTransactionCosignature> cosignatures,
       final String generationHash) {
     SignedTransaction signedTransaction = this.signWith(initiatorAccount, generationHash);
-    StringBuilder payload = new StringBuilder(signedTransaction.getPayload());
-
+    byte[] signedBytes = signedTransaction.getPayloadBytes();
+    ByteBuffer payload =
+        ByteBuffer.allocate(signedBytes.length + cosignatures.size() * COSIGNATURE_SIZE)
+            .order(ByteOrder.LITTLE_ENDIAN);
+    payload.put(signedBytes);
     for (AggregateTransactionCosignature cosignatory : cosignatures) {
-      SignatureDto signature = SerializationUtils.toSignatureDto(cosignatory.getSignature());
-      CosignatureBuilder builder =
-          CosignatureBuilder.create(
-              cosignatory.getVersion().longValue(),
-              SerializationUtils.toKeyDto(cosignatory.getSigner().getPublicKey()),
-              signature);
-      payload.append(ConvertUtils.toHex(builder.serialize()));
+      payload.putLong(SerializationUtils.toUnsignedLong(cosignatory.getVersion()));
+      payload.put(cosignatory.getSigner().getPublicKey().getBytes());
+      payload.put(ConvertUtils.getBytes(cosignatory.getSignature()));
     }
-
-    byte[] payloadBytes = ConvertUtils.fromHexToBytes(payload.toString());
-    byte[] size = BigInteger.valueOf(payloadBytes.length).toByteArray();
-    ArrayUtils.reverse(size);
-    System.arraycopy(size, 0, payloadBytes, 0, size.length);
+    payload.putInt(0, payload.capacity());
     return new SignedTransaction(
         initiatorAccount.getPublicAccount(),
-        ConvertUtils.toHex(payloadBytes),
+        payload.array(),
         signedTransaction.getHash(),
         getType());
   }
@@ -15,6 +15,7 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.account.PublicAccount;
 
 /**
@@ -26,10 +27,15 @@ import io.nem.symbol.sdk.model.account.PublicAccount;
 public class SignedTransaction {
 
   private final PublicAccount signer;
-  private final String payload;
   private final String hash;
   private final TransactionType type;
 
+  /** The payload as hex, created lazily when the transaction was signed from bytes. */
+  private volatile String payload;
+
+  /** The payload bytes, decoded lazily when the transaction was created from hex. */
+  private volatile byte[] payloadBytes;
+
   /**
    * The SignedTransaction constructor.
    *
@@ -46,6 +52,23 @@ public class SignedTransaction {
     this.type = type;
   }
 
+  /**
+   * The SignedTransaction constructor from the payload bytes. The hex payload is only created if
+   * {@link #getPayload()} is called.
+   *
+   * @param signer the signer of the transaction.
+   * @param payloadBytes the payload bytes, they must not be modified afterwards.
+   * @param hash the hash of the transaction.
+   * @param type the transaction type.
+   */
+  public SignedTransaction(
+      PublicAccount signer, byte[] payloadBytes, String hash, TransactionType type) {
+    this.signer = signer;
+    this.payloadBytes = payloadBytes;
+    this.hash = hash;
+    this.type = type;
+  }
+
   /**
    * Returns the signer of this transaction.
    *
@@ -61,7 +84,27 @@ public class SignedTransaction {
    * @return transaction serialized data
    */
   public String getPayload() {
-    return payload;
+    String hex = payload;
+    if (hex == null) {
+      hex = ConvertUtils.toHex(payloadBytes);
+      payload = hex;
+    }
+    return hex;
+  }
+
+  /**
+   * Returns transaction serialized data as bytes. The returned array is shared and must not be
+   * modified.
+   *
+   * @return transaction serialized data
+   */
+  public byte[] getPayloadBytes() {
+    byte[] bytes = payloadBytes;
+    if (bytes == null) {
+      bytes = ConvertUtils.fromHexToBytes(payload);
+      payloadBytes = bytes;
+    }
+    return bytes;
   }
 
   /**
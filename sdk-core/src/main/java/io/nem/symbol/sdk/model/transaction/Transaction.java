@@ -15,19 +15,18 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
-import io.nem.symbol.core.crypto.CryptoEngines;
 import io.nem.symbol.core.crypto.DsaSigner;
 import io.nem.symbol.core.crypto.Hashes;
 import io.nem.symbol.core.crypto.Signature;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.core.utils.StringUtils;
-import io.nem.symbol.sdk.api.BinarySerialization;
 import io.nem.symbol.sdk.infrastructure.BinarySerializationImpl;
 import io.nem.symbol.sdk.model.Stored;
 import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.PublicAccount;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Optional;
 
 /**
@@ -38,7 +37,8 @@ import java.util.Optional;
 public abstract class Transaction implements Stored {
 
   /** The BinarySerialization object. */
-  private static final BinarySerialization BINARY_SERIALIZATION = BinarySerializationImpl.INSTANCE;
+  private static final BinarySerializationImpl BINARY_SERIALIZATION =
+      BinarySerializationImpl.INSTANCE;
 
   private final TransactionType type;
   private final NetworkType networkType;
@@ -51,6 +51,19 @@ public abstract class Transaction implements Stored {
   private final Optional<TransactionInfo> transactionInfo;
   private Optional<PublicAccount> signer;
 
+  /**
+   * Lazily calculated serialization results. Built transactions are immutable apart from {@link
+   * #toAggregate(PublicAccount)}, which resets them. Concurrent callers may calculate the same
+   * value twice, the results are identical.
+   */
+  private volatile byte[] serializedBytes;
+
+  private volatile byte[] embeddedBytes;
+
+  private volatile Long calculatedSize;
+
+  private volatile SigningResult lastSigning;
+
   /** Abstract constructors of all transactions. */
   Transaction(TransactionFactory<?> factory) {
     this.type = factory.getType();
@@ -146,7 +159,22 @@ public abstract class Transaction implements Stored {
    * @return bytes of the transaction
    */
   public byte[] serialize() {
-    return BINARY_SERIALIZATION.serialize(this);
+    return getSerializedBytes().clone();
+  }
+
+  /**
+   * Serialises the transaction as an embedded transaction of an aggregate. The signer is
+   * serialized in place of the signature.
+   *
+   * @return bytes of the embedded transaction
+   */
+  public byte[] serializeEmbedded() {
+    byte[] bytes = embeddedBytes;
+    if (bytes == null) {
+      bytes = BINARY_SERIALIZATION.serializeEmbedded(this);
+      embeddedBytes = bytes;
+    }
+    return bytes.clone();
   }
 
   /**
@@ -155,7 +183,25 @@ public abstract class Transaction implements Stored {
    * @return the size of the transaction.
    */
   public long getSize() {
-    return this.size.orElseGet(() -> BinarySerializationImpl.INSTANCE.getSize(this));
+    if (this.size.isPresent()) {
+      return this.size.get();
+    }
+    Long calculated = calculatedSize;
+    if (calculated == null) {
+      calculated = BINARY_SERIALIZATION.getSize(this);
+      calculatedSize = calculated;
+    }
+    return calculated;
+  }
+
+  /** @return the cached serialized bytes, they must not be modified. */
+  private byte[] getSerializedBytes() {
+    byte[] bytes = serializedBytes;
+    if (bytes == null) {
+      bytes = BINARY_SERIALIZATION.serialize(this);
+      serializedBytes = bytes;
+    }
+    return bytes;
   }
 
   /**
@@ -166,15 +212,34 @@ public abstract class Transaction implements Stored {
    * @return generated transaction hash.
    */
   public String createTransactionHash(String transactionPayload, final byte[] generationHashBytes) {
-    byte[] bytes = ConvertUtils.fromHexToBytes(transactionPayload);
-    final byte[] dataBytes = getSignBytes(bytes, generationHashBytes);
+    return createTransactionHash(
+        ConvertUtils.fromHexToBytes(transactionPayload), generationHashBytes);
+  }
+
+  /**
+   * Generates hash for a serialized transaction payload.
+   *
+   * @param payloadBytes Transaction payload bytes
+   * @param generationHashBytes the generation hash.
+   * @return generated transaction hash.
+   */
+  public String createTransactionHash(byte[] payloadBytes, final byte[] generationHashBytes) {
+    return toTransactionHash(payloadBytes, getSignBytes(payloadBytes, generationHashBytes));
+  }
+
+  /**
+   * The hash covers the signature and the signer public key, the 96 bytes after the size, followed
+   * by the signed data.
+   *
+   * @param payloadBytes Transaction payload bytes
+   * @param signBytes the bytes returned by {@link #getSignBytes(byte[], byte[])}
+   * @return generated transaction hash.
+   */
+  private static String toTransactionHash(byte[] payloadBytes, byte[] signBytes) {
     final int sizeOfSignatureAndSignerPublicKey = 96;
-    byte[] signingBytes = new byte[dataBytes.length + sizeOfSignatureAndSignerPublicKey];
-    System.arraycopy(bytes, 8, signingBytes, 0, sizeOfSignatureAndSignerPublicKey);
-    System.arraycopy(
-        dataBytes, 0, signingBytes, sizeOfSignatureAndSignerPublicKey, dataBytes.length);
-    byte[] result = Hashes.sha3_256(signingBytes);
-    return ConvertUtils.toHex(result);
+    byte[] signatureAndSigner =
+        Arrays.copyOfRange(payloadBytes, 8, 8 + sizeOfSignatureAndSignerPublicKey);
+    return ConvertUtils.toHex(Hashes.sha3_256(signatureAndSigner, signBytes));
   }
 
   /**
@@ -206,8 +271,12 @@ public abstract class Transaction implements Stored {
    * @return {@link SignedTransaction}
    */
   public SignedTransaction signWith(final Account account, final String generationHash) {
-    final DsaSigner theSigner = CryptoEngines.defaultEngine().createDsaSigner(account.getKeyPair());
-    final byte[] bytes = this.serialize();
+    SigningResult signing = lastSigning;
+    if (signing != null && signing.isFor(account, generationHash)) {
+      return signing.signedTransaction;
+    }
+    final DsaSigner theSigner = account.getSigner();
+    final byte[] bytes = getSerializedBytes();
     final byte[] generationHashBytes = ConvertUtils.getBytes(generationHash);
     final byte[] signingBytes = getSignBytes(bytes, generationHashBytes);
     final Signature theSignature = theSigner.sign(signingBytes);
@@ -224,9 +293,13 @@ public abstract class Transaction implements Stored {
         account.getKeyPair().getPublicKey().getBytes().length); // Signer
     System.arraycopy(bytes, 104, payload, 104, bytes.length - 104);
 
-    final String hash = createTransactionHash(ConvertUtils.toHex(payload), generationHashBytes);
-    return new SignedTransaction(
-        account.getPublicAccount(), ConvertUtils.toHex(payload), hash, type);
+    // The signed data does not include the signature and signer, it can be reused for the hash.
+    final String hash = toTransactionHash(payload, signingBytes);
+    SignedTransaction signedTransaction =
+        new SignedTransaction(account.getPublicAccount(), payload, hash, type);
+    // Ed25519 signatures are deterministic, the same signer and network give the same result.
+    lastSigning = new SigningResult(generationHash, signedTransaction);
+    return signedTransaction;
   }
 
   /**
@@ -237,6 +310,10 @@ public abstract class Transaction implements Stored {
    */
   public Transaction toAggregate(final PublicAccount signer) {
     this.signer = Optional.of(signer);
+    this.serializedBytes = null;
+    this.embeddedBytes = null;
+    this.calculatedSize = null;
+    this.lastSigning = null;
     return this;
   }
 
@@ -310,4 +387,22 @@ public abstract class Transaction implements Stored {
   public Optional<String> getRecordId() {
     return this.getTransactionInfo().flatMap(TransactionInfo::getId);
   }
+
+  /** The last signed transaction with the generation hash used to sign it. */
+  private static class SigningResult {
+
+    private final String generationHash;
+
+    private final SignedTransaction signedTransaction;
+
+    private SigningResult(String generationHash, SignedTransaction signedTransaction) {
+      this.generationHash = generationHash;
+      this.signedTransaction = signedTransaction;
+    }
+
+    private boolean isFor(Account account, String generationHash) {
+      return this.generationHash.equalsIgnoreCase(generationHash)
+          && signedTransaction.getSigner().equals(account.getPublicAccount());
+    }
+  }
 }
@@ -15,8 +15,6 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
-import java.util.Arrays;
-
 /** Enum containing transaction type constants and the current versions for new transactions. */
 public enum TransactionType {
 
@@ -113,6 +111,26 @@ public enum TransactionType {
     this.currentVersion = currentVersion;
   }
 
+  /** The lowest transaction type value. */
+  private static final int MIN_VALUE;
+
+  /** The transaction types indexed by value minus {@link #MIN_VALUE}. */
+  private static final TransactionType[] BY_VALUE;
+
+  static {
+    int min = Integer.MAX_VALUE;
+    int max = Integer.MIN_VALUE;
+    for (TransactionType type : values()) {
+      min = Math.min(min, type.value);
+      max = Math.max(max, type.value);
+    }
+    MIN_VALUE = min;
+    BY_VALUE = new TransactionType[max - min + 1];
+    for (TransactionType type : values()) {
+      BY_VALUE[type.value - MIN_VALUE] = type;
+    }
+  }
+
   /**
    * Static constructor converting transaction type raw value to enum instance.
    *
@@ -120,10 +138,12 @@ public enum TransactionType {
    * @return {@link TransactionType}
    */
   public static TransactionType rawValueOf(int value) {
-    return Arrays.stream(values())
-        .filter(e -> e.value == value)
-        .findFirst()
-        .orElseThrow(() -> new IllegalArgumentException(value + " is not a valid value"));
+    int index = value - MIN_VALUE;
+    TransactionType type = index >= 0 && index < BY_VALUE.length ? BY_VALUE[index] : null;
+    if (type == null) {
+      throw new IllegalArgumentException(value + " is not a valid value");
+    }
+    return type;
   }
 
   /**
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto;
+
+import io.nem.symbol.core.crypto.ed25519.Ed25519JcaCryptoEngine;
+import io.nem.symbol.core.utils.AbstractVectorTester;
+import io.nem.symbol.core.utils.ConvertUtils;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Checks that all the crypto engines derive the same keys and signatures from the vector test data
+ * and accept each other's signatures.
+ */
+class CryptoEngineConformanceVectorTester extends AbstractVectorTester {
+
+  private static final List<CryptoEngine> ENGINES =
+      Arrays.asList(
+          CryptoEngines.ed25519Engine(),
+          CryptoEngines.ed25519InPlaceEngine(),
+          CryptoEngines.ed25519FixedBaseTableEngine(),
+          CryptoEngines.ed25519JcaEngine(),
+          new Ed25519JcaCryptoEngine(new BouncyCastleProvider()));
+
+  private static Stream<Arguments> testAllEngines() {
+    return createArguments(
+        "2.test-sign.json", CryptoEngineConformanceVectorTester::extractArguments, 10);
+  }
+
+  private static List<Arguments> extractArguments(Map<String, String> entry) {
+    return ENGINES.stream()
+        .map(
+            engine ->
+                Arguments.of(
+                    engine,
+                    entry.get("privateKey"),
+                    entry.get("publicKey"),
+                    entry.get("data"),
+                    entry.get("signature")))
+        .collect(Collectors.toList());
+  }
+
+  @ParameterizedTest
+  @MethodSource("testAllEngines")
+  void testAllEngines(
+      CryptoEngine engine, String privateKey, String publicKey, String data, String signature) {
+    // Arrange:
+    final KeyPair keyPair = KeyPair.fromPrivate(PrivateKey.fromHexString(privateKey), engine);
+    final byte[] input = ConvertUtils.fromHexToBytes(data);
+
+    // Act:
+    final Signature signatureObject = engine.createDsaSigner(keyPair).sign(input);
+
+    // Assert:
+    Assertions.assertEquals(publicKey.toUpperCase(), keyPair.getPublicKey().toHex());
+    Assertions.assertEquals(signature.toUpperCase(), signatureObject.toString().toUpperCase());
+    for (CryptoEngine verifier : ENGINES) {
+      final DsaSigner signer = verifier.createDsaSigner(KeyPair.onlyPublic(keyPair.getPublicKey()));
+      Assertions.assertTrue(signer.verify(input, signatureObject));
+      final byte[] tampered = Arrays.copyOf(input, input.length + 1);
+      Assertions.assertFalse(signer.verify(tampered, signatureObject));
+    }
+  }
+}
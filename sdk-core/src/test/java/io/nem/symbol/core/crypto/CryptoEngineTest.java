@@ -15,8 +15,13 @@
  */
 package io.nem.symbol.core.crypto;
 
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.util.ArrayList;
+import java.util.List;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsInstanceOf;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 public abstract class CryptoEngineTest {
@@ -69,5 +74,96 @@ public abstract class CryptoEngineTest {
     MatcherAssert.assertThat(blockCipher, IsInstanceOf.instanceOf(BlockCipher.class));
   }
 
+  @Test
+  public void canVerifyBatch() {
+    // Arrange:
+    final CryptoEngine engine = this.getCryptoEngine();
+    final List<SignedData> items = new ArrayList<>();
+    final boolean[] expected = new boolean[40];
+    for (int i = 0; i < expected.length; i++) {
+      final KeyPair keyPair = KeyPair.random(engine);
+      final byte[] data = RandomUtils.generateRandomBytes();
+      final Signature signature = engine.createDsaSigner(keyPair).sign(data);
+      if (i % 13 == 5) {
+        // different data
+        items.add(new SignedData(keyPair.getPublicKey(), new byte[] {1}, signature));
+      } else if (i == 18) {
+        // different signer
+        items.add(new SignedData(KeyPair.random(engine).getPublicKey(), data, signature));
+      } else {
+        items.add(new SignedData(keyPair.getPublicKey(), data, signature));
+        expected[i] = true;
+      }
+    }
+
+    // Act:
+    final boolean[] results = engine.verifyBatch(items);
+
+    // Assert:
+    Assertions.assertArrayEquals(expected, results);
+    Assertions.assertArrayEquals(new boolean[0], engine.verifyBatch(new ArrayList<>()));
+  }
+
+  @Test
+  public void verifyBatchReportsInvalidPublicKeysLikeTheDefaultImplementation() {
+    // Arrange:
+    final CryptoEngine engine = this.getCryptoEngine();
+    final CryptoEngine defaultBatchEngine =
+        new CryptoEngine() {
+          @Override
+          public Curve getCurve() {
+            return engine.getCurve();
+          }
+
+          @Override
+          public DsaSigner createDsaSigner(KeyPair keyPair) {
+            return engine.createDsaSigner(keyPair);
+          }
+
+          @Override
+          public KeyGenerator createKeyGenerator() {
+            return engine.createKeyGenerator();
+          }
+
+          @Override
+          public BlockCipher createBlockCipher(KeyPair senderKeyPair, KeyPair recipientKeyPair) {
+            return engine.createBlockCipher(senderKeyPair, recipientKeyPair);
+          }
+
+          @Override
+          public KeyAnalyzer createKeyAnalyzer() {
+            return engine.createKeyAnalyzer();
+          }
+        };
+    final List<SignedData> items = new ArrayList<>();
+    final boolean[] expected = new boolean[10];
+    for (int i = 0; i < expected.length; i++) {
+      final KeyPair keyPair = KeyPair.random(engine);
+      final byte[] data = RandomUtils.generateRandomBytes();
+      final Signature signature = engine.createDsaSigner(keyPair).sign(data);
+      if (i == 3) {
+        items.add(new SignedData(new PublicKey(notAPoint()), data, signature));
+      } else {
+        items.add(new SignedData(keyPair.getPublicKey(), data, signature));
+        expected[i] = true;
+      }
+    }
+
+    // Act + Assert:
+    Assertions.assertArrayEquals(expected, defaultBatchEngine.verifyBatch(items));
+    Assertions.assertArrayEquals(expected, engine.verifyBatch(items));
+  }
+
+  private static byte[] notAPoint() {
+    while (true) {
+      final byte[] bytes = RandomUtils.generateRandomBytes(32);
+      try {
+        new Ed25519EncodedGroupElement(bytes).decode();
+      } catch (final IllegalArgumentException e) {
+        return bytes;
+      }
+    }
+  }
+
   protected abstract CryptoEngine getCryptoEngine();
 }
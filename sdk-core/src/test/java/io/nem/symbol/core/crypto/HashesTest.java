@@ -17,11 +17,14 @@ package io.nem.symbol.core.crypto;
 
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.security.Security;
 import java.util.Arrays;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 public class HashesTest {
@@ -34,6 +37,15 @@ public class HashesTest {
   private static final HashTester HASH_160_TESTER = new HashTester(Hashes::hash160, 20);
   private static final HashTester KECCAK_256_TESTER = new HashTester(Hashes::keccak256, 32);
 
+  @Test
+  public void bouncyCastleProviderIsRegistered() {
+    // Act:
+    Hashes.sha3_256(RandomUtils.generateRandomBytes());
+
+    // Assert:
+    Assertions.assertNotNull(Security.getProvider("BC"));
+  }
+
   @Test
   public void testLeading00Hashes() {
     final String hex = "00137c7c32881d1fff2e905f5b7034bcbcdb806d232f351db48a7816285c548f";
@@ -78,6 +90,59 @@ public class HashesTest {
 
   // region sha3_256
 
+  @Test
+  public void hashIntoWritesTheSameHashAtTheOffset() {
+    // Arrange:
+    final byte[] input1 = RandomUtils.generateRandomBytes();
+    final byte[] input2 = RandomUtils.generateRandomBytes();
+    final byte[] output = new byte[70];
+
+    // Act + Assert:
+    Hashes.sha3_256Into(output, 3, input1, input2);
+    MatcherAssert.assertThat(
+        Arrays.copyOfRange(output, 3, 35), IsEqual.equalTo(Hashes.sha3_256(input1, input2)));
+    Hashes.sha512Into(output, 6, input1, input2);
+    MatcherAssert.assertThat(
+        Arrays.copyOfRange(output, 6, 70), IsEqual.equalTo(Hashes.sha512(input1, input2)));
+    Hashes.ripemd160Into(output, 0, input1, input2);
+    MatcherAssert.assertThat(
+        Arrays.copyOfRange(output, 0, 20), IsEqual.equalTo(Hashes.ripemd160(input1, input2)));
+    Hashes.keccak256Into(output, 38, input1, input2);
+    MatcherAssert.assertThat(
+        Arrays.copyOfRange(output, 38, 70), IsEqual.equalTo(Hashes.keccak256(input1, input2)));
+  }
+
+  @Test
+  public void hashIntoFailsWhenTheOutputIsTooSmall() {
+    final byte[] input = RandomUtils.generateRandomBytes();
+
+    Assertions.assertThrows(
+        CryptoException.class, () -> Hashes.sha3_256Into(new byte[31], 0, input));
+    Assertions.assertThrows(CryptoException.class, () -> Hashes.sha512Into(new byte[64], 1, input));
+    Assertions.assertThrows(CryptoException.class, () -> Hashes.keccak256Into(new byte[32], -1));
+  }
+
+  @Test
+  public void hashesCanBeComputedConcurrently() {
+    // Arrange:
+    final byte[][] inputs = new byte[200][];
+    final byte[][] expected = new byte[inputs.length][];
+    for (int i = 0; i < inputs.length; i++) {
+      inputs[i] = RandomUtils.generateRandomBytes(1 + i);
+      expected[i] = Hashes.sha3_256(inputs[i]);
+    }
+
+    // Act:
+    final byte[][] actual =
+        IntStream.range(0, inputs.length)
+            .parallel()
+            .mapToObj(i -> Hashes.sha3_256(inputs[i]))
+            .toArray(byte[][]::new);
+
+    // Assert:
+    MatcherAssert.assertThat(actual, IsEqual.equalTo(expected));
+  }
+
   private static void assertHashesAreDifferent(
       final Function<byte[], byte[]> hashFunction1, final Function<byte[], byte[]> hashFunction2) {
 
@@ -16,6 +16,8 @@
 package io.nem.symbol.core.crypto;
 
 import io.nem.symbol.core.utils.ConvertUtils;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -76,4 +78,44 @@ public class MerkleHashBuilderTest {
         "5DC17B2409D50BCC7C1FAA720D0EC8B79A1705D0C517BCC0BDBD316540974D5E",
         ConvertUtils.toHex(builder.getRootHash()));
   }
+
+  @Test
+  public void testRootCanBeQueriedWhileAddingHashes() {
+    MerkleHashBuilder builder = new MerkleHashBuilder(1);
+    List<byte[]> hashes = new ArrayList<>();
+    for (int i = 0; i < 33; i++) {
+      byte[] hash = Hashes.sha3_256(new byte[] {(byte) i});
+      builder.update(hash);
+      hashes.add(hash);
+      Assertions.assertEquals(
+          ConvertUtils.toHex(insertionRootHash(new ArrayList<>(hashes))),
+          ConvertUtils.toHex(builder.getRootHash()));
+      Assertions.assertEquals(
+          ConvertUtils.toHex(builder.getRootHash()), ConvertUtils.toHex(builder.getRootHash()));
+    }
+    Assertions.assertEquals(33, builder.getSize());
+  }
+
+  @Test
+  public void testInvalidHash() {
+    MerkleHashBuilder builder = new MerkleHashBuilder();
+    Assertions.assertThrows(IllegalArgumentException.class, () -> builder.update(new byte[31]));
+  }
+
+  /** The list based calculation the builder replaced. */
+  private static byte[] insertionRootHash(List<byte[]> hashes) {
+    int numRemainingHashes = hashes.size();
+    while (numRemainingHashes > 1) {
+      for (int i = 0; i < numRemainingHashes; i += 2) {
+        if (i + 1 < numRemainingHashes) {
+          hashes.add(i / 2, Hashes.sha3_256(hashes.get(i), hashes.get(i + 1)));
+          continue;
+        }
+        hashes.add(i / 2, Hashes.sha3_256(hashes.get(i), hashes.get(i)));
+        ++numRemainingHashes;
+      }
+      numRemainingHashes /= 2;
+    }
+    return hashes.get(0);
+  }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Testing of {@link MerkleTreeBuilder} */
+public class MerkleTreeBuilderTest {
+
+  private static byte[] leaf(int i) {
+    return Hashes.sha3_256(new byte[] {(byte) i});
+  }
+
+  @Test
+  public void testEmpty() {
+    MerkleTreeBuilder builder = new MerkleTreeBuilder();
+    Assertions.assertArrayEquals(new byte[32], builder.getRootHash());
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> builder.getMerklePath(0));
+  }
+
+  @Test
+  public void testRootDuplicatesTheLastNodeOfOddLevels() {
+    MerkleTreeBuilder builder = new MerkleTreeBuilder();
+    builder.update(leaf(0));
+    Assertions.assertArrayEquals(leaf(0), builder.getRootHash());
+    builder.update(leaf(1));
+    builder.update(leaf(2));
+
+    byte[] expected =
+        Hashes.sha3_256(Hashes.sha3_256(leaf(0), leaf(1)), Hashes.sha3_256(leaf(2), leaf(2)));
+    Assertions.assertEquals(
+        ConvertUtils.toHex(expected), ConvertUtils.toHex(builder.getRootHash()));
+  }
+
+  @Test
+  public void testMerklePaths() {
+    MerkleTreeBuilder builder = new MerkleTreeBuilder(1);
+    for (int size = 1; size <= 17; size++) {
+      builder.update(leaf(size - 1));
+      byte[] root = builder.getRootHash();
+      for (int i = 0; i < size; i++) {
+        List<MerkleTreeBuilder.PathItem> path = builder.getMerklePath(i);
+        Assertions.assertTrue(MerkleTreeBuilder.verifyPath(leaf(i), path, root));
+        Assertions.assertFalse(MerkleTreeBuilder.verifyPath(leaf(size), path, root));
+      }
+    }
+  }
+
+  @Test
+  public void testMerklePathPositions() {
+    MerkleTreeBuilder builder = new MerkleTreeBuilder();
+    for (int i = 0; i < 3; i++) {
+      builder.update(leaf(i));
+    }
+    List<MerkleTreeBuilder.PathItem> path = builder.getMerklePath(2);
+    Assertions.assertEquals(2, path.size());
+    Assertions.assertFalse(path.get(0).isLeft());
+    Assertions.assertArrayEquals(leaf(2), path.get(0).getHash());
+    Assertions.assertTrue(path.get(1).isLeft());
+    Assertions.assertArrayEquals(Hashes.sha3_256(leaf(0), leaf(1)), path.get(1).getHash());
+  }
+}
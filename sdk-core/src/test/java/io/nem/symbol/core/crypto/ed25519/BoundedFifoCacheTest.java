@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class BoundedFifoCacheTest {
+
+  @Test
+  public void putIfAbsentKeepsFirstValue() {
+    // Arrange:
+    final BoundedFifoCache<String, String> cache = new BoundedFifoCache<>(10);
+
+    // Act:
+    final String first = cache.putIfAbsent("key", "first");
+    final String second = cache.putIfAbsent("key", "second");
+
+    // Assert:
+    Assertions.assertEquals("first", first);
+    Assertions.assertEquals("first", second);
+    Assertions.assertEquals("first", cache.get("key"));
+    Assertions.assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void oldestValuesAreEvicted() {
+    // Arrange:
+    final BoundedFifoCache<Integer, Integer> cache = new BoundedFifoCache<>(3);
+
+    // Act:
+    for (int i = 0; i < 5; i++) {
+      cache.putIfAbsent(i, i);
+    }
+
+    // Assert:
+    Assertions.assertEquals(3, cache.size());
+    Assertions.assertEquals(3, cache.getCapacity());
+    Assertions.assertNull(cache.get(0));
+    Assertions.assertNull(cache.get(1));
+    Assertions.assertEquals(4, cache.get(4));
+    cache.clear();
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void capacityMustBePositive() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new BoundedFifoCache<>(0));
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.CryptoEngine;
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.crypto.SignedData;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Tests of {@link Ed25519BatchVerifier}. */
+public class Ed25519BatchVerifierTest {
+
+  private final CryptoEngine engine = CryptoEngines.ed25519Engine();
+
+  private List<SignedData> validItems(int count) {
+    final List<SignedData> items = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      final KeyPair keyPair = KeyPair.random(engine);
+      final byte[] data = RandomUtils.generateRandomBytes();
+      items.add(
+          new SignedData(keyPair.getPublicKey(), data, engine.createDsaSigner(keyPair).sign(data)));
+    }
+    return items;
+  }
+
+  private static boolean[] allTrue(int count) {
+    final boolean[] results = new boolean[count];
+    for (int i = 0; i < count; i++) {
+      results[i] = true;
+    }
+    return results;
+  }
+
+  @Test
+  public void validSignaturesAreAccepted() {
+    for (int count : new int[] {1, 4, 5, 64, 150}) {
+      Assertions.assertArrayEquals(
+          allTrue(count), new Ed25519BatchVerifier().verify(validItems(count)));
+    }
+  }
+
+  @Test
+  public void invalidSignaturesAreFound() {
+    final List<SignedData> items = validItems(100);
+    final boolean[] expected = allTrue(items.size());
+    for (int index : new int[] {0, 37, 38, 99}) {
+      final SignedData item = items.get(index);
+      final byte[] data = item.getData().clone();
+      data[0] ^= 1;
+      items.set(index, new SignedData(item.getPublicKey(), data, item.getSignature()));
+      expected[index] = false;
+    }
+
+    Assertions.assertArrayEquals(expected, new Ed25519BatchVerifier().verify(items));
+  }
+
+  @Test
+  public void nonCanonicalSignaturesAreRejected() {
+    final List<SignedData> items = validItems(10);
+    final SignedData item = items.get(3);
+    final Signature nonCanonical =
+        new Signature(
+            item.getSignature().getR(),
+            engine.getCurve().getGroupOrder().add(item.getSignature().getS()));
+    items.set(3, new SignedData(item.getPublicKey(), item.getData(), nonCanonical));
+    final boolean[] expected = allTrue(items.size());
+    expected[3] = false;
+
+    Assertions.assertArrayEquals(expected, new Ed25519BatchVerifier().verify(items));
+  }
+
+  @Test
+  public void invalidPublicKeysAreRejected() {
+    final List<SignedData> items = validItems(10);
+    items.set(
+        2,
+        new SignedData(
+            new PublicKey(new byte[32]), items.get(2).getData(), items.get(2).getSignature()));
+    items.set(
+        7,
+        new SignedData(
+            new PublicKey(notAPoint()), items.get(7).getData(), items.get(7).getSignature()));
+    final boolean[] expected = allTrue(items.size());
+    expected[2] = false;
+    expected[7] = false;
+
+    Assertions.assertArrayEquals(expected, new Ed25519BatchVerifier().verify(items));
+  }
+
+  private static byte[] notAPoint() {
+    while (true) {
+      final byte[] bytes = RandomUtils.generateRandomBytes(32);
+      try {
+        new Ed25519EncodedGroupElement(bytes).decode();
+      } catch (final IllegalArgumentException e) {
+        return bytes;
+      }
+    }
+  }
+}
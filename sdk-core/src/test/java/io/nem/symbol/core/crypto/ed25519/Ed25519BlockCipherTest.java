@@ -21,6 +21,7 @@ import io.nem.symbol.core.crypto.CryptoEngine;
 import io.nem.symbol.core.crypto.CryptoEngines;
 import io.nem.symbol.core.crypto.CryptoException;
 import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.sdk.infrastructure.RandomUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -57,6 +58,87 @@ public class Ed25519BlockCipherTest extends BlockCipherTest {
     Assertions.assertEquals("Cannot decrypt. Input is required.", exception.getMessage());
   }
 
+  @Test
+  public void sharedKeyIsDerivedOncePerPairOfKeys() {
+    // Arrange:
+    final CryptoEngine engine = this.getCryptoEngine();
+    final KeyPair sender = KeyPair.random(engine);
+    final KeyPair recipient = KeyPair.random(engine);
+    final Ed25519SharedKeyCache cache = new Ed25519SharedKeyCache(10);
+    final Ed25519BlockCipher encryptCipher =
+        new Ed25519BlockCipher(sender, KeyPair.onlyPublic(recipient.getPublicKey(), engine), cache);
+    final Ed25519BlockCipher decryptCipher =
+        new Ed25519BlockCipher(KeyPair.onlyPublic(sender.getPublicKey(), engine), recipient, cache);
+
+    // Act + Assert:
+    for (int i = 0; i < 5; i++) {
+      final byte[] input = RandomUtils.generateRandomBytes();
+      Assertions.assertArrayEquals(input, decryptCipher.decrypt(encryptCipher.encrypt(input)));
+    }
+    // One entry for the sender's private key and one for the recipient's.
+    Assertions.assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void encryptWithSameIvReturnsSameOutput() {
+    // Arrange:
+    final CryptoEngine engine = this.getCryptoEngine();
+    final KeyPair kp = KeyPair.random(engine);
+    final Ed25519BlockCipher blockCipher = new Ed25519BlockCipher(kp, kp);
+    final byte[] input = RandomUtils.generateRandomBytes();
+    final byte[] iv = AESGCM.generateIV();
+
+    // Act:
+    final byte[] encrypted1 = blockCipher.encrypt(input, iv);
+    final byte[] encrypted2 = blockCipher.encrypt(input, iv);
+
+    // Assert:
+    Assertions.assertArrayEquals(encrypted1, encrypted2);
+    Assertions.assertArrayEquals(input, blockCipher.decrypt(encrypted2));
+  }
+
+  @Test
+  public void decryptSucceedsAfterFailedDecryptWithSameKey() {
+    // Arrange:
+    final CryptoEngine engine = this.getCryptoEngine();
+    final KeyPair kp = KeyPair.random(engine);
+    final BlockCipher blockCipher = this.getBlockCipher(kp, kp);
+    final byte[] input = RandomUtils.generateRandomBytes();
+    final byte[] encrypted = blockCipher.encrypt(input);
+    final byte[] tampered = encrypted.clone();
+    tampered[tampered.length - 1] ^= 1;
+
+    // Act:
+    Assertions.assertThrows(CryptoException.class, () -> blockCipher.decrypt(tampered));
+
+    // Assert:
+    Assertions.assertArrayEquals(input, blockCipher.decrypt(encrypted));
+  }
+
+  @Test
+  public void decryptSucceedsAfterClearingTheThreadCiphers() {
+    // Arrange:
+    final CryptoEngine engine = this.getCryptoEngine();
+    final KeyPair kp = KeyPair.random(engine);
+    final BlockCipher blockCipher = this.getBlockCipher(kp, kp);
+    final byte[] input = RandomUtils.generateRandomBytes();
+    final byte[] encrypted = blockCipher.encrypt(input);
+
+    // Act:
+    AESGCM.clear();
+
+    // Assert:
+    Assertions.assertArrayEquals(input, blockCipher.decrypt(encrypted));
+    AESGCM.clear();
+    Assertions.assertArrayEquals(input, blockCipher.decrypt(blockCipher.encrypt(input)));
+  }
+
+  @Test
+  public void sharedKeyCacheIsRequiredWhenGiven() {
+    final KeyPair kp = KeyPair.random(this.getCryptoEngine());
+    Assertions.assertThrows(NullPointerException.class, () -> new Ed25519BlockCipher(kp, kp, null));
+  }
+
   @Override
   protected BlockCipher getBlockCipher(
       final KeyPair senderKeyPair, final KeyPair recipientKeyPair) {
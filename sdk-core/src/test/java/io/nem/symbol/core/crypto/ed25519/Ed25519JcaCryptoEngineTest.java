@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.CryptoEngine;
+import io.nem.symbol.core.crypto.CryptoEngineTest;
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.DsaSigner;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.security.Security;
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class Ed25519JcaCryptoEngineTest extends CryptoEngineTest {
+
+  @Test
+  public void usesJcaSignerWhenProviderIsAvailable() {
+    // Arrange:
+    final Ed25519JcaCryptoEngine engine = new Ed25519JcaCryptoEngine(new BouncyCastleProvider());
+    final KeyPair keyPair = KeyPair.random(engine);
+
+    // Act:
+    final DsaSigner signer = engine.createDsaSigner(keyPair);
+
+    // Assert:
+    Assertions.assertTrue(engine.isJcaAvailable());
+    MatcherAssert.assertThat(signer, IsInstanceOf.instanceOf(Ed25519JcaDsaSigner.class));
+    MatcherAssert.assertThat(
+        engine.createKeyGenerator(), IsInstanceOf.instanceOf(Ed25519JcaKeyGenerator.class));
+  }
+
+  @Test
+  public void jcaSignerMatchesTheSdkImplementation() {
+    // Arrange:
+    final Ed25519JcaCryptoEngine engine = new Ed25519JcaCryptoEngine(new BouncyCastleProvider());
+    final CryptoEngine expectedEngine = CryptoEngines.ed25519Engine();
+    final KeyPair keyPair = KeyPair.random(engine);
+    final byte[] input = RandomUtils.generateRandomBytes();
+
+    // Act:
+    final Signature signature = engine.createDsaSigner(keyPair).sign(input);
+    final PublicKey publicKey =
+        engine.createKeyGenerator().derivePublicKey(keyPair.getPrivateKey());
+
+    // Assert:
+    Assertions.assertArrayEquals(
+        expectedEngine.createDsaSigner(keyPair).sign(input).getBytes(), signature.getBytes());
+    Assertions.assertArrayEquals(
+        expectedEngine.createKeyGenerator().derivePublicKey(keyPair.getPrivateKey()).getBytes(),
+        publicKey.getBytes());
+    Assertions.assertTrue(
+        expectedEngine
+            .createDsaSigner(KeyPair.onlyPublic(publicKey, expectedEngine))
+            .verify(input, signature));
+  }
+
+  @Test
+  public void fallsBackWhenProviderDoesNotImplementEd25519() {
+    // Arrange:
+    final Ed25519JcaCryptoEngine engine = new Ed25519JcaCryptoEngine(Security.getProvider("SUN"));
+    final KeyPair keyPair = KeyPair.random(engine);
+    final byte[] input = RandomUtils.generateRandomBytes();
+
+    // Act:
+    final DsaSigner signer = engine.createDsaSigner(keyPair);
+    final Signature signature = signer.sign(input);
+
+    // Assert:
+    Assertions.assertFalse(engine.isJcaAvailable());
+    MatcherAssert.assertThat(signer, IsInstanceOf.instanceOf(Ed25519DsaSigner.class));
+    MatcherAssert.assertThat(
+        signature,
+        IsEqual.equalTo(CryptoEngines.ed25519Engine().createDsaSigner(keyPair).sign(input)));
+  }
+
+  @Test
+  public void cannotCreateEngineWithNullProvider() {
+    Assertions.assertThrows(NullPointerException.class, () -> new Ed25519JcaCryptoEngine(null));
+  }
+
+  @Override
+  protected CryptoEngine getCryptoEngine() {
+    return CryptoEngines.ed25519JcaEngine();
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class Ed25519PublicKeyCacheTest {
+
+  private static PublicKey randomPublicKey() {
+    return KeyPair.random(CryptoEngines.ed25519Engine()).getPublicKey();
+  }
+
+  @Test
+  public void getReturnsDecodedPublicKey() {
+    // Arrange:
+    final Ed25519PublicKeyCache cache = new Ed25519PublicKeyCache(10);
+    final PublicKey publicKey = randomPublicKey();
+
+    // Act:
+    final Ed25519GroupElement element = cache.get(publicKey);
+
+    // Assert:
+    Assertions.assertEquals(new Ed25519EncodedGroupElement(publicKey.getBytes()).decode(), element);
+    Assertions.assertArrayEquals(publicKey.getBytes(), element.encode().getRaw());
+    Assertions.assertNotNull(element.getPrecomputedForDouble());
+    Assertions.assertSame(element, cache.get(new PublicKey(publicKey.getBytes())));
+    Assertions.assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void reusedKeyBuffersDoNotChangeCachedKeys() {
+    // Arrange:
+    final Ed25519PublicKeyCache cache = new Ed25519PublicKeyCache(10);
+    final PublicKey first = randomPublicKey();
+    final PublicKey second = randomPublicKey();
+    final byte[] buffer = first.getBytes().clone();
+    final Ed25519GroupElement firstElement = cache.get(new PublicKey(buffer));
+
+    // Act:
+    System.arraycopy(second.getBytes(), 0, buffer, 0, buffer.length);
+    final Ed25519GroupElement secondElement = cache.get(new PublicKey(buffer));
+
+    // Assert:
+    Assertions.assertArrayEquals(second.getBytes(), secondElement.encode().getRaw());
+    Assertions.assertSame(firstElement, cache.get(first));
+    Assertions.assertSame(secondElement, cache.get(second));
+    Assertions.assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void oldestPublicKeysAreEvicted() {
+    // Arrange:
+    final Ed25519PublicKeyCache cache = new Ed25519PublicKeyCache(3);
+    final PublicKey first = randomPublicKey();
+    final Ed25519GroupElement firstElement = cache.get(first);
+
+    // Act:
+    for (int i = 0; i < 3; i++) {
+      cache.get(randomPublicKey());
+    }
+
+    // Assert:
+    Assertions.assertEquals(3, cache.size());
+    Assertions.assertNotSame(firstElement, cache.get(first));
+    cache.clear();
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void invalidPublicKeysAreNotCached() {
+    final Ed25519PublicKeyCache cache = new Ed25519PublicKeyCache(3);
+    byte[] bytes = new byte[32];
+    bytes[0] = 2;
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> cache.get(new PublicKey(bytes)));
+    Assertions.assertEquals(0, cache.size());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new Ed25519PublicKeyCache(0));
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PublicKey;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class Ed25519SharedKeyCacheTest {
+
+  private static KeyPair randomKeyPair() {
+    return KeyPair.random(CryptoEngines.ed25519Engine());
+  }
+
+  @Test
+  public void getReturnsSharedKey() {
+    // Arrange:
+    final Ed25519SharedKeyCache cache = new Ed25519SharedKeyCache(10);
+    final KeyPair keyPair = randomKeyPair();
+    final PublicKey publicKey = randomKeyPair().getPublicKey();
+
+    // Act:
+    final byte[] sharedKey = cache.get(keyPair.getPrivateKey(), publicKey);
+
+    // Assert:
+    Assertions.assertArrayEquals(
+        Ed25519BlockCipher.getSharedKey(keyPair.getPrivateKey(), publicKey), sharedKey);
+    Assertions.assertArrayEquals(sharedKey, cache.get(keyPair.getPrivateKey(), publicKey));
+    Assertions.assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void returnedSharedKeysAreCopies() {
+    // Arrange:
+    final Ed25519SharedKeyCache cache = new Ed25519SharedKeyCache(10);
+    final KeyPair keyPair = randomKeyPair();
+    final PublicKey publicKey = randomKeyPair().getPublicKey();
+    final byte[] sharedKey = cache.get(keyPair.getPrivateKey(), publicKey);
+    final byte[] expected = sharedKey.clone();
+
+    // Act:
+    sharedKey[0] ^= 1;
+
+    // Assert:
+    Assertions.assertArrayEquals(expected, cache.get(keyPair.getPrivateKey(), publicKey));
+  }
+
+  @Test
+  public void entriesDependOnBothKeys() {
+    // Arrange:
+    final Ed25519SharedKeyCache cache = new Ed25519SharedKeyCache(10);
+    final KeyPair keyPair1 = randomKeyPair();
+    final KeyPair keyPair2 = randomKeyPair();
+    final PublicKey publicKey = randomKeyPair().getPublicKey();
+
+    // Act:
+    final byte[] sharedKey1 = cache.get(keyPair1.getPrivateKey(), publicKey);
+    final byte[] sharedKey2 = cache.get(keyPair2.getPrivateKey(), publicKey);
+    final byte[] sharedKey3 = cache.get(keyPair1.getPrivateKey(), keyPair2.getPublicKey());
+
+    // Assert:
+    Assertions.assertEquals(3, cache.size());
+    Assertions.assertFalse(Arrays.equals(sharedKey1, sharedKey2));
+    Assertions.assertFalse(Arrays.equals(sharedKey1, sharedKey3));
+  }
+
+  @Test
+  public void oldestSharedKeysAreEvicted() {
+    // Arrange:
+    final Ed25519SharedKeyCache cache = new Ed25519SharedKeyCache(3);
+    final KeyPair keyPair = randomKeyPair();
+
+    // Act:
+    for (int i = 0; i < 5; i++) {
+      cache.get(keyPair.getPrivateKey(), randomKeyPair().getPublicKey());
+    }
+
+    // Assert:
+    Assertions.assertEquals(3, cache.size());
+    cache.clear();
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void invalidPublicKeysAreNotCached() {
+    final Ed25519SharedKeyCache cache = new Ed25519SharedKeyCache(3);
+    final KeyPair keyPair = randomKeyPair();
+    byte[] bytes = new byte[32];
+    bytes[0] = 2;
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> cache.get(keyPair.getPrivateKey(), new PublicKey(bytes)));
+    Assertions.assertEquals(0, cache.size());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new Ed25519SharedKeyCache(0));
+  }
+}
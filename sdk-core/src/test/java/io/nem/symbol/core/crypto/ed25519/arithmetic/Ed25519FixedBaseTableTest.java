@@ -0,0 +1,128 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519.arithmetic;
+
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class Ed25519FixedBaseTableTest {
+
+  @Test
+  public void scalarMultiplyReturnsSameResultAsGroupElementForAllWindowSizes() {
+    for (int windowBits = Ed25519FixedBaseTable.MIN_WINDOW_BITS;
+        windowBits <= Ed25519FixedBaseTable.MAX_WINDOW_BITS;
+        windowBits++) {
+      // Arrange:
+      final Ed25519FixedBaseTable table =
+          new Ed25519FixedBaseTable(Ed25519Group.BASE_POINT, windowBits);
+      for (int i = 0; i < 20; i++) {
+        final Ed25519EncodedFieldElement a = MathUtils.getRandomEncodedFieldElement(32);
+
+        // Act:
+        final Ed25519GroupElement g = Ed25519InPlaceGroupOperations.scalarMultiply(table, a);
+
+        // Assert:
+        MatcherAssert.assertThat(g, IsEqual.equalTo(Ed25519Group.BASE_POINT.scalarMultiply(a)));
+      }
+    }
+  }
+
+  @Test
+  public void scalarMultiplyReturnsExpectedResultForOtherPoints() {
+    // Arrange:
+    final Ed25519GroupElement point = MathUtils.getRandomGroupElement();
+    final Ed25519FixedBaseTable table = new Ed25519FixedBaseTable(point, 6);
+    for (int i = 0; i < 10; i++) {
+      final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+
+      // Act:
+      final Ed25519GroupElement g = Ed25519InPlaceGroupOperations.scalarMultiply(table, f.encode());
+
+      // Assert:
+      MatcherAssert.assertThat(g, IsEqual.equalTo(MathUtils.scalarMultiplyGroupElement(point, f)));
+    }
+  }
+
+  @Test
+  public void scalarMultiplyHandlesExtremeScalars() {
+    // Arrange:
+    final byte[] largest = new byte[32];
+    Arrays.fill(largest, (byte) 0xff);
+    largest[31] = 0x7f;
+    final Ed25519EncodedFieldElement zero = new Ed25519EncodedFieldElement(new byte[32]);
+    final Ed25519EncodedFieldElement max = new Ed25519EncodedFieldElement(largest);
+    for (int windowBits = Ed25519FixedBaseTable.MIN_WINDOW_BITS;
+        windowBits <= Ed25519FixedBaseTable.MAX_WINDOW_BITS;
+        windowBits++) {
+      final Ed25519FixedBaseTable table =
+          new Ed25519FixedBaseTable(Ed25519Group.BASE_POINT, windowBits);
+
+      // Act + Assert:
+      MatcherAssert.assertThat(
+          Ed25519InPlaceGroupOperations.scalarMultiply(table, zero),
+          IsEqual.equalTo(Ed25519Group.ZERO_P3));
+      MatcherAssert.assertThat(
+          Ed25519InPlaceGroupOperations.scalarMultiply(table, max),
+          IsEqual.equalTo(Ed25519Group.BASE_POINT.scalarMultiply(max)));
+    }
+  }
+
+  @Test
+  public void tableIsBuiltOnFirstUse() {
+    // Arrange:
+    final Ed25519FixedBaseTable table = new Ed25519FixedBaseTable(Ed25519Group.BASE_POINT, 5);
+
+    // Act:
+    final boolean builtBefore = table.isBuilt();
+    Ed25519InPlaceGroupOperations.scalarMultiply(table, MathUtils.getRandomEncodedFieldElement(32));
+
+    // Assert:
+    MatcherAssert.assertThat(builtBefore, IsEqual.equalTo(false));
+    MatcherAssert.assertThat(table.isBuilt(), IsEqual.equalTo(true));
+  }
+
+  @Test
+  public void tableSizeDependsOnWindowBits() {
+    // Act:
+    final Ed25519FixedBaseTable table = new Ed25519FixedBaseTable(Ed25519Group.BASE_POINT, 5);
+
+    // Assert:
+    MatcherAssert.assertThat(table.getWindowBits(), IsEqual.equalTo(5));
+    MatcherAssert.assertThat(table.getWindows(), IsEqual.equalTo(52));
+    MatcherAssert.assertThat(table.getEntriesPerWindow(), IsEqual.equalTo(16));
+    MatcherAssert.assertThat(table.getMemorySize(), IsEqual.equalTo(52L * 16 * 120));
+  }
+
+  @Test
+  public void cannotCreateTableWithUnsupportedWindowBits() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new Ed25519FixedBaseTable(Ed25519Group.BASE_POINT, 3));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new Ed25519FixedBaseTable(Ed25519Group.BASE_POINT, 9));
+  }
+
+  @Test
+  public void cannotCreateTableOfPointNotInP3() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new Ed25519FixedBaseTable(Ed25519Group.BASE_POINT.toP2(), 5));
+  }
+}
@@ -613,6 +613,36 @@ public class Ed25519GroupElementTest {
     }
   }
 
+  @Test
+  public void multiScalarMultiplyVariableTimeReturnsExpectedResult() {
+    final Ed25519EncodedFieldElement zero = new Ed25519EncodedFieldElement(new byte[32]);
+    for (int count : new int[] {1, 5, 64, 300}) {
+      // Arrange:
+      final Ed25519GroupElement[] points = new Ed25519GroupElement[count];
+      final Ed25519EncodedFieldElement[] scalars = new Ed25519EncodedFieldElement[count];
+      Ed25519GroupElement negatedSum = Ed25519Group.ZERO_P3;
+      for (int i = 0; i < count; i++) {
+        points[i] = MathUtils.getRandomGroupElement();
+        points[i].precomputeForDoubleScalarMultiplication();
+        scalars[i] = MathUtils.getRandomEncodedFieldElement(32);
+        // 0 * B - scalar * point
+        negatedSum =
+            MathUtils.addGroupElements(
+                negatedSum,
+                Ed25519Group.BASE_POINT.doubleScalarMultiplyVariableTime(
+                    points[i], scalars[i], zero));
+      }
+
+      // Act:
+      final Ed25519GroupElement result =
+          Ed25519GroupElement.multiScalarMultiplyVariableTime(points, scalars);
+
+      // Assert:
+      MatcherAssert.assertThat(
+          MathUtils.addGroupElements(result, negatedSum), IsEqual.equalTo(Ed25519Group.ZERO_P3));
+    }
+  }
+
   // endregion
 
   @Test
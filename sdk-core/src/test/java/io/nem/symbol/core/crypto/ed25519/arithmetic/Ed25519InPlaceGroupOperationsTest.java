@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.core.crypto.ed25519.arithmetic;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+public class Ed25519InPlaceGroupOperationsTest {
+
+  @Test
+  public void scalarMultiplyBasePointReturnsSameResultAsGroupElement() {
+    for (int i = 0; i < 100; i++) {
+      // Arrange:
+      final Ed25519EncodedFieldElement a = MathUtils.getRandomEncodedFieldElement(32);
+
+      // Act:
+      final Ed25519GroupElement g =
+          Ed25519InPlaceGroupOperations.scalarMultiply(Ed25519Group.BASE_POINT, a);
+
+      // Assert:
+      MatcherAssert.assertThat(g, IsEqual.equalTo(Ed25519Group.BASE_POINT.scalarMultiply(a)));
+    }
+  }
+
+  @Test
+  public void scalarMultiplyReturnsExpectedResult() {
+    for (int i = 0; i < 20; i++) {
+      // Arrange:
+      final Ed25519GroupElement point = MathUtils.getRandomGroupElement();
+      final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+
+      // Act:
+      final Ed25519GroupElement g = Ed25519InPlaceGroupOperations.scalarMultiply(point, f.encode());
+
+      // Assert:
+      MatcherAssert.assertThat(g, IsEqual.equalTo(MathUtils.scalarMultiplyGroupElement(point, f)));
+    }
+  }
+
+  @Test
+  public void scalarMultiplyByZeroReturnsNeutralElement() {
+    // Act:
+    final Ed25519GroupElement g =
+        Ed25519InPlaceGroupOperations.scalarMultiply(
+            Ed25519Group.BASE_POINT, new Ed25519EncodedFieldElement(new byte[32]));
+
+    // Assert:
+    MatcherAssert.assertThat(g, IsEqual.equalTo(Ed25519Group.ZERO_P3));
+  }
+
+  @Test
+  public void doubleScalarMultiplyVariableTimeReturnsSameResultAsGroupElement() {
+    for (int i = 0; i < 100; i++) {
+      // Arrange:
+      final Ed25519GroupElement basePoint = Ed25519Group.BASE_POINT;
+      final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+      g.precomputeForDoubleScalarMultiplication();
+      final Ed25519EncodedFieldElement a = MathUtils.getRandomEncodedFieldElement(32);
+      final Ed25519EncodedFieldElement b = MathUtils.getRandomEncodedFieldElement(32);
+
+      // Act:
+      final Ed25519GroupElement h =
+          Ed25519InPlaceGroupOperations.doubleScalarMultiplyVariableTime(basePoint, g, a, b);
+
+      // Assert:
+      MatcherAssert.assertThat(
+          h, IsEqual.equalTo(basePoint.doubleScalarMultiplyVariableTime(g, a, b)));
+    }
+  }
+}
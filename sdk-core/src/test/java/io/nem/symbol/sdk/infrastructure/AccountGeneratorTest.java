@@ -0,0 +1,175 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Tests of {@link AccountGenerator}. */
+class AccountGeneratorTest {
+
+  private final NetworkType networkType = NetworkType.TEST_NET;
+
+  @Test
+  void generateDistinctAccounts() {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Account> accounts = new AccountGenerator(executor).generate(100, networkType);
+
+      Assertions.assertEquals(100, accounts.size());
+      Set<Address> addresses = new HashSet<>();
+      for (Account account : accounts) {
+        Assertions.assertEquals(networkType, account.getNetworkType());
+        Assertions.assertEquals(
+            Account.createFromPrivateKey(account.getPrivateKey(), networkType).getPublicAccount(),
+            account.getPublicAccount());
+        addresses.add(account.getAddress());
+      }
+      Assertions.assertEquals(100, addresses.size());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void generateVanityAddresses() {
+    List<Account> accounts =
+        new AccountGenerator()
+            .generate(
+                3,
+                networkType,
+                AccountGenerator.addressStartsWith("ta")
+                    .and(AccountGenerator.addressEndsWith("A")));
+
+    Assertions.assertEquals(3, accounts.size());
+    for (Account account : accounts) {
+      Assertions.assertTrue(account.getAddress().plain().startsWith("TA"));
+      Assertions.assertTrue(account.getAddress().plain().endsWith("A"));
+    }
+  }
+
+  @Test
+  void generateReportsProgress() {
+    List<AccountGenerationProgress> reports = new CopyOnWriteArrayList<>();
+    new AccountGenerator()
+        .generate(2, networkType, AccountGenerator.addressStartsWith("TAA"), reports::add);
+
+    AccountGenerationProgress last = reports.get(reports.size() - 1);
+    Assertions.assertTrue(last.isCompleted());
+    Assertions.assertEquals(2, last.getFound());
+    Assertions.assertEquals(2, last.getTarget());
+    Assertions.assertTrue(last.getAttempts() >= 2);
+    Assertions.assertTrue(last.getAttemptsPerSecond() > 0);
+    for (AccountGenerationProgress report : reports) {
+      Assertions.assertTrue(report.getAttempts() <= last.getAttempts());
+    }
+  }
+
+  @Test
+  void generateNothing() {
+    Assertions.assertTrue(new AccountGenerator().generate(0, networkType).isEmpty());
+  }
+
+  @Test
+  void generateRethrowsFilterErrors() {
+    Assertions.assertEquals(
+        "Invalid filter",
+        Assertions.assertThrows(
+                IllegalStateException.class,
+                () ->
+                    new AccountGenerator()
+                        .generate(
+                            1,
+                            networkType,
+                            address -> {
+                              throw new IllegalStateException("Invalid filter");
+                            }))
+            .getMessage());
+  }
+
+  @Test
+  void generateStopsAfterMaxAttempts() {
+    List<AccountGenerationProgress> reports = new CopyOnWriteArrayList<>();
+    List<Account> accounts =
+        new AccountGenerator().generate(2, networkType, address -> false, 5000, reports::add);
+
+    Assertions.assertTrue(accounts.isEmpty());
+    AccountGenerationProgress last = reports.get(reports.size() - 1);
+    Assertions.assertFalse(last.isCompleted());
+    Assertions.assertEquals(0, last.getFound());
+    Assertions.assertTrue(last.getAttempts() >= 5000);
+  }
+
+  @Test
+  void generateRejectsPrefixesOfOtherNetworks() {
+    AccountGenerator generator = new AccountGenerator();
+    Assertions.assertEquals(
+        "Addresses of network type TEST_NET start with T, they cannot start with 'N'",
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> generator.generate(1, networkType, AccountGenerator.addressStartsWith("n")))
+            .getMessage());
+    Assertions.assertEquals(
+        "The second character of addresses of network type TEST_NET is between A and D, they"
+            + " cannot start with 'TE'",
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                    generator.generate(
+                        1,
+                        networkType,
+                        AccountGenerator.addressStartsWith("TE")
+                            .and(AccountGenerator.addressEndsWith("A"))))
+            .getMessage());
+  }
+
+  @Test
+  void filtersRejectImpossiblePatterns() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> AccountGenerator.addressEndsWith("AB"));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            AccountGenerator.addressStartsWith("TA").and(AccountGenerator.addressStartsWith("TB")));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> AccountGenerator.addressEndsWith("AA").and(AccountGenerator.addressEndsWith("BA")));
+
+    AddressPattern pattern =
+        AccountGenerator.addressStartsWith("TA")
+            .and(AccountGenerator.addressStartsWith("tab"))
+            .and(AccountGenerator.addressEndsWith("q"));
+    Assertions.assertEquals("TAB", pattern.getPrefix());
+    Assertions.assertEquals("Q", pattern.getSuffix());
+  }
+
+  @Test
+  void filtersRejectNonBase32Characters() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> AccountGenerator.addressStartsWith("T0"));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> AccountGenerator.addressEndsWith("1A"));
+  }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.Page;
+import io.nem.symbol.sdk.api.ReceiptRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.ResolutionStatementSearchCriteria;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.infrastructure.AddressBloomFilter.Key;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.namespace.NamespaceId;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.receipt.AddressResolutionStatement;
+import io.nem.symbol.sdk.model.receipt.ReceiptSource;
+import io.nem.symbol.sdk.model.receipt.ResolutionEntry;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.PlainMessage;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import io.reactivex.Observable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/** Tests of {@link AddressBloomIndex} and {@link AddressBloomIndexBuilder}. */
+class AddressBloomIndexTest {
+
+  private final NetworkType networkType = NetworkType.MIJIN_TEST;
+
+  private final Account signer = Account.generateNewAccount(networkType);
+
+  private final Address recipient = Address.generateRandom(networkType);
+
+  private final Address aliased = Address.generateRandom(networkType);
+
+  private final NamespaceId alias = NamespaceId.createFromName("alias");
+
+  private AddressBloomFilter filter(long height, UnresolvedAddress... addresses) {
+    List<Key> keys =
+        Arrays.stream(addresses).map(a -> Key.of(a, networkType)).collect(Collectors.toList());
+    return AddressBloomFilter.create(
+        height, height, keys, AddressBloomIndexBuilder.DEFAULT_FALSE_POSITIVE_RATE);
+  }
+
+  private List<Address> randomAddresses(int count) {
+    return IntStream.range(0, count)
+        .mapToObj(i -> Address.generateRandom(networkType))
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  void candidates() {
+    AddressBloomIndex index = new AddressBloomIndex(networkType);
+    index.add(filter(1, signer.getAddress(), recipient));
+    index.add(filter(2));
+    index.add(filter(3, aliased, alias));
+
+    Assertions.assertEquals(
+        Collections.singletonList(1L), heights(index.getCandidates(Arrays.asList(recipient))));
+    Assertions.assertEquals(
+        Arrays.asList(1L, 3L),
+        heights(index.getCandidates(Arrays.asList(signer.getAddress(), alias))));
+    Assertions.assertTrue(index.getCandidates(randomAddresses(10)).isEmpty());
+    Assertions.assertTrue(index.getCandidates(Collections.emptyList()).isEmpty());
+
+    Assertions.assertTrue(index.mightContain(3, aliased));
+    Assertions.assertFalse(index.mightContain(2, aliased));
+    Assertions.assertFalse(index.mightContain(4, aliased));
+    Assertions.assertTrue(index.getFilters().get(1).isEmpty());
+  }
+
+  @Test
+  void candidatesOfLargeWatchedSet() {
+    AddressBloomIndex index = new AddressBloomIndex(networkType);
+    index.add(filter(1, signer.getAddress(), recipient));
+    index.add(filter(2, Address.generateRandom(networkType)));
+    List<Address> watched = randomAddresses(5000);
+
+    Assertions.assertTrue(index.getCandidates(watched).isEmpty());
+
+    watched.add(recipient);
+    Assertions.assertEquals(Collections.singletonList(1L), heights(index.getCandidates(watched)));
+  }
+
+  @Test
+  void overlappingFilter() {
+    AddressBloomIndex index = new AddressBloomIndex(networkType);
+    index.add(filter(2, recipient));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> index.add(filter(2)));
+  }
+
+  @Test
+  void writeAndRead() throws IOException {
+    AddressBloomIndex index = new AddressBloomIndex(networkType);
+    index.add(filter(1, signer.getAddress(), recipient));
+    index.add(filter(2));
+    index.add(
+        AddressBloomFilter.create(
+            3, 10, Collections.singletonList(Key.of(alias, networkType)), 0.01));
+
+    Path file = Files.createTempFile("bloom", ".bin");
+    try {
+      index.writeTo(file);
+      AddressBloomIndex read = AddressBloomIndex.readFrom(file);
+      Assertions.assertEquals(networkType, read.getNetworkType());
+      Assertions.assertEquals(index.getFilters(), read.getFilters());
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  void buildAndScan() throws ExecutionException, InterruptedException {
+    RepositoryFactory factory = Mockito.mock(RepositoryFactory.class);
+    TransactionRepository transactionRepository = Mockito.mock(TransactionRepository.class);
+    ReceiptRepository receiptRepository = Mockito.mock(ReceiptRepository.class);
+    Mockito.when(factory.createTransactionRepository()).thenReturn(transactionRepository);
+    Mockito.when(factory.createReceiptRepository()).thenReturn(receiptRepository);
+    Mockito.when(factory.getNetworkType()).thenReturn(Observable.just(networkType));
+
+    List<Transaction> transactions = new ArrayList<>();
+    transactions.add(transfer(3, recipient));
+    transactions.add(transfer(5, alias));
+    Mockito.when(transactionRepository.search(Mockito.any()))
+        .thenReturn(Observable.just(new Page<>(transactions)));
+    Mockito.when(
+            receiptRepository.searchAddressResolutionStatements(
+                Mockito.eq(new ResolutionStatementSearchCriteria().height(BigInteger.valueOf(5)))))
+        .thenReturn(
+            Observable.just(
+                new Page<>(
+                    Collections.singletonList(
+                        new AddressResolutionStatement(
+                            "abc",
+                            BigInteger.valueOf(5),
+                            alias,
+                            Collections.singletonList(
+                                ResolutionEntry.forAddress(aliased, new ReceiptSource(1, 0))))))));
+
+    AddressBloomIndexBuilder builder = new AddressBloomIndexBuilder(factory);
+    AddressBloomIndex index = builder.build(BigInteger.ONE, BigInteger.TEN).toFuture().get();
+
+    Assertions.assertEquals(10, index.getFilters().size());
+    Assertions.assertEquals(
+        Arrays.asList(3L, 5L), heights(index.getCandidates(Arrays.asList(signer.getAddress()))));
+    Assertions.assertEquals(
+        Collections.singletonList(5L), heights(index.getCandidates(Arrays.asList(aliased))));
+
+    List<Transaction> found = builder.scan(index, Arrays.asList(aliased)).toList().toFuture().get();
+    Assertions.assertEquals(Collections.singletonList(transactions.get(1)), found);
+  }
+
+  private Transaction transfer(long height, UnresolvedAddress to) {
+    return TransferTransactionFactory.create(
+            networkType, new Deadline(BigInteger.ONE), to, Collections.emptyList())
+        .message(new PlainMessage("deposit"))
+        .signer(signer.getPublicAccount())
+        .transactionInfo(TransactionInfo.create(BigInteger.valueOf(height), 0, "id", "ABC", "ABC"))
+        .build();
+  }
+
+  private static List<Long> heights(List<AddressBloomFilter> filters) {
+    return filters.stream().map(AddressBloomFilter::getFromHeight).collect(Collectors.toList());
+  }
+}
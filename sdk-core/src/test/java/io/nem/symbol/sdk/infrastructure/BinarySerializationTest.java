@@ -16,22 +16,34 @@
 package io.nem.symbol.sdk.infrastructure;
 
 import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.api.DeserializationResult;
 import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.message.MessageType;
 import io.nem.symbol.sdk.model.message.PlainMessage;
 import io.nem.symbol.sdk.model.mosaic.Mosaic;
 import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.namespace.NamespaceId;
 import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionFactory;
 import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.NamespaceRegistrationTransactionFactory;
 import io.nem.symbol.sdk.model.transaction.SignedTransaction;
 import io.nem.symbol.sdk.model.transaction.Transaction;
 import io.nem.symbol.sdk.model.transaction.TransactionType;
 import io.nem.symbol.sdk.model.transaction.TransferTransaction;
 import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -142,4 +154,255 @@ class BinarySerializationTest {
     Assertions.assertFalse(deserializeWithoutSignature.getSignature().isPresent());
     Assertions.assertFalse(deserializeWithoutSignature.getSigner().isPresent());
   }
+
+  @Test
+  void testSerializeTo() {
+    BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+    TransferTransaction transaction =
+        TransferTransactionFactory.create(
+                NetworkType.MIJIN_TEST,
+                new Deadline(BigInteger.TEN),
+                Address.generateRandom(NetworkType.MIJIN_TEST),
+                Arrays.asList(
+                    new Mosaic(new MosaicId("7CDF3B117A3C40CC"), BigInteger.valueOf(100)),
+                    new Mosaic(new MosaicId("2BBEA6CC462B2443"), BigInteger.valueOf(200))))
+            .message(new PlainMessage("Some Message"))
+            .maxFee(BigInteger.valueOf(1000))
+            .build();
+    TransferTransaction signed =
+        (TransferTransaction)
+            binarySerialization.deserialize(
+                ConvertUtils.getBytes(transaction.signWith(account, generationHash).getPayload()));
+    AggregateTransaction aggregate =
+        AggregateTransactionFactory.createComplete(
+                NetworkType.MIJIN_TEST,
+                new Deadline(BigInteger.ONE),
+                Collections.singletonList(transaction.toAggregate(account.getPublicAccount())))
+            .build();
+
+    for (Transaction tx : Arrays.asList(transaction, signed, aggregate)) {
+      byte[] expected = binarySerialization.serialize(tx);
+      ByteBuffer buffer = ByteBuffer.allocateDirect(expected.length + 10);
+      buffer.position(5);
+
+      int size = binarySerialization.serializeTo(tx, buffer);
+
+      Assertions.assertEquals(expected.length, size);
+      Assertions.assertEquals(expected.length + 5, buffer.position());
+      Assertions.assertEquals(ByteOrder.BIG_ENDIAN, buffer.order());
+      byte[] actual = new byte[size];
+      buffer.position(5);
+      buffer.get(actual);
+      Assertions.assertEquals(ConvertUtils.toHex(expected), ConvertUtils.toHex(actual));
+    }
+  }
+
+  @Test
+  void testSerializeToWithoutEnoughSpace() {
+    BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+    TransferTransaction transaction =
+        TransferTransactionFactory.create(
+                NetworkType.MIJIN_TEST,
+                new Deadline(BigInteger.ONE),
+                Address.generateRandom(NetworkType.MIJIN_TEST),
+                Collections.emptyList())
+            .build();
+    ByteBuffer buffer = ByteBuffer.allocate(100);
+    Assertions.assertThrows(
+        BufferOverflowException.class, () -> binarySerialization.serializeTo(transaction, buffer));
+    Assertions.assertEquals(ByteOrder.BIG_ENDIAN, buffer.order());
+  }
+
+  @Test
+  void testDeserializeFromByteBuffer() {
+    BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+    TransferTransaction transfer =
+        TransferTransactionFactory.create(
+                NetworkType.MIJIN_TEST,
+                new Deadline(BigInteger.TEN),
+                NamespaceId.createFromName("alias"),
+                Arrays.asList(
+                    new Mosaic(new MosaicId("7CDF3B117A3C40CC"), BigInteger.valueOf(100)),
+                    new Mosaic(new MosaicId("2BBEA6CC462B2443"), BigInteger.valueOf(200))))
+            .message(new PlainMessage("Some Message"))
+            .maxFee(BigInteger.valueOf(1000))
+            .build();
+    byte[] signed = ConvertUtils.getBytes(transfer.signWith(account, generationHash).getPayload());
+    byte[] unsigned = binarySerialization.serialize(transfer);
+    byte[] aggregate =
+        binarySerialization.serialize(
+            AggregateTransactionFactory.createComplete(
+                    NetworkType.MIJIN_TEST,
+                    new Deadline(BigInteger.ONE),
+                    Collections.singletonList(transfer.toAggregate(account.getPublicAccount())))
+                .build());
+
+    ByteBuffer buffer =
+        ByteBuffer.allocateDirect(signed.length + unsigned.length + aggregate.length + 3);
+    buffer.position(3);
+    buffer.put(signed).put(unsigned).put(aggregate);
+    buffer.position(3);
+
+    for (byte[] expected : Arrays.asList(signed, unsigned, aggregate)) {
+      int start = buffer.position();
+      Transaction transaction = binarySerialization.deserialize(buffer);
+      Assertions.assertEquals(start + expected.length, buffer.position());
+      Assertions.assertEquals(
+          ConvertUtils.toHex(expected),
+          ConvertUtils.toHex(binarySerialization.serialize(transaction)));
+      Assertions.assertEquals(
+          binarySerialization.deserialize(expected).getSigner(), transaction.getSigner());
+    }
+    Assertions.assertEquals(ByteOrder.BIG_ENDIAN, buffer.order());
+    Assertions.assertFalse(buffer.hasRemaining());
+  }
+
+  @Test
+  void testDeserializeFromTruncatedByteBuffer() {
+    BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+    byte[] payload =
+        binarySerialization.serialize(
+            TransferTransactionFactory.create(
+                    NetworkType.MIJIN_TEST,
+                    new Deadline(BigInteger.ONE),
+                    Address.generateRandom(NetworkType.MIJIN_TEST),
+                    Collections.emptyList())
+                .build());
+    ByteBuffer buffer = ByteBuffer.wrap(payload, 0, payload.length - 1);
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> binarySerialization.deserialize(buffer));
+    Assertions.assertEquals(0, buffer.position());
+  }
+
+  @Test
+  void testGetSizeMatchesPayload() {
+    BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+    TransferTransaction withoutMessage =
+        TransferTransactionFactory.create(
+                NetworkType.MIJIN_TEST,
+                new Deadline(BigInteger.ONE),
+                NamespaceId.createFromName("alias"),
+                Collections.emptyList())
+            .build();
+    TransferTransaction withMessage =
+        TransferTransactionFactory.create(
+                NetworkType.MIJIN_TEST,
+                new Deadline(BigInteger.ONE),
+                Address.generateRandom(NetworkType.MIJIN_TEST),
+                Arrays.asList(
+                    new Mosaic(new MosaicId("7CDF3B117A3C40CC"), BigInteger.valueOf(100)),
+                    new Mosaic(new MosaicId("2BBEA6CC462B2443"), BigInteger.valueOf(200))))
+            .message(new PlainMessage("Some Message"))
+            .build();
+    Account cosigner = Account.generateNewAccount(NetworkType.MIJIN_TEST);
+    AggregateTransaction aggregate =
+        AggregateTransactionFactory.createComplete(
+                NetworkType.MIJIN_TEST,
+                new Deadline(BigInteger.ONE),
+                Arrays.asList(
+                    withoutMessage.toAggregate(account.getPublicAccount()),
+                    withMessage.toAggregate(cosigner.getPublicAccount())))
+            .build();
+    Transaction cosigned =
+        binarySerialization.deserialize(
+            ConvertUtils.getBytes(
+                aggregate
+                    .signTransactionWithCosigners(
+                        account, Collections.singletonList(cosigner), generationHash)
+                    .getPayload()));
+
+    for (Transaction transaction :
+        Arrays.asList(withoutMessage, withMessage, aggregate, cosigned)) {
+      Assertions.assertEquals(
+          binarySerialization.serialize(transaction).length,
+          binarySerialization.getSize(transaction));
+    }
+    Assertions.assertEquals(1, ((AggregateTransaction) cosigned).getCosignatures().size());
+  }
+
+  @Test
+  void testBatchDeserialization() {
+    BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+    List<byte[]> payloads = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      payloads.add(
+          binarySerialization.serialize(
+              TransferTransactionFactory.create(
+                      NetworkType.MIJIN_TEST,
+                      new Deadline(BigInteger.valueOf(i + 1)),
+                      Address.generateRandom(NetworkType.MIJIN_TEST),
+                      Collections.emptyList())
+                  .build()));
+    }
+    payloads.set(10, new byte[] {1, 2, 3});
+    payloads.set(20, null);
+
+    ExecutorService executor = Executors.newFixedThreadPool(3);
+    try {
+      for (List<DeserializationResult> results :
+          Arrays.asList(
+              binarySerialization.deserialize(payloads),
+              binarySerialization.deserialize(payloads, executor))) {
+        Assertions.assertEquals(payloads.size(), results.size());
+        for (int i = 0; i < results.size(); i++) {
+          DeserializationResult result = results.get(i);
+          Assertions.assertEquals(i, result.getIndex());
+          if (i == 10 || i == 20) {
+            Assertions.assertFalse(result.isSuccess());
+            Assertions.assertTrue(result.getError().isPresent());
+            Assertions.assertFalse(result.getTransaction().isPresent());
+          } else {
+            Assertions.assertTrue(result.isSuccess());
+            Assertions.assertEquals(i + 1, result.getTransaction().get().getDeadline().getValue());
+          }
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testAggregateBodyMatchesCatbufferBuilder() {
+    BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+    Account cosigner = Account.generateNewAccount(NetworkType.MIJIN_TEST);
+    Transaction transfer =
+        TransferTransactionFactory.create(
+                NetworkType.MIJIN_TEST,
+                new Deadline(BigInteger.ONE),
+                Address.generateRandom(NetworkType.MIJIN_TEST),
+                Collections.singletonList(
+                    new Mosaic(new MosaicId("2BBEA6CC462B2443"), BigInteger.TEN)))
+            .message(new PlainMessage("odd"))
+            .build();
+    Transaction namespace =
+        NamespaceRegistrationTransactionFactory.createRootNamespace(
+                NetworkType.MIJIN_TEST, new Deadline(BigInteger.ONE), "root", BigInteger.TEN)
+            .build();
+    AggregateTransaction aggregate =
+        (AggregateTransaction)
+            binarySerialization.deserialize(
+                AggregateTransactionFactory.createComplete(
+                        NetworkType.MIJIN_TEST,
+                        new Deadline(BigInteger.ONE),
+                        Arrays.asList(
+                            transfer.toAggregate(account.getPublicAccount()),
+                            namespace.toAggregate(cosigner.getPublicAccount())))
+                    .build()
+                    .signTransactionWithCosigners(
+                        account, Collections.singletonList(cosigner), generationHash)
+                    .getPayloadBytes());
+
+    byte[] expectedBody =
+        binarySerialization
+            .resolveSerializer(aggregate.getType(), aggregate.getVersion())
+            .toBodyBuilder(aggregate)
+            .serialize();
+    byte[] payload = binarySerialization.serialize(aggregate);
+
+    Assertions.assertEquals(
+        ConvertUtils.toHex(expectedBody),
+        ConvertUtils.toHex(Arrays.copyOfRange(payload, 128, payload.length)));
+    Assertions.assertEquals(payload.length, binarySerialization.getSize(aggregate));
+  }
 }
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.BlockRepository;
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.blockchain.FinalizedBlock;
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.subjects.PublishSubject;
+import java.math.BigInteger;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/** Tests of {@link BlockInfoCache}. */
+class BlockInfoCacheTest {
+
+  private static BlockInfo block(long height, String hash) {
+    BlockInfo blockInfo = Mockito.mock(BlockInfo.class);
+    Mockito.when(blockInfo.getHeight()).thenReturn(BigInteger.valueOf(height));
+    Mockito.when(blockInfo.getHash()).thenReturn(hash);
+    return blockInfo;
+  }
+
+  @Test
+  void putAndGet() {
+    BlockInfoCache cache = new BlockInfoCache();
+    BlockInfo block = block(10, "AA");
+    cache.put(block);
+
+    Assertions.assertSame(block, cache.get(BigInteger.TEN).get());
+    Assertions.assertSame(block, cache.get(BigInteger.TEN, "aa").get());
+    Assertions.assertFalse(cache.get(BigInteger.TEN, "BB").isPresent());
+    Assertions.assertFalse(cache.get(BigInteger.ONE).isPresent());
+  }
+
+  @Test
+  void sameHashKeepsCachedBlocks() {
+    BlockInfoCache cache = new BlockInfoCache();
+    BlockInfo block10 = block(10, "AA");
+    cache.put(block10);
+    cache.put(block(11, "BB"));
+    cache.put(block(10, "AA"));
+
+    Assertions.assertSame(block10, cache.get(BigInteger.TEN).get());
+    Assertions.assertEquals(2, cache.size());
+  }
+
+  @Test
+  void differentHashInvalidatesForkAbove() {
+    BlockInfoCache cache = new BlockInfoCache();
+    cache.put(block(9, "99"));
+    cache.put(block(10, "AA"));
+    cache.put(block(11, "BB"));
+    cache.put(block(12, "CC"));
+
+    BlockInfo newBlock = block(10, "DD");
+    cache.put(newBlock);
+
+    Assertions.assertTrue(cache.get(BigInteger.valueOf(9)).isPresent());
+    Assertions.assertSame(newBlock, cache.get(BigInteger.TEN).get());
+    Assertions.assertFalse(cache.get(BigInteger.valueOf(11)).isPresent());
+    Assertions.assertFalse(cache.get(BigInteger.valueOf(12)).isPresent());
+  }
+
+  @Test
+  void finalizedBlocksArePinned() {
+    BlockInfoCache cache = new BlockInfoCache();
+    BlockInfo block10 = block(10, "AA");
+    cache.put(block10);
+    cache.put(block(11, "BB"));
+    cache.finalized(new FinalizedBlock(1L, 1L, BigInteger.TEN, "AA"));
+
+    cache.put(block(10, "DD"));
+
+    Assertions.assertTrue(cache.isFinalized(BigInteger.TEN));
+    Assertions.assertFalse(cache.isFinalized(BigInteger.valueOf(11)));
+    Assertions.assertSame(block10, cache.get(BigInteger.TEN).get());
+    Assertions.assertTrue(cache.get(BigInteger.valueOf(11)).isPresent());
+  }
+
+  @Test
+  void finalizedWithDifferentHashInvalidatesNonFinalized() {
+    BlockInfoCache cache = new BlockInfoCache();
+    cache.put(block(5, "55"));
+    cache.finalized(new FinalizedBlock(1L, 1L, BigInteger.valueOf(5), "55"));
+    cache.put(block(10, "AA"));
+    cache.put(block(11, "BB"));
+
+    cache.finalized(new FinalizedBlock(1L, 2L, BigInteger.TEN, "DD"));
+
+    Assertions.assertEquals(BigInteger.TEN, cache.getFinalizedHeight());
+    Assertions.assertTrue(cache.get(BigInteger.valueOf(5)).isPresent());
+    Assertions.assertFalse(cache.get(BigInteger.TEN).isPresent());
+    Assertions.assertFalse(cache.get(BigInteger.valueOf(11)).isPresent());
+  }
+
+  @Test
+  void olderFinalizedBlockIsIgnored() {
+    BlockInfoCache cache = new BlockInfoCache();
+    cache.finalized(new FinalizedBlock(1L, 2L, BigInteger.TEN, "AA"));
+    cache.finalized(new FinalizedBlock(1L, 1L, BigInteger.ONE, "BB"));
+    Assertions.assertEquals(BigInteger.TEN, cache.getFinalizedHeight());
+  }
+
+  @Test
+  void maxSizeEvictsLowestHeights() {
+    BlockInfoCache cache = new BlockInfoCache(2);
+    cache.put(block(1, "11"));
+    cache.put(block(2, "22"));
+    cache.put(block(3, "33"));
+
+    Assertions.assertEquals(2, cache.size());
+    Assertions.assertFalse(cache.get(BigInteger.ONE).isPresent());
+    Assertions.assertTrue(cache.get(BigInteger.valueOf(3)).isPresent());
+  }
+
+  @Test
+  void getBlockByHeightLoadsFinalizedOnce() throws ExecutionException, InterruptedException {
+    BlockInfoCache cache = new BlockInfoCache();
+    cache.finalized(new FinalizedBlock(1L, 1L, BigInteger.TEN, "AA"));
+    BlockRepository blockRepository = Mockito.mock(BlockRepository.class);
+    BlockInfo block = block(10, "AA");
+    Mockito.when(blockRepository.getBlockByHeight(BigInteger.TEN))
+        .thenReturn(Observable.just(block));
+
+    Assertions.assertSame(
+        block, cache.getBlockByHeight(blockRepository, BigInteger.TEN).toFuture().get());
+    Assertions.assertSame(
+        block, cache.getBlockByHeight(blockRepository, BigInteger.TEN).toFuture().get());
+
+    Mockito.verify(blockRepository, Mockito.times(1)).getBlockByHeight(BigInteger.TEN);
+  }
+
+  @Test
+  void getBlockByHeightReloadsNonFinalizedWithoutListener()
+      throws ExecutionException, InterruptedException {
+    BlockInfoCache cache = new BlockInfoCache();
+    BlockRepository blockRepository = Mockito.mock(BlockRepository.class);
+    BlockInfo block = block(10, "AA");
+    BlockInfo rolledBack = block(10, "BB");
+    Mockito.when(blockRepository.getBlockByHeight(BigInteger.TEN))
+        .thenReturn(Observable.just(block), Observable.just(rolledBack));
+
+    Assertions.assertSame(
+        block, cache.getBlockByHeight(blockRepository, BigInteger.TEN).toFuture().get());
+    Assertions.assertSame(
+        rolledBack, cache.getBlockByHeight(blockRepository, BigInteger.TEN).toFuture().get());
+
+    Assertions.assertEquals(0, cache.size());
+    Mockito.verify(blockRepository, Mockito.times(2)).getBlockByHeight(BigInteger.TEN);
+  }
+
+  @Test
+  void getBlockByHeightCachesNonFinalizedWhileSubscribed()
+      throws ExecutionException, InterruptedException {
+    BlockInfoCache cache = new BlockInfoCache();
+    Listener listener = Mockito.mock(Listener.class);
+    Mockito.when(listener.newBlock()).thenReturn(Observable.never());
+    Mockito.when(listener.finalizedBlock()).thenReturn(Observable.never());
+    BlockRepository blockRepository = Mockito.mock(BlockRepository.class);
+    BlockInfo block = block(10, "AA");
+    Mockito.when(blockRepository.getBlockByHeight(BigInteger.TEN))
+        .thenReturn(Observable.just(block));
+
+    Disposable subscription = cache.subscribe(listener);
+    Assertions.assertTrue(cache.isSubscribed());
+    Assertions.assertSame(
+        block, cache.getBlockByHeight(blockRepository, BigInteger.TEN).toFuture().get());
+    Assertions.assertSame(
+        block, cache.getBlockByHeight(blockRepository, BigInteger.TEN).toFuture().get());
+    Mockito.verify(blockRepository, Mockito.times(1)).getBlockByHeight(BigInteger.TEN);
+
+    subscription.dispose();
+    Assertions.assertFalse(cache.isSubscribed());
+    Assertions.assertSame(
+        block, cache.getBlockByHeight(blockRepository, BigInteger.TEN).toFuture().get());
+    Mockito.verify(blockRepository, Mockito.times(2)).getBlockByHeight(BigInteger.TEN);
+  }
+
+  @Test
+  void getBlockByHeightReloadsNonFinalizedAfterListenerError()
+      throws ExecutionException, InterruptedException {
+    BlockInfoCache cache = new BlockInfoCache();
+    Listener listener = Mockito.mock(Listener.class);
+    PublishSubject<BlockInfo> newBlocks = PublishSubject.create();
+    Mockito.when(listener.newBlock()).thenReturn(newBlocks);
+    Mockito.when(listener.finalizedBlock()).thenReturn(Observable.never());
+    BlockRepository blockRepository = Mockito.mock(BlockRepository.class);
+    BlockInfo block = block(10, "AA");
+    BlockInfo rolledBack = block(10, "BB");
+    Mockito.when(blockRepository.getBlockByHeight(BigInteger.TEN))
+        .thenReturn(Observable.just(block), Observable.just(rolledBack));
+
+    Disposable subscription = cache.subscribe(listener);
+    Assertions.assertSame(
+        block, cache.getBlockByHeight(blockRepository, BigInteger.TEN).toFuture().get());
+    Assertions.assertEquals(1, cache.size());
+
+    newBlocks.onError(new IllegalStateException("Connection closed"));
+    Assertions.assertFalse(cache.isSubscribed());
+    Assertions.assertEquals(0, cache.size());
+    Assertions.assertSame(
+        rolledBack, cache.getBlockByHeight(blockRepository, BigInteger.TEN).toFuture().get());
+    Mockito.verify(blockRepository, Mockito.times(2)).getBlockByHeight(BigInteger.TEN);
+
+    subscription.dispose();
+    Assertions.assertFalse(cache.isSubscribed());
+  }
+
+  @Test
+  void completedListenerStopsTheSubscriptionOnce() {
+    BlockInfoCache cache = new BlockInfoCache();
+    Listener listener = Mockito.mock(Listener.class);
+    Mockito.when(listener.newBlock()).thenReturn(Observable.empty());
+    Mockito.when(listener.finalizedBlock()).thenReturn(Observable.empty());
+    Listener openListener = Mockito.mock(Listener.class);
+    Mockito.when(openListener.newBlock()).thenReturn(Observable.never());
+    Mockito.when(openListener.finalizedBlock()).thenReturn(Observable.never());
+
+    Disposable open = cache.subscribe(openListener);
+    Disposable completed = cache.subscribe(listener);
+    completed.dispose();
+    Assertions.assertTrue(cache.isSubscribed());
+
+    open.dispose();
+    Assertions.assertFalse(cache.isSubscribed());
+  }
+
+  @Test
+  void invalidMaxSize() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new BlockInfoCache(0));
+  }
+}
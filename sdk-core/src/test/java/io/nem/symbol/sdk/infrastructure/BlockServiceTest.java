@@ -17,14 +17,19 @@ package io.nem.symbol.sdk.infrastructure;
 
 import io.nem.symbol.sdk.api.BlockRepository;
 import io.nem.symbol.sdk.api.BlockService;
+import io.nem.symbol.sdk.api.ChainRepository;
 import io.nem.symbol.sdk.api.RepositoryFactory;
 import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.blockchain.ChainInfo;
+import io.nem.symbol.sdk.model.blockchain.FinalizedBlock;
 import io.nem.symbol.sdk.model.blockchain.MerklePathItem;
 import io.nem.symbol.sdk.model.blockchain.MerkleProofInfo;
 import io.nem.symbol.sdk.model.blockchain.Position;
 import io.reactivex.Observable;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.Assertions;
@@ -37,6 +42,7 @@ class BlockServiceTest {
 
   private BlockServiceImpl service;
   private BlockRepository blockRepositoryMock;
+  private ChainRepository chainRepositoryMock;
 
   @BeforeEach
   void setup() {
@@ -44,6 +50,10 @@ class BlockServiceTest {
     RepositoryFactory factory = Mockito.mock(RepositoryFactory.class);
     blockRepositoryMock = Mockito.mock(BlockRepository.class);
     Mockito.when(factory.createBlockRepository()).thenReturn(blockRepositoryMock);
+    chainRepositoryMock = Mockito.mock(ChainRepository.class);
+    Mockito.when(factory.createChainRepository()).thenReturn(chainRepositoryMock);
+    Mockito.when(chainRepositoryMock.getChainInfo())
+        .thenReturn(Observable.error(new RuntimeException("Chain info not available")));
 
     service = new BlockServiceImpl(factory);
   }
@@ -162,6 +172,122 @@ class BlockServiceTest {
     Assertions.assertFalse(service.isValidTransactionInBlock(height, leaf).toFuture().get());
   }
 
+  @Test
+  void areValidTransactionsInBlock() throws ExecutionException, InterruptedException {
+
+    BigInteger height = BigInteger.ONE;
+    String root = "d7de53a6ec87b3cb8e0fb4d6d9aa40b96a17a54b7206702229a6517e91d88dcb";
+
+    BlockInfo blockInfo = Mockito.mock(BlockInfo.class);
+    Mockito.when(blockInfo.getBlockTransactionsHash()).thenReturn(root);
+
+    Mockito.when(blockRepositoryMock.getBlockByHeight(height))
+        .thenReturn(Observable.just(blockInfo));
+
+    List<MerklePathItem> merklePath = new ArrayList<>();
+    merklePath.add(new MerklePathItem(Position.LEFT, "11"));
+    merklePath.add(new MerklePathItem(Position.RIGHT, "22"));
+    merklePath.add(new MerklePathItem(Position.LEFT, "33"));
+    merklePath.add(new MerklePathItem(Position.RIGHT, "44"));
+    MerkleProofInfo merkleProofInfo = new MerkleProofInfo(merklePath);
+    Mockito.when(blockRepositoryMock.getMerkleTransaction(height, "1234"))
+        .thenReturn(Observable.just(merkleProofInfo));
+    Mockito.when(blockRepositoryMock.getMerkleTransaction(height, "5678"))
+        .thenReturn(Observable.just(merkleProofInfo));
+    Mockito.when(blockRepositoryMock.getMerkleTransaction(height, "9ABC"))
+        .thenReturn(Observable.error(new RuntimeException("Some Error When getMerkleTransaction")));
+
+    List<Boolean> validity =
+        service
+            .areValidTransactionsInBlock(height, Arrays.asList("5678", "1234", "9ABC"))
+            .toFuture()
+            .get();
+
+    Assertions.assertEquals(Arrays.asList(false, true, false), validity);
+    Mockito.verify(blockRepositoryMock, Mockito.times(1)).getBlockByHeight(height);
+  }
+
+  @Test
+  void areValidTransactionsInBlockOnError() throws ExecutionException, InterruptedException {
+
+    BigInteger height = BigInteger.ONE;
+
+    Mockito.when(blockRepositoryMock.getBlockByHeight(height))
+        .thenReturn(Observable.error(new RuntimeException("Some Error When getting Block")));
+
+    List<Boolean> validity =
+        service.areValidTransactionsInBlock(height, Arrays.asList("1234", "5678")).toFuture().get();
+
+    Assertions.assertEquals(Arrays.asList(false, false), validity);
+    Mockito.verify(blockRepositoryMock, Mockito.never())
+        .getMerkleTransaction(Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  void areValidTransactionsInBlockEmpty() throws ExecutionException, InterruptedException {
+
+    BigInteger height = BigInteger.ONE;
+
+    BlockInfo blockInfo = Mockito.mock(BlockInfo.class);
+    Mockito.when(blockInfo.getBlockTransactionsHash()).thenReturn("ABCD");
+    Mockito.when(blockRepositoryMock.getBlockByHeight(height))
+        .thenReturn(Observable.just(blockInfo));
+
+    Assertions.assertTrue(
+        service
+            .areValidTransactionsInBlock(height, Collections.emptyList())
+            .toFuture()
+            .get()
+            .isEmpty());
+  }
+
+  @Test
+  void areValidTransactionsInBlockDefaultImplementation()
+      throws ExecutionException, InterruptedException {
+
+    BigInteger height = BigInteger.ONE;
+    BlockService blockService = Mockito.mock(BlockService.class, Mockito.CALLS_REAL_METHODS);
+    Mockito.doReturn(Observable.just(true))
+        .when(blockService)
+        .isValidTransactionInBlock(height, "1234");
+    Mockito.doReturn(Observable.just(false))
+        .when(blockService)
+        .isValidTransactionInBlock(height, "5678");
+
+    Assertions.assertEquals(
+        Arrays.asList(false, true, false),
+        blockService
+            .areValidTransactionsInBlock(height, Arrays.asList("5678", "1234", "5678"))
+            .toFuture()
+            .get());
+  }
+
+  @Test
+  void finalizedBlockHeadersAreCachedFromTheChainInfo()
+      throws ExecutionException, InterruptedException {
+
+    BigInteger height = BigInteger.ONE;
+    String leaf = "ABCD";
+
+    ChainInfo chainInfo = Mockito.mock(ChainInfo.class);
+    Mockito.when(chainInfo.getLatestFinalizedBlock())
+        .thenReturn(new FinalizedBlock(1L, 1L, BigInteger.TEN, "AA"));
+    Mockito.when(chainRepositoryMock.getChainInfo()).thenReturn(Observable.just(chainInfo));
+
+    BlockInfo blockInfo = Mockito.mock(BlockInfo.class);
+    Mockito.when(blockInfo.getBlockTransactionsHash()).thenReturn(leaf);
+    Mockito.when(blockRepositoryMock.getBlockByHeight(height))
+        .thenReturn(Observable.just(blockInfo));
+    Mockito.when(blockRepositoryMock.getMerkleTransaction(height, leaf))
+        .thenReturn(Observable.just(new MerkleProofInfo(new ArrayList<>())));
+
+    Assertions.assertTrue(service.isValidTransactionInBlock(height, leaf).toFuture().get());
+    Assertions.assertTrue(service.isValidTransactionInBlock(height, leaf).toFuture().get());
+
+    Mockito.verify(chainRepositoryMock, Mockito.times(1)).getChainInfo();
+    Mockito.verify(blockRepositoryMock, Mockito.times(1)).getBlockByHeight(height);
+  }
+
   @Test
   void isValidStatementInBlockEmtpyNotEquals() throws ExecutionException, InterruptedException {
 
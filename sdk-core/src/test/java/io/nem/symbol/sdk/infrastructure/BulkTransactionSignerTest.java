@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Tests of {@link BulkTransactionSigner}. */
+class BulkTransactionSignerTest {
+
+  private static final String GENERATION_HASH =
+      "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6";
+
+  private final NetworkType networkType = NetworkType.MIJIN_TEST;
+
+  private final Account account = Account.generateNewAccount(networkType);
+
+  private final List<Address> recipients = new ArrayList<>();
+
+  private List<TransferTransaction> transfers(int count) {
+    while (recipients.size() < count) {
+      recipients.add(Address.generateRandom(networkType));
+    }
+    List<TransferTransaction> transactions = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      transactions.add(
+          TransferTransactionFactory.create(
+                  networkType,
+                  new Deadline(BigInteger.TEN),
+                  recipients.get(i),
+                  Collections.emptyList())
+              .message(new PlainMessage("Payout " + i))
+              .maxFee(BigInteger.valueOf(i))
+              .build());
+    }
+    return transactions;
+  }
+
+  @Test
+  void signKeepsTheInputOrder() {
+    List<TransferTransaction> transactions = transfers(101);
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<SignedTransaction> signed =
+          new BulkTransactionSigner(executor).sign(transactions, account, GENERATION_HASH);
+
+      // Signed one by one from equal transactions, the results are not memoized.
+      List<TransferTransaction> expected = transfers(transactions.size());
+      Assertions.assertEquals(transactions.size(), signed.size());
+      for (int i = 0; i < transactions.size(); i++) {
+        SignedTransaction single = expected.get(i).signWith(account, GENERATION_HASH);
+        Assertions.assertEquals(single.getPayload(), signed.get(i).getPayload());
+        Assertions.assertEquals(single.getHash(), signed.get(i).getHash());
+        Assertions.assertEquals(account.getPublicAccount(), signed.get(i).getSigner());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void signEmptyList() {
+    Assertions.assertTrue(
+        new BulkTransactionSigner()
+            .sign(Collections.emptyList(), account, GENERATION_HASH)
+            .isEmpty());
+  }
+
+  @Test
+  void signRethrowsErrors() {
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new BulkTransactionSigner().sign(transfers(3), account, "not a hash"));
+  }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.namespace.NamespaceId;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.receipt.BalanceTransferReceipt;
+import io.nem.symbol.sdk.model.receipt.ReceiptSource;
+import io.nem.symbol.sdk.model.receipt.ReceiptType;
+import io.nem.symbol.sdk.model.receipt.ReceiptVersion;
+import io.nem.symbol.sdk.model.receipt.TransactionStatement;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.PlainMessage;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/** Tests of {@link ColumnarChainWriter} and {@link ColumnarChainReader}. */
+class ColumnarChainWriterTest {
+
+  private final NetworkType networkType = NetworkType.MIJIN_TEST;
+
+  private final Account signer = Account.generateNewAccount(networkType);
+
+  private final Address recipient = Address.generateRandom(networkType);
+
+  private final MosaicId mosaicId = new MosaicId("2BBEA6CC462B2443");
+
+  private final NamespaceId namespaceId = NamespaceId.createFromName("cat.currency");
+
+  private Path file;
+
+  @BeforeEach
+  void setup() throws IOException {
+    file = Files.createTempFile("columnar", ".bin");
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  private BlockInfo block(long height) {
+    BlockInfo block = Mockito.mock(BlockInfo.class);
+    Mockito.when(block.getHeight()).thenReturn(BigInteger.valueOf(height));
+    Mockito.when(block.getTimestamp()).thenReturn(BigInteger.valueOf(1000 + height * 15));
+    Mockito.when(block.getSignerPublicAccount()).thenReturn(signer.getPublicAccount());
+    Mockito.when(block.getTotalFee()).thenReturn(BigInteger.valueOf(height * 2));
+    Mockito.when(block.getTransactionsCount()).thenReturn(1);
+    return block;
+  }
+
+  private TransferTransaction transfer(long height, List<Mosaic> mosaics) {
+    return TransferTransactionFactory.create(
+            networkType, new Deadline(BigInteger.ONE), recipient, mosaics)
+        .message(new PlainMessage("hello"))
+        .maxFee(BigInteger.valueOf(100))
+        .signer(signer.getPublicAccount())
+        .transactionInfo(TransactionInfo.create(BigInteger.valueOf(height), "ABC", "ABC"))
+        .build();
+  }
+
+  @Test
+  void writeAndScan() throws IOException {
+    try (ColumnarChainWriter writer = new ColumnarChainWriter(file, networkType, 2)) {
+      for (long height = 1; height <= 5; height++) {
+        writer.write(block(height));
+      }
+      writer.write(transfer(2, Collections.emptyList()));
+      writer.write(
+          transfer(
+              3,
+              Arrays.asList(
+                  new Mosaic(mosaicId, BigInteger.TEN),
+                  new Mosaic(namespaceId, BigInteger.valueOf(20)))));
+      writer.write(
+          new TransactionStatement(
+              "abc",
+              BigInteger.valueOf(4),
+              new ReceiptSource(1, 0),
+              Collections.singletonList(
+                  new BalanceTransferReceipt(
+                      signer.getAddress(),
+                      recipient,
+                      mosaicId,
+                      BigInteger.valueOf(30),
+                      ReceiptType.MOSAIC_RENTAL_FEE,
+                      ReceiptVersion.BALANCE_TRANSFER))));
+    }
+
+    try (ColumnarChainReader reader = new ColumnarChainReader(file)) {
+      Assertions.assertEquals(networkType, reader.getNetworkType());
+      Assertions.assertEquals(2, reader.getAddressCount());
+      Assertions.assertEquals(2, reader.getMosaicCount());
+
+      int signerId = reader.getAddressId(signer.getAddress());
+      int recipientId = reader.getAddressId(recipient);
+      Assertions.assertEquals(signer.getAddress(), reader.getAddress(signerId));
+      Assertions.assertEquals(recipient, reader.getAddress(recipientId));
+      Assertions.assertEquals(0, reader.getAddressId(Address.generateRandom(networkType)));
+
+      List<Long> heights = new ArrayList<>();
+      reader.scan(
+          ColumnarChainTable.BLOCKS,
+          row -> {
+            heights.add(row.getHeight());
+            Assertions.assertEquals(1000 + row.getHeight() * 15, row.getTimestamp());
+            Assertions.assertEquals(signerId, row.getSignerId());
+            Assertions.assertEquals(row.getHeight() * 2, row.getFee());
+            Assertions.assertEquals(1, row.getTransactionsCount());
+          });
+      Assertions.assertEquals(Arrays.asList(1L, 2L, 3L, 4L, 5L), heights);
+
+      List<String> transactions = new ArrayList<>();
+      reader.scan(
+          ColumnarChainTable.TRANSACTIONS,
+          row -> {
+            Assertions.assertEquals(TransactionType.TRANSFER.getValue(), row.getType());
+            Assertions.assertEquals(signerId, row.getSignerId());
+            Assertions.assertEquals(recipientId, row.getRecipientId());
+            Assertions.assertEquals(100, row.getFee());
+            String mosaic =
+                row.getMosaicId() == 0 ? "-" : reader.getMosaicId(row.getMosaicId()).getIdAsHex();
+            transactions.add(row.getHeight() + ":" + mosaic + ":" + row.getAmount());
+          });
+      Assertions.assertEquals(
+          Arrays.asList(
+              "2:-:0",
+              "3:" + mosaicId.getIdAsHex() + ":10",
+              "3:" + namespaceId.getIdAsHex() + ":20"),
+          transactions);
+
+      List<Long> amounts = new ArrayList<>();
+      reader.scan(
+          ColumnarChainTable.RECEIPTS,
+          row -> {
+            Assertions.assertEquals(4, row.getHeight());
+            Assertions.assertEquals(ReceiptType.MOSAIC_RENTAL_FEE.getValue(), row.getType());
+            Assertions.assertEquals(signerId, row.getSignerId());
+            Assertions.assertEquals(recipientId, row.getRecipientId());
+            Assertions.assertEquals(mosaicId, reader.getMosaicId(row.getMosaicId()));
+            amounts.add(row.getAmount());
+          });
+      Assertions.assertEquals(Collections.singletonList(30L), amounts);
+    }
+  }
+
+  @Test
+  void invalidFile() throws IOException {
+    Files.write(file, new byte[100]);
+    Assertions.assertThrows(IOException.class, () -> new ColumnarChainReader(file).close());
+  }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.Page;
+import io.nem.symbol.sdk.api.ReceiptRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.ResolutionStatementSearchCriteria;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.api.TransactionSearchCriteria;
+import io.nem.symbol.sdk.infrastructure.DepositDetector.Deposit;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.UnresolvedAddress;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.namespace.NamespaceId;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.receipt.AddressResolutionStatement;
+import io.nem.symbol.sdk.model.receipt.ReceiptSource;
+import io.nem.symbol.sdk.model.receipt.ResolutionEntry;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.PlainMessage;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionGroup;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/** Tests of {@link DepositDetector}. */
+class DepositDetectorTest {
+
+  private final NetworkType networkType = NetworkType.MIJIN_TEST;
+
+  private final Account sender = Account.generateNewAccount(networkType);
+
+  private final Address deposit1 = Address.generateRandom(networkType);
+
+  private final Address deposit2 = Address.generateRandom(networkType);
+
+  private final Address deposit3 = Address.generateRandom(networkType);
+
+  private final NamespaceId alias = NamespaceId.createFromName("exchange");
+
+  private final MosaicId mosaicId = new MosaicId("2BBEA6CC462B2443");
+
+  private TransactionRepository transactionRepository;
+
+  private ReceiptRepository receiptRepository;
+
+  private Listener listener;
+
+  private DepositDetector detector;
+
+  @BeforeEach
+  void setup() {
+    RepositoryFactory factory = Mockito.mock(RepositoryFactory.class);
+    transactionRepository = Mockito.mock(TransactionRepository.class);
+    receiptRepository = Mockito.mock(ReceiptRepository.class);
+    listener = Mockito.mock(Listener.class);
+    Mockito.when(factory.createTransactionRepository()).thenReturn(transactionRepository);
+    Mockito.when(factory.createReceiptRepository()).thenReturn(receiptRepository);
+    Mockito.when(transactionRepository.search(Mockito.any()))
+        .thenReturn(Observable.just(new Page<>(Collections.emptyList())));
+    detector = new DepositDetector(factory, listener);
+    detector.watch(Arrays.asList(deposit1, deposit2, deposit3));
+  }
+
+  private Transaction transfer(
+      UnresolvedAddress recipient, long amount, long height, int index, String hash) {
+    return TransferTransactionFactory.create(
+            networkType,
+            new Deadline(BigInteger.ONE),
+            recipient,
+            Collections.singletonList(new Mosaic(mosaicId, BigInteger.valueOf(amount))))
+        .message(new PlainMessage("deposit"))
+        .signer(sender.getPublicAccount())
+        .transactionInfo(
+            TransactionInfo.create(BigInteger.valueOf(height), index, "id" + index, hash, hash))
+        .build();
+  }
+
+  private void mockBlock(long height, Transaction... transactions) {
+    Mockito.when(
+            transactionRepository.search(
+                Mockito.eq(
+                    new TransactionSearchCriteria(TransactionGroup.CONFIRMED)
+                        .height(BigInteger.valueOf(height))
+                        .embedded(true)
+                        .pageNumber(1))))
+        .thenReturn(Observable.just(new Page<>(Arrays.asList(transactions))));
+  }
+
+  private BlockInfo block(long height) {
+    BlockInfo block = Mockito.mock(BlockInfo.class);
+    Mockito.when(block.getHeight()).thenReturn(BigInteger.valueOf(height));
+    return block;
+  }
+
+  @Test
+  void detectDirectAliasAndAggregateTransfers() throws ExecutionException, InterruptedException {
+    Transaction direct = transfer(deposit1, 10, 5, 0, "AA");
+    Transaction other = transfer(Address.generateRandom(networkType), 20, 5, 1, "BB");
+    Transaction aliased = transfer(alias, 30, 5, 2, "CC");
+    Transaction aggregate =
+        AggregateTransactionFactory.createComplete(
+                networkType, new Deadline(BigInteger.ONE), Collections.emptyList())
+            .signer(sender.getPublicAccount())
+            .transactionInfo(TransactionInfo.create(BigInteger.valueOf(5), 3, "agg", "DD", "DD"))
+            .build();
+    Transaction inner =
+        TransferTransactionFactory.create(
+                networkType,
+                new Deadline(BigInteger.ONE),
+                deposit3,
+                Collections.singletonList(new Mosaic(mosaicId, BigInteger.valueOf(40))))
+            .signer(sender.getPublicAccount())
+            .transactionInfo(
+                TransactionInfo.createAggregate(BigInteger.valueOf(5), 0, "inner", "DD", "agg"))
+            .build();
+    mockBlock(5, direct, other, aliased, aggregate, inner);
+    Mockito.when(
+            receiptRepository.searchAddressResolutionStatements(
+                Mockito.eq(new ResolutionStatementSearchCriteria().height(BigInteger.valueOf(5)))))
+        .thenReturn(
+            Observable.just(
+                new Page<>(
+                    Collections.singletonList(
+                        new AddressResolutionStatement(
+                            "abc",
+                            BigInteger.valueOf(5),
+                            alias,
+                            Collections.singletonList(
+                                ResolutionEntry.forAddress(deposit2, new ReceiptSource(3, 0))))))));
+
+    List<Deposit> deposits = detector.detect(BigInteger.valueOf(5)).toList().toFuture().get();
+
+    Assertions.assertEquals(
+        Arrays.asList(deposit1, deposit2, deposit3),
+        deposits.stream().map(Deposit::getRecipient).collect(Collectors.toList()));
+    Assertions.assertEquals(
+        Arrays.asList("AA", "CC", "DD"),
+        deposits.stream().map(Deposit::getHash).collect(Collectors.toList()));
+    Assertions.assertEquals(
+        BigInteger.valueOf(40), deposits.get(2).getMosaics().get(0).getAmount());
+    Assertions.assertEquals(1, deposits.get(0).getConfirmations());
+  }
+
+  @Test
+  void noResolutionRequestWithoutAliases() throws ExecutionException, InterruptedException {
+    mockBlock(5, transfer(deposit1, 10, 5, 0, "AA"));
+
+    List<Deposit> deposits = detector.detect(BigInteger.valueOf(5)).toList().toFuture().get();
+
+    Assertions.assertEquals(1, deposits.size());
+    Mockito.verify(receiptRepository, Mockito.never())
+        .searchAddressResolutionStatements(Mockito.any());
+  }
+
+  @Test
+  void unwatchedAddress() throws ExecutionException, InterruptedException {
+    mockBlock(5, transfer(deposit1, 10, 5, 0, "AA"));
+    detector.unwatch(Collections.singletonList(deposit1));
+
+    Assertions.assertFalse(detector.isWatched(deposit1));
+    Assertions.assertEquals(2, detector.getWatchedCount());
+    List<Deposit> deposits = detector.detect(BigInteger.valueOf(5)).toList().toFuture().get();
+    Assertions.assertTrue(deposits.isEmpty());
+  }
+
+  @Test
+  void depositsWithConfirmations() throws ExecutionException, InterruptedException {
+    mockBlock(5, transfer(deposit1, 10, 5, 0, "AA"));
+    mockBlock(7, transfer(deposit2, 20, 7, 0, "BB"));
+    List<BlockInfo> blocks = Arrays.asList(block(4), block(5), block(7), block(8));
+    Mockito.when(listener.newBlock()).thenReturn(Observable.fromIterable(blocks));
+
+    List<Deposit> deposits = detector.deposits(3).toList().toFuture().get();
+
+    // Block 6 was skipped by the listener, height 5 gets 3 confirmations with block 7.
+    Assertions.assertEquals(1, deposits.size());
+    Assertions.assertEquals(deposit1, deposits.get(0).getRecipient());
+    Assertions.assertEquals(3, deposits.get(0).getConfirmations());
+    Mockito.verify(transactionRepository)
+        .search(
+            Mockito.eq(
+                new TransactionSearchCriteria(TransactionGroup.CONFIRMED)
+                    .height(BigInteger.valueOf(6))
+                    .embedded(true)
+                    .pageNumber(1)));
+  }
+
+  @Test
+  void rollbackDropsPendingDeposits() throws ExecutionException, InterruptedException {
+    TransactionSearchCriteria criteria =
+        new TransactionSearchCriteria(TransactionGroup.CONFIRMED)
+            .height(BigInteger.valueOf(5))
+            .embedded(true)
+            .pageNumber(1);
+    Mockito.when(transactionRepository.search(Mockito.eq(criteria)))
+        .thenReturn(
+            Observable.just(
+                new Page<>(Collections.singletonList(transfer(deposit1, 10, 5, 0, "AA")))),
+            Observable.just(new Page<>(Collections.emptyList())));
+    List<BlockInfo> blocks = Arrays.asList(block(5), block(5), block(6));
+    Mockito.when(listener.newBlock()).thenReturn(Observable.fromIterable(blocks));
+
+    // The second block 5 replaces the first one, which had the deposit.
+    Assertions.assertTrue(detector.deposits(2).toList().toFuture().get().isEmpty());
+  }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.BlockRepository;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.blockchain.BlockType;
+import io.nem.symbol.sdk.model.blockchain.FinalizedBlock;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.PlainMessage;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionGroup;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import io.reactivex.Observable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/** Tests of {@link LocalChainStore} and the local store repositories. */
+class LocalChainStoreTest {
+
+  private final NetworkType networkType = NetworkType.MIJIN_TEST;
+
+  private final Account signer = Account.generateNewAccount(networkType);
+
+  private final Address recipient = Address.generateRandom(networkType);
+
+  private Path directory;
+
+  @BeforeEach
+  void setup() throws IOException {
+    directory = Files.createTempDirectory("store");
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    FileUtils.deleteDirectory(directory.toFile());
+  }
+
+  private BlockInfo block(long height) {
+    String hash = String.format("%064X", height);
+    return new BlockInfo(
+        "id" + height,
+        10L,
+        hash,
+        "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6",
+        BigInteger.valueOf(height * 3),
+        Arrays.asList("AA", "BB"),
+        1,
+        2,
+        3,
+        Collections.emptyList(),
+        "CC",
+        signer.getPublicAccount(),
+        networkType,
+        1,
+        BlockType.NORMAL_BLOCK,
+        BigInteger.valueOf(height),
+        BigInteger.valueOf(height * 15000),
+        BigInteger.valueOf(276447232L),
+        100L,
+        String.format("%064X", height - 1),
+        "702090BA31CEF9E90C62BBDECC0CCCC0F88192B6625839382850357F70DD68A0",
+        "702090BA31CEF9E90C62BBDECC0CCCC0F88192B6625839382850357F70DD68A0",
+        "702090BA31CEF9E90C62BBDECC0CCCC0F88192B6625839382850357F70DD68A0",
+        "gamma",
+        "scalar",
+        "verificationHash",
+        recipient);
+  }
+
+  private TransferTransaction transfer(long height, String hash) {
+    return TransferTransactionFactory.create(
+            networkType,
+            new Deadline(BigInteger.ONE),
+            recipient,
+            Collections.singletonList(new Mosaic(new MosaicId("2BBEA6CC462B2443"), BigInteger.TEN)))
+        .message(new PlainMessage("hello"))
+        .maxFee(BigInteger.valueOf(100))
+        .signer(signer.getPublicAccount())
+        .transactionInfo(TransactionInfo.create(BigInteger.valueOf(height), 0, "id", hash, hash))
+        .build();
+  }
+
+  private static String hash(int value) {
+    return String.format("%064X", value);
+  }
+
+  @Test
+  void onlyFinalizedDataIsStored() throws IOException {
+    try (LocalChainStore store = new LocalChainStore(directory)) {
+      Assertions.assertFalse(store.putBlock(block(1)));
+      Assertions.assertFalse(store.putTransaction(transfer(1, hash(1))));
+
+      store.finalized(new FinalizedBlock(1L, 1L, BigInteger.ONE, hash(1)));
+
+      Assertions.assertTrue(store.putBlock(block(1)));
+      Assertions.assertFalse(store.putBlock(block(1)));
+      Assertions.assertFalse(store.putBlock(block(2)));
+      Assertions.assertTrue(store.putTransaction(transfer(1, hash(10))));
+      Assertions.assertFalse(store.putTransaction(transfer(1, hash(10))));
+      Assertions.assertEquals(1, store.getBlockCount());
+      Assertions.assertEquals(1, store.getTransactionCount());
+    }
+  }
+
+  @Test
+  void reopenRebuildsIndex() throws IOException {
+    try (LocalChainStore store = new LocalChainStore(directory, 1024)) {
+      store.finalized(new FinalizedBlock(1L, 1L, BigInteger.TEN, hash(10)));
+      for (int height = 1; height <= 10; height++) {
+        Assertions.assertTrue(store.putBlock(block(height)));
+        Assertions.assertTrue(store.putTransaction(transfer(height, hash(100 + height))));
+      }
+    }
+
+    try (LocalChainStore store = new LocalChainStore(directory, 1024)) {
+      Assertions.assertEquals(BigInteger.TEN, store.getFinalizedHeight());
+      Assertions.assertEquals(10, store.getBlockCount());
+      Assertions.assertEquals(10, store.getTransactionCount());
+
+      BlockInfo expected = block(7);
+      BlockInfo block = store.getBlockByHeight(BigInteger.valueOf(7)).get();
+      Assertions.assertEquals(expected.getHash(), block.getHash());
+      Assertions.assertEquals(expected.getHeight(), block.getHeight());
+      Assertions.assertEquals(expected.getTimestamp(), block.getTimestamp());
+      Assertions.assertEquals(expected.getTotalFee(), block.getTotalFee());
+      Assertions.assertEquals(expected.getSignerPublicAccount(), block.getSignerPublicAccount());
+      Assertions.assertEquals(expected.getBeneficiaryAddress(), block.getBeneficiaryAddress());
+      Assertions.assertEquals(
+          expected.getStateHashSubCacheMerkleRoots(), block.getStateHashSubCacheMerkleRoots());
+      Assertions.assertEquals(expected.getRecordId(), block.getRecordId());
+      Assertions.assertEquals(
+          block.getHash(), store.getBlockByHash(expected.getHash().toLowerCase()).get().getHash());
+
+      TransferTransaction transaction = (TransferTransaction) store.getTransaction(hash(107)).get();
+      Assertions.assertEquals(recipient, transaction.getRecipient());
+      Assertions.assertEquals(signer.getPublicAccount(), transaction.getSigner().get());
+      Assertions.assertEquals(TransactionGroup.CONFIRMED, transaction.getGroup().get());
+      Assertions.assertEquals(
+          BigInteger.valueOf(7), transaction.getTransactionInfo().get().getHeight());
+      Assertions.assertEquals(1, store.getTransactions(BigInteger.valueOf(7)).size());
+      Assertions.assertFalse(store.getTransaction(hash(1)).isPresent());
+
+      Assertions.assertTrue(Files.list(directory).count() > 1);
+    }
+  }
+
+  @Test
+  void truncatedRecordIsDiscarded() throws IOException {
+    try (LocalChainStore store = new LocalChainStore(directory)) {
+      store.finalized(new FinalizedBlock(1L, 1L, BigInteger.TEN, hash(10)));
+      store.putBlock(block(1));
+      store.putBlock(block(2));
+    }
+    Path segment = Files.list(directory).findFirst().get();
+    byte[] content = Files.readAllBytes(segment);
+    Files.write(segment, Arrays.copyOf(content, content.length - 10));
+
+    try (LocalChainStore store = new LocalChainStore(directory)) {
+      Assertions.assertEquals(1, store.getBlockCount());
+      Assertions.assertEquals(BigInteger.ONE, store.getFinalizedHeight());
+      store.finalized(new FinalizedBlock(1L, 1L, BigInteger.TEN, hash(10)));
+      Assertions.assertTrue(store.putBlock(block(2)));
+      Assertions.assertEquals(
+          block(2).getHash(), store.getBlockByHeight(BigInteger.valueOf(2)).get().getHash());
+    }
+  }
+
+  @Test
+  void blockRepositoryReadsFromStore()
+      throws IOException, ExecutionException, InterruptedException {
+    try (LocalChainStore store = new LocalChainStore(directory)) {
+      store.finalized(new FinalizedBlock(1L, 1L, BigInteger.TEN, hash(10)));
+      BlockRepository remote = Mockito.mock(BlockRepository.class);
+      Mockito.when(remote.getBlockByHeight(BigInteger.ONE)).thenReturn(Observable.just(block(1)));
+      LocalStoreBlockRepository repository = new LocalStoreBlockRepository(remote, store);
+
+      repository.getBlockByHeight(BigInteger.ONE).toFuture().get();
+      BlockInfo block = repository.getBlockByHeight(BigInteger.ONE).toFuture().get();
+
+      Assertions.assertEquals(block(1).getHash(), block.getHash());
+      Mockito.verify(remote, Mockito.times(1)).getBlockByHeight(BigInteger.ONE);
+    }
+  }
+
+  @Test
+  void transactionRepositoryReadsFromStore()
+      throws IOException, ExecutionException, InterruptedException {
+    try (LocalChainStore store = new LocalChainStore(directory)) {
+      store.finalized(new FinalizedBlock(1L, 1L, BigInteger.TEN, hash(10)));
+      store.putTransaction(transfer(1, hash(11)));
+      TransactionRepository remote = Mockito.mock(TransactionRepository.class);
+      Mockito.when(
+              remote.getTransactions(
+                  TransactionGroup.CONFIRMED, Collections.singletonList(hash(12))))
+          .thenReturn(Observable.just(Collections.singletonList(transfer(2, hash(12)))));
+      LocalStoreTransactionRepository repository =
+          new LocalStoreTransactionRepository(remote, store);
+
+      List<Transaction> transactions =
+          repository
+              .getTransactions(TransactionGroup.CONFIRMED, Arrays.asList(hash(12), hash(11)))
+              .toFuture()
+              .get();
+
+      Assertions.assertEquals(2, transactions.size());
+      Assertions.assertEquals(
+          hash(12), transactions.get(0).getTransactionInfo().get().getHash().get());
+      Assertions.assertEquals(
+          hash(11), transactions.get(1).getTransactionInfo().get().getHash().get());
+      Assertions.assertTrue(store.getTransaction(hash(12)).isPresent());
+      Assertions.assertEquals(
+          hash(11),
+          repository
+              .getTransaction(TransactionGroup.CONFIRMED, hash(11))
+              .toFuture()
+              .get()
+              .getTransactionInfo()
+              .get()
+              .getHash()
+              .get());
+    }
+  }
+}
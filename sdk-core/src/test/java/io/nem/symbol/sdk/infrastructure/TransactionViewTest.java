@@ -0,0 +1,164 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.namespace.NamespaceId;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.Deadline;
+import io.nem.symbol.sdk.model.transaction.NamespaceRegistrationTransactionFactory;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionType;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/** Tests of {@link TransactionView} and its subclasses. */
+class TransactionViewTest {
+
+  private static final String GENERATION_HASH =
+      "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6";
+
+  private final NetworkType networkType = NetworkType.MIJIN_TEST;
+
+  private final Account account = Account.generateNewAccount(networkType);
+
+  private final Address recipient = Address.generateRandom(networkType);
+
+  private TransferTransaction transfer() {
+    return TransferTransactionFactory.create(
+            networkType,
+            new Deadline(BigInteger.TEN),
+            recipient,
+            Arrays.asList(
+                new Mosaic(new MosaicId("7CDF3B117A3C40CC"), BigInteger.valueOf(100)),
+                new Mosaic(new MosaicId("2BBEA6CC462B2443"), BigInteger.valueOf(200))))
+        .message(new PlainMessage("Some Message"))
+        .maxFee(BigInteger.valueOf(1000))
+        .build();
+  }
+
+  private ByteBuffer withPrefix(byte[] payload, int prefix) {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(prefix + payload.length);
+    buffer.position(prefix);
+    buffer.put(payload);
+    buffer.clear();
+    return buffer;
+  }
+
+  @Test
+  void transferView() {
+    TransferTransaction transaction = transfer();
+    byte[] payload =
+        ConvertUtils.getBytes(transaction.signWith(account, GENERATION_HASH).getPayload());
+    ByteBuffer buffer = withPrefix(payload, 7);
+
+    TransferTransactionView view = new TransferTransactionView().wrap(buffer, 7);
+
+    Assertions.assertEquals(payload.length, view.getSize());
+    Assertions.assertEquals(TransactionType.TRANSFER, view.getType());
+    Assertions.assertEquals(1, view.getVersion());
+    Assertions.assertEquals(networkType, view.getNetworkType());
+    Assertions.assertEquals(1000, view.getMaxFee());
+    Assertions.assertEquals(10, view.getDeadline());
+    Assertions.assertEquals(account.getPublicAccount().getPublicKey(), view.getSigner().get());
+    Assertions.assertTrue(view.isSigner(account.getPublicAccount().getPublicKey()));
+    Assertions.assertEquals(
+        ConvertUtils.toHex(payload).substring(16, 144), view.getSignature().get());
+    Assertions.assertEquals(recipient, view.getRecipient());
+    Assertions.assertTrue(view.isRecipient(recipient));
+    Assertions.assertFalse(view.isRecipient(NamespaceId.createFromName("alias")));
+    Assertions.assertEquals(2, view.getMosaicsCount());
+    Assertions.assertEquals(new MosaicId("2BBEA6CC462B2443").getIdAsLong(), view.getMosaicId(0));
+    Assertions.assertEquals(200, view.getMosaicAmount(0));
+    Assertions.assertEquals(100, view.getMosaicAmount(1));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> view.getMosaicId(2));
+    Assertions.assertEquals("Some Message", view.getMessage().get().getText());
+    Assertions.assertEquals(
+        ConvertUtils.toHex(payload),
+        ConvertUtils.toHex(BinarySerializationImpl.INSTANCE.serialize(view.toTransaction())));
+    Assertions.assertEquals(0, buffer.position());
+  }
+
+  @Test
+  void unsignedTransactionView() {
+    byte[] payload = BinarySerializationImpl.INSTANCE.serialize(transfer());
+    TransactionView view = new TransactionView().wrap(ByteBuffer.wrap(payload), 0);
+
+    Assertions.assertFalse(view.getSignature().isPresent());
+    Assertions.assertFalse(view.getSigner().isPresent());
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new AggregateTransactionView().wrap(ByteBuffer.wrap(payload), 0));
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> view.wrap(ByteBuffer.wrap(payload), 1));
+  }
+
+  @Test
+  void aggregateView() {
+    Transaction namespace =
+        NamespaceRegistrationTransactionFactory.createRootNamespace(
+                networkType, new Deadline(BigInteger.ONE), "somename", BigInteger.TEN)
+            .build();
+    AggregateTransaction aggregate =
+        AggregateTransactionFactory.createComplete(
+                networkType,
+                new Deadline(BigInteger.ONE),
+                Arrays.asList(
+                    transfer().toAggregate(account.getPublicAccount()),
+                    namespace.toAggregate(account.getPublicAccount())))
+            .build();
+    byte[] payload =
+        ConvertUtils.getBytes(aggregate.signWith(account, GENERATION_HASH).getPayload());
+    ByteBuffer buffer = withPrefix(payload, 3);
+
+    AggregateTransactionView view = new AggregateTransactionView().wrap(buffer, 3);
+
+    Assertions.assertEquals(TransactionType.AGGREGATE_COMPLETE, view.getType());
+    Assertions.assertEquals(2, view.getInnerTransactionsCount());
+    Assertions.assertEquals(0, view.getCosignaturesCount());
+    List<TransactionType> types = new ArrayList<>();
+    List<Address> recipients = new ArrayList<>();
+    TransferTransactionView transferView = new TransferTransactionView();
+    view.forEachInnerTransaction(
+        inner -> {
+          Assertions.assertTrue(inner.isEmbedded());
+          Assertions.assertTrue(inner.isSigner(account.getPublicAccount().getPublicKey()));
+          types.add(inner.getType());
+          if (inner.getType() == TransactionType.TRANSFER) {
+            transferView.wrapEmbedded(inner.getSource(), inner.getOffset());
+            recipients.add((Address) transferView.getRecipient());
+            Assertions.assertThrows(IllegalStateException.class, transferView::getMaxFee);
+          }
+        });
+    Assertions.assertEquals(
+        Arrays.asList(TransactionType.TRANSFER, TransactionType.NAMESPACE_REGISTRATION), types);
+    Assertions.assertEquals(Arrays.asList(recipient), recipients);
+  }
+}
@@ -17,9 +17,12 @@ package io.nem.symbol.sdk.model.account;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
+import io.nem.symbol.core.crypto.CryptoEngines;
 import io.nem.symbol.core.crypto.KeyPair;
 import io.nem.symbol.core.crypto.ed25519.Ed25519CryptoEngine;
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.message.PlainMessage;
 import io.nem.symbol.sdk.model.mosaic.Mosaic;
 import io.nem.symbol.sdk.model.mosaic.MosaicId;
@@ -51,6 +54,16 @@ class AccountTest {
     assertEquals("SAEJCCEGA5SMEL65GTVYS6P6V2F5TOPDAOVAC5Q", account.getAddress().plain());
   }
 
+  @Test
+  void shouldReuseTheSigner() {
+    Account account = Account.generateNewAccount(NetworkType.MIJIN_TEST);
+    byte[] data = ConvertUtils.fromHexToBytes(generationHash);
+    assertSame(account.getSigner(), account.getSigner());
+    assertEquals(
+        account.getSigner().sign(data),
+        CryptoEngines.defaultEngine().createDsaSigner(account.getKeyPair()).sign(data));
+  }
+
   @Test
   void shouldCreateAccountViaStaticConstructor() {
     Account account =
@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.nem.symbol.core.crypto.PublicKey;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import java.util.Arrays;
 import java.util.stream.Stream;
@@ -238,6 +239,19 @@ class AddressTest {
             .getMessage());
   }
 
+  @ParameterizedTest
+  @EnumSource(NetworkType.class)
+  void createFromPublicKeyBytesEqualsCreateFromHex(NetworkType networkType) {
+    for (int i = 0; i < 10; i++) {
+      PublicKey publicKey = PublicKey.generateRandom();
+      Address address = Address.createFromPublicKey(publicKey, networkType);
+      assertEquals(Address.createFromPublicKey(publicKey.toHex(), networkType), address);
+      assertEquals(networkType, address.getNetworkType());
+      assertEquals(
+          address, new PublicAccount(publicKey, networkType).getAddress(), "public account");
+    }
+  }
+
   @ParameterizedTest
   @MethodSource("provider")
   void tesNetworkTypeFromRawAddress(Address paramAddress, NetworkType input) {
@@ -80,4 +80,10 @@ public class NetworkTypeTest {
         assertThrows(IllegalArgumentException.class, () -> NetworkType.rawValueOf(10))
             .getMessage());
   }
+
+  @Test
+  void rawValueOfOutOfRangeValue() {
+    assertThrows(IllegalArgumentException.class, () -> NetworkType.rawValueOf(-1));
+    assertThrows(IllegalArgumentException.class, () -> NetworkType.rawValueOf(256));
+  }
 }
@@ -19,6 +19,7 @@ import io.nem.symbol.catapult.builders.ReceiptTypeDto;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class ReceiptTypeTest {
 
@@ -41,4 +42,19 @@ class ReceiptTypeTest {
         ReceiptTypeDto.rawValueOf(enumTypeDto.getValue()),
         enumTypeDto.getValue() + " not found. ReceiptType " + enumTypeDto.getValue());
   }
+
+  @ParameterizedTest
+  @EnumSource(ReceiptType.class)
+  void rawValueOfValue(ReceiptType receiptType) {
+    Assertions.assertEquals(receiptType, ReceiptType.rawValueOf(receiptType.getValue()));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {-1, 0, 4684, 8516, 16716, 62020})
+  void rawValueOfInvalidValue(int value) {
+    Assertions.assertEquals(
+        value + " is not a valid value",
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ReceiptType.rawValueOf(value))
+            .getMessage());
+  }
 }
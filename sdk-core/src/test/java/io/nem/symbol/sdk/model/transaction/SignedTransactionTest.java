@@ -15,7 +15,9 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.network.NetworkType;
@@ -35,4 +37,19 @@ public class SignedTransactionTest {
     assertEquals(TransactionType.TRANSFER, signedTransaction.getType());
     assertEquals(signer.getPublicAccount(), signedTransaction.getSigner());
   }
+
+  @Test
+  void createASignedTransactionFromBytes() {
+    Account signer = Account.generateNewAccount(NetworkType.MIJIN_TEST);
+    byte[] payload = new byte[] {1, 2, (byte) 0xAB};
+    SignedTransaction signedTransaction =
+        new SignedTransaction(signer.getPublicAccount(), payload, "hash", TransactionType.TRANSFER);
+
+    assertSame(payload, signedTransaction.getPayloadBytes());
+    assertEquals("0102AB", signedTransaction.getPayload());
+    assertArrayEquals(
+        payload,
+        new SignedTransaction(signer.getPublicAccount(), "0102AB", "hash", TransactionType.TRANSFER)
+            .getPayloadBytes());
+  }
 }
@@ -15,15 +15,21 @@
  */
 package io.nem.symbol.sdk.model.transaction;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.PublicAccount;
 import io.nem.symbol.sdk.model.message.PlainMessage;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Collections;
 import org.junit.jupiter.api.Test;
 
@@ -136,4 +142,34 @@ public class TransactionTest {
 
     assertTrue(fakeTransaction.hasMissingSignatures());
   }
+
+  @Test
+  void serializationResultsAreMemoized() {
+    TransferTransaction transaction =
+        TransferTransactionFactory.create(
+                networkType,
+                deadline,
+                new Address("SDZWZJUAYNOWGBTCUDBY3SE5JF4NCC2RDM6SIGQ", networkType),
+                Collections.emptyList())
+            .message(new PlainMessage("memo"))
+            .build();
+    Account account = Account.generateNewAccount(networkType);
+
+    byte[] bytes = transaction.serialize();
+    bytes[0] = 0;
+    assertArrayEquals(transaction.serialize(), transaction.serialize());
+    assertNotSame(transaction.serialize(), transaction.serialize());
+    assertNotEquals(0, transaction.serialize()[0]);
+    assertEquals(transaction.serialize().length, transaction.getSize());
+
+    SignedTransaction signed = transaction.signWith(account, generationHash);
+    assertSame(signed, transaction.signWith(account, generationHash));
+    assertNotSame(
+        signed, transaction.signWith(Account.generateNewAccount(networkType), generationHash));
+
+    byte[] embedded = transaction.toAggregate(signer).serializeEmbedded();
+    byte[] otherEmbedded = transaction.toAggregate(account.getPublicAccount()).serializeEmbedded();
+    assertFalse(Arrays.equals(embedded, otherEmbedded));
+    assertArrayEquals(otherEmbedded, transaction.serializeEmbedded());
+  }
 }
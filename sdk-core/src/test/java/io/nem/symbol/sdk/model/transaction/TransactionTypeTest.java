@@ -16,12 +16,14 @@
 package io.nem.symbol.sdk.model.transaction;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import io.nem.symbol.catapult.builders.EntityTypeDto;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class TransactionTypeTest {
 
@@ -181,4 +183,19 @@ class TransactionTypeTest {
         TransactionType.rawValueOf(enumTypeDto.getValue()),
         enumTypeDto.getValue() + " not found. Transaction " + enumTypeDto.getValue());
   }
+
+  @ParameterizedTest
+  @EnumSource(TransactionType.class)
+  void rawValueOfValue(TransactionType transactionType) {
+    assertEquals(transactionType, TransactionType.rawValueOf(transactionType.getValue()));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {-1, 0, 16704, 16706, 17233, 65535})
+  void rawValueOfInvalidValue(int value) {
+    assertEquals(
+        value + " is not a valid value",
+        assertThrows(IllegalArgumentException.class, () -> TransactionType.rawValueOf(value))
+            .getMessage());
+  }
 }
@@ -20,11 +20,9 @@ import io.nem.symbol.sdk.model.transaction.JsonHelper;
 import io.nem.symbol.sdk.model.transaction.Transaction;
 import io.nem.symbol.sdk.model.transaction.TransactionFactory;
 import io.nem.symbol.sdk.model.transaction.TransactionType;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.lang3.exception.ExceptionUtils;
-import org.apache.commons.lang3.tuple.Pair;
 
 /**
  * Entry point for the transaction mapping. This mapper should support all the known transactions.
@@ -36,8 +34,9 @@ public class GeneralTransactionMapper implements TransactionMapper {
 
   private final JsonHelper jsonHelper;
 
-  private final Map<Pair<TransactionType, Integer>, TransactionMapper> transactionMappers =
-      new HashMap<>();
+  /** The mappers indexed by {@link TransactionType} ordinal and version. */
+  private final TransactionMapper[][] transactionMappers =
+      new TransactionMapper[TransactionType.values().length][0];
 
   public GeneralTransactionMapper(JsonHelper jsonHelper) {
     this.jsonHelper = jsonHelper;
@@ -69,8 +68,13 @@ public class GeneralTransactionMapper implements TransactionMapper {
   }
 
   private void register(TransactionMapper mapper) {
-    if (transactionMappers.put(Pair.of(mapper.getTransactionType(), mapper.getVersion()), mapper)
-        != null) {
+    int type = mapper.getTransactionType().ordinal();
+    int version = mapper.getVersion();
+    Validate.isTrue(version >= 0, "Invalid version " + version);
+    if (transactionMappers[type].length <= version) {
+      transactionMappers[type] = Arrays.copyOf(transactionMappers[type], version + 1);
+    }
+    if (transactionMappers[type][version] != null) {
       throw new IllegalArgumentException(
           "TransactionMapper for type "
               + mapper.getTransactionType()
@@ -78,6 +82,7 @@ public class GeneralTransactionMapper implements TransactionMapper {
               + mapper.getVersion()
               + " was already registered!");
     }
+    transactionMappers[type][version] = mapper;
   }
 
   @Override
@@ -129,7 +134,8 @@ public class GeneralTransactionMapper implements TransactionMapper {
   }
 
   private TransactionMapper resolveMapper(TransactionType transactionType, int version) {
-    TransactionMapper mapper = transactionMappers.get(Pair.of(transactionType, version));
+    TransactionMapper[] versions = transactionMappers[transactionType.ordinal()];
+    TransactionMapper mapper = version >= 0 && version < versions.length ? versions[version] : null;
     if (mapper == null) {
       throw new UnsupportedOperationException(
           "Unimplemented Transaction type " + transactionType + " version " + version);